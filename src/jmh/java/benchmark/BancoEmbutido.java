@@ -0,0 +1,150 @@
+package benchmark;
+
+import util.Conexao;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Banco H2 em memória, em modo de compatibilidade com MySQL, populado para os benchmarks.
+ * Cada fork do JMH cria o próprio banco; o esquema é criado pelas migrações de {@link util.Esquema}.
+ * A tabela funcionario tem no máximo 1000 linhas, pois a matrícula (F seguido de três
+ * dígitos) é única; as tabelas pessoa e projeto recebem a quantidade de linhas do parâmetro.
+ */
+@State(Scope.Benchmark)
+public class BancoEmbutido {
+    // Propriedades da JVM de cada fork: banco H2, migrações e pool dimensionado para os testes com threads
+    static final String URL_H2 = "-Dempresa.db.url=jdbc:h2:mem:empresa;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String MIGRAR = "-Dempresa.esquema.migrar=true";
+    static final String POOL = "-Dempresa.pool.maximo=32";
+
+    // Funcionarios criados na carga inicial
+    static final int FUNCIONARIOS = 900;
+    // Matrículas livres (F900 a F999) usadas pelos benchmarks de inserção e exclusão
+    static final int MATRICULAS = 1000;
+
+    // Quantidade de pessoas e de projetos carregados
+    @Param({"10000", "100000", "1000000"})
+    public int linhas;
+
+    // Posições livres para criar e excluir funcionários (pessoa id = posição + 1, matrícula = F + posição)
+    private final ConcurrentLinkedQueue<Integer> livres = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Cria o esquema e carrega as tabelas com JDBC em lote.
+     *
+     * @throws SQLException se ocorrer um erro na carga
+     */
+    @Setup(Level.Trial)
+    public void carregar() throws SQLException {
+        try (Connection conn = Conexao.getConexao()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO pessoa (nome, email) VALUES (?, ?)")) {
+                for (int i = 1; i <= linhas; i++) {
+                    stmt.setString(1, "Pessoa " + i);
+                    stmt.setString(2, "pessoa" + i + "@empresa.com");
+                    stmt.addBatch();
+                    if (i % 1000 == 0) {
+                        stmt.executeBatch();
+                    }
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO funcionario (id, matricula, departamento) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < FUNCIONARIOS; i++) {
+                    stmt.setInt(1, i + 1);
+                    stmt.setString(2, matricula(i));
+                    stmt.setString(3, "Departamento " + (i % 20));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO projeto (nome, descricao, id_funcionario) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= linhas; i++) {
+                    stmt.setString(1, "Projeto " + i);
+                    stmt.setString(2, "Descrição do projeto " + i);
+                    stmt.setInt(3, (i % FUNCIONARIOS) + 1);
+                    stmt.addBatch();
+                    if (i % 1000 == 0) {
+                        stmt.executeBatch();
+                    }
+                }
+                stmt.executeBatch();
+            }
+            conn.commit();
+        }
+        for (int i = FUNCIONARIOS; i < MATRICULAS; i++) {
+            livres.add(i);
+        }
+    }
+
+    /**
+     * Fecha o pool de conexões ao final do fork.
+     *
+     * @throws SQLException se ocorrer um erro ao fechar
+     */
+    @TearDown(Level.Trial)
+    public void fechar() throws SQLException {
+        Conexao.fecharConexao();
+    }
+
+    /**
+     * Sorteia o ID de uma pessoa ou projeto da carga inicial.
+     *
+     * @return ID entre 1 e a quantidade de linhas
+     */
+    int idAleatorio() {
+        return ThreadLocalRandom.current().nextInt(linhas) + 1;
+    }
+
+    /**
+     * Sorteia o ID de um funcionário da carga inicial.
+     *
+     * @return ID entre 1 e {@link #FUNCIONARIOS}
+     */
+    int idFuncionarioAleatorio() {
+        return ThreadLocalRandom.current().nextInt(FUNCIONARIOS) + 1;
+    }
+
+    /**
+     * Reserva uma posição livre para criar um funcionário.
+     *
+     * @return a posição reservada
+     */
+    int reservarPosicao() {
+        Integer posicao = livres.poll();
+        if (posicao == null) {
+            throw new IllegalStateException("Sem matrículas livres: reduza a quantidade de threads.");
+        }
+        return posicao;
+    }
+
+    /**
+     * Devolve uma posição livre.
+     *
+     * @param posicao a posição a devolver
+     */
+    void liberarPosicao(int posicao) {
+        livres.add(posicao);
+    }
+
+    /**
+     * Monta a matrícula de uma posição.
+     *
+     * @param posicao posição entre 0 e 999
+     * @return matrícula no formato F seguido de três dígitos
+     */
+    static String matricula(int posicao) {
+        return String.format("F%03d", posicao);
+    }
+}
@@ -0,0 +1,38 @@
+package benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks dos DAOs e grava o resultado em JSON, para comparação entre execuções no CI.
+ * Uso: {@code ExecutarBenchmarks [threads] [arquivo.json] [linhas...]}
+ * (padrão: 1 thread, jmh-resultado-t1.json e todas as quantidades de linhas).
+ */
+public class ExecutarBenchmarks {
+    /**
+     * Método principal que executa os benchmarks.
+     *
+     * @param args quantidade de threads, arquivo de saída e quantidades de linhas opcionais
+     * @throws RunnerException se ocorrer um erro na execução do JMH
+     */
+    public static void main(String[] args) throws RunnerException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        String arquivo = args.length > 1 ? args[1] : "jmh-resultado-t" + threads + ".json";
+
+        OptionsBuilder opcoes = new OptionsBuilder();
+        opcoes.include("benchmark\\..*DaoBenchmark")
+              .threads(threads)
+              .resultFormat(ResultFormatType.JSON)
+              .result(arquivo);
+        if (args.length > 2) {
+            String[] linhas = new String[args.length - 2];
+            System.arraycopy(args, 2, linhas, 0, linhas.length);
+            opcoes.param("linhas", linhas);
+        }
+        Options construidas = opcoes.build();
+        new Runner(construidas).run();
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import classe.Funcionario;
+import dao.FuncionarioDao;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks das operações de {@link FuncionarioDao}.
+ * Inserção e exclusão usam as matrículas livres de {@link BancoEmbutido}, de modo que
+ * cada invocação cria ou remove um funcionário sem esgotar o formato FXXX.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { BancoEmbutido.URL_H2, BancoEmbutido.MIGRAR, BancoEmbutido.POOL })
+public class FuncionarioDaoBenchmark {
+    private final FuncionarioDao dao = new FuncionarioDao();
+
+    /**
+     * Posição livre reservada para o benchmark de inserção; o funcionário é removido após cada invocação.
+     */
+    @State(Scope.Thread)
+    public static class FuncionarioParaInserir {
+        Funcionario funcionario;
+        private int posicao;
+
+        @Setup(Level.Invocation)
+        public void reservar(BancoEmbutido banco) {
+            posicao = banco.reservarPosicao();
+            funcionario = new Funcionario(posicao + 1, "Pessoa " + (posicao + 1), "pessoa" + (posicao + 1) + "@empresa.com",
+                                          BancoEmbutido.matricula(posicao), "Novos");
+        }
+
+        @TearDown(Level.Invocation)
+        public void remover(BancoEmbutido banco) throws SQLException {
+            new FuncionarioDao().excluir(funcionario.getId());
+            banco.liberarPosicao(posicao);
+        }
+    }
+
+    /**
+     * Funcionário criado antes de cada invocação do benchmark de exclusão.
+     */
+    @State(Scope.Thread)
+    public static class FuncionarioParaExcluir {
+        int id;
+        private int posicao;
+
+        @Setup(Level.Invocation)
+        public void criar(BancoEmbutido banco) throws SQLException {
+            posicao = banco.reservarPosicao();
+            id = posicao + 1;
+            new FuncionarioDao().inserir(new Funcionario(id, "Pessoa " + id, "pessoa" + id + "@empresa.com",
+                                                         BancoEmbutido.matricula(posicao), "Excluir"));
+        }
+
+        @TearDown(Level.Invocation)
+        public void liberar(BancoEmbutido banco) {
+            banco.liberarPosicao(posicao);
+        }
+    }
+
+    @Benchmark
+    public void inserir(FuncionarioParaInserir novo) throws SQLException {
+        dao.inserir(novo.funcionario);
+    }
+
+    @Benchmark
+    public void atualizar(BancoEmbutido banco) throws SQLException {
+        int id = banco.idFuncionarioAleatorio();
+        dao.atualizar(new Funcionario(id, "Pessoa " + id, "pessoa" + id + "@empresa.com",
+                                      BancoEmbutido.matricula(id - 1), "Departamento " + ((id - 1) % 20)));
+    }
+
+    @Benchmark
+    public void excluir(FuncionarioParaExcluir funcionario) throws SQLException {
+        dao.excluir(funcionario.id);
+    }
+
+    @Benchmark
+    public Funcionario buscarPorId(BancoEmbutido banco) throws SQLException {
+        return dao.buscarPorId(banco.idFuncionarioAleatorio());
+    }
+
+    @Benchmark
+    public void listar(BancoEmbutido banco, Blackhole bh) throws SQLException {
+        bh.consume(dao.listar());
+    }
+}
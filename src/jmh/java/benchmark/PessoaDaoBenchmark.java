@@ -0,0 +1,74 @@
+package benchmark;
+
+import classe.Pessoa;
+import dao.PessoaDao;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks das operações de {@link PessoaDao}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { BancoEmbutido.URL_H2, BancoEmbutido.MIGRAR, BancoEmbutido.POOL })
+public class PessoaDaoBenchmark {
+    private final PessoaDao dao = new PessoaDao();
+
+    /**
+     * Pessoa criada antes de cada invocação do benchmark de exclusão.
+     */
+    @State(Scope.Thread)
+    public static class PessoaParaExcluir {
+        int id;
+
+        @Setup(Level.Invocation)
+        public void criar(BancoEmbutido banco) throws SQLException {
+            Pessoa pessoa = new Pessoa(0, "Excluir", "excluir@empresa.com");
+            new PessoaDao().inserir(pessoa);
+            id = pessoa.getId();
+        }
+    }
+
+    @Benchmark
+    public Pessoa inserir(BancoEmbutido banco) throws SQLException {
+        Pessoa pessoa = new Pessoa(0, "Nova Pessoa", "nova@empresa.com");
+        dao.inserir(pessoa);
+        return pessoa;
+    }
+
+    @Benchmark
+    public void atualizar(BancoEmbutido banco) throws SQLException {
+        int id = banco.idAleatorio();
+        dao.atualizar(new Pessoa(id, "Pessoa " + id, "pessoa" + id + "@empresa.com"));
+    }
+
+    @Benchmark
+    public void excluir(PessoaParaExcluir pessoa) throws SQLException {
+        dao.excluir(pessoa.id);
+    }
+
+    @Benchmark
+    public Pessoa buscarPorId(BancoEmbutido banco) throws SQLException {
+        return dao.buscarPorId(banco.idAleatorio());
+    }
+
+    @Benchmark
+    public void listar(BancoEmbutido banco, Blackhole bh) throws SQLException {
+        bh.consume(dao.listar());
+    }
+}
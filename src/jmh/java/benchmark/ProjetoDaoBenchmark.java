@@ -0,0 +1,74 @@
+package benchmark;
+
+import classe.Projeto;
+import dao.ProjetoDao;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks das operações de {@link ProjetoDao}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { BancoEmbutido.URL_H2, BancoEmbutido.MIGRAR, BancoEmbutido.POOL })
+public class ProjetoDaoBenchmark {
+    private final ProjetoDao dao = new ProjetoDao();
+
+    /**
+     * Projeto criado antes de cada invocação do benchmark de exclusão.
+     */
+    @State(Scope.Thread)
+    public static class ProjetoParaExcluir {
+        int id;
+
+        @Setup(Level.Invocation)
+        public void criar(BancoEmbutido banco) throws SQLException {
+            Projeto projeto = new Projeto(0, "Excluir", "Projeto a excluir", banco.idFuncionarioAleatorio());
+            new ProjetoDao().inserir(projeto);
+            id = projeto.getId();
+        }
+    }
+
+    @Benchmark
+    public Projeto inserir(BancoEmbutido banco) throws SQLException {
+        Projeto projeto = new Projeto(0, "Novo Projeto", "Projeto criado no benchmark", banco.idFuncionarioAleatorio());
+        dao.inserir(projeto);
+        return projeto;
+    }
+
+    @Benchmark
+    public void atualizar(BancoEmbutido banco) throws SQLException {
+        int id = banco.idAleatorio();
+        dao.atualizar(new Projeto(id, "Projeto " + id, "Descrição do projeto " + id, banco.idFuncionarioAleatorio()));
+    }
+
+    @Benchmark
+    public void excluir(ProjetoParaExcluir projeto) throws SQLException {
+        dao.excluir(projeto.id);
+    }
+
+    @Benchmark
+    public Projeto buscarPorId(BancoEmbutido banco) throws SQLException {
+        return dao.buscarPorId(banco.idAleatorio());
+    }
+
+    @Benchmark
+    public void listar(BancoEmbutido banco, Blackhole bh) throws SQLException {
+        bh.consume(dao.listar());
+    }
+}
@@ -0,0 +1,219 @@
+package arquivo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve registros lidos de um ResultSet em um arquivo CSV (com cabeçalho, separado por vírgula)
+ * ou JSON Lines, opcionalmente compactado com gzip. Cada coluna é lida pela posição e formatada
+ * diretamente em um texto reaproveitado, que é codificado em UTF-8 em um buffer fixo e gravado no
+ * canal do arquivo; nenhum objeto é criado por registro além dos textos lidos do ResultSet.
+ *
+ * O arquivo é escrito com o sufixo {@code .parcial} e só recebe o nome final em {@link #concluir()};
+ * se a escrita for interrompida, o arquivo parcial é removido e um arquivo anterior com o mesmo nome
+ * permanece intacto.
+ */
+final class EscritorRegistros implements Closeable {
+    // Tamanho do buffer de escrita, em bytes
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    // Quantidade de caracteres acumulados antes de codificar e gravar
+    private static final int LIMITE_TEXTO = 1 << 14;
+    // Separador das colunas CSV
+    private static final char SEPARADOR = ',';
+
+    // Arquivo final e arquivo em escrita
+    private final Path destino;
+    private final Path parcial;
+    // Formato do arquivo
+    private final FormatoArquivo formato;
+    // Nomes das colunas, prontos para o JSON ("nome":)
+    private final String[] chavesJson;
+    // Indica as colunas numéricas (inteiras)
+    private final boolean[] numericas;
+    // Canal do arquivo (ou do fluxo gzip)
+    private final WritableByteChannel canal;
+    // Texto das linhas ainda não codificadas
+    private final StringBuilder texto = new StringBuilder(LIMITE_TEXTO + 1024);
+    // Codificador UTF-8 e buffer dos bytes a gravar
+    private final CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes;
+    // Quantidade de registros escritos
+    private long registros;
+    // Indica se o arquivo foi concluído ou fechado
+    private boolean concluido;
+    private boolean fechado;
+
+    /**
+     * Cria o arquivo parcial e, no formato CSV, escreve o cabeçalho.
+     *
+     * @param destino   o arquivo a ser escrito (com extensão .gz para compactar)
+     * @param formato   o formato do arquivo
+     * @param colunas   os nomes das colunas, na ordem do ResultSet
+     * @param numericas indica, para cada coluna, se ela é inteira
+     * @throws IOException se não for possível criar o arquivo
+     */
+    EscritorRegistros(Path destino, FormatoArquivo formato, String[] colunas, boolean[] numericas) throws IOException {
+        if (colunas.length != numericas.length) {
+            throw new IllegalArgumentException("Cada coluna deve informar se é numérica.");
+        }
+        this.destino = destino;
+        this.parcial = destino.resolveSibling(destino.getFileName() + ".parcial");
+        this.formato = formato;
+        this.numericas = numericas.clone();
+        this.chavesJson = new String[colunas.length];
+        for (int i = 0; i < colunas.length; i++) {
+            chavesJson[i] = Textos.textoJson(colunas[i]) + ':';
+        }
+        if (FormatoArquivo.compactado(destino)) {
+            // O fluxo gzip trabalha sobre arrays: buffer na heap
+            this.canal = Channels.newChannel(new GZIPOutputStream(Files.newOutputStream(parcial), TAMANHO_BUFFER));
+            this.bytes = ByteBuffer.allocate(TAMANHO_BUFFER);
+        } else {
+            // Buffer direto, gravado no FileChannel sem cópia intermediária
+            this.canal = FileChannel.open(parcial, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                          StandardOpenOption.TRUNCATE_EXISTING);
+            this.bytes = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        }
+        if (formato == FormatoArquivo.CSV) {
+            for (int i = 0; i < colunas.length; i++) {
+                if (i > 0) {
+                    texto.append(SEPARADOR);
+                }
+                Textos.acrescentarCsv(texto, colunas[i], SEPARADOR);
+            }
+            texto.append('\n');
+        }
+    }
+
+    /**
+     * Escreve a linha atual do ResultSet como um registro.
+     *
+     * @param rs o ResultSet posicionado na linha, com as colunas na ordem informada
+     * @throws SQLException se ocorrer um erro ao ler as colunas
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     */
+    void escrever(ResultSet rs) throws SQLException, IOException {
+        boolean json = formato == FormatoArquivo.JSON_LINHAS;
+        if (json) {
+            texto.append('{');
+        }
+        for (int i = 0; i < numericas.length; i++) {
+            if (i > 0) {
+                texto.append(json ? ',' : SEPARADOR);
+            }
+            if (json) {
+                texto.append(chavesJson[i]);
+            }
+            if (numericas[i]) {
+                int valor = rs.getInt(i + 1);
+                if (!rs.wasNull()) {
+                    texto.append(valor);
+                } else if (json) {
+                    texto.append("null");
+                }
+            } else if (json) {
+                Textos.acrescentarJson(texto, rs.getString(i + 1));
+            } else {
+                Textos.acrescentarCsv(texto, rs.getString(i + 1), SEPARADOR);
+            }
+        }
+        texto.append(json ? "}\n" : "\n");
+        registros++;
+        if (texto.length() >= LIMITE_TEXTO) {
+            codificar(false);
+        }
+    }
+
+    /**
+     * Obtém a quantidade de registros escritos.
+     *
+     * @return a quantidade de registros
+     */
+    long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * Grava o restante do arquivo, fecha-o e o move para o nome final, substituindo um arquivo anterior.
+     *
+     * @throws IOException se ocorrer um erro ao gravar ou mover o arquivo
+     */
+    void concluir() throws IOException {
+        codificar(true);
+        fechado = true;
+        canal.close();
+        Files.move(parcial, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        concluido = true;
+    }
+
+    /**
+     * Fecha o arquivo; se ele não foi concluído, remove o arquivo parcial.
+     *
+     * @throws IOException se ocorrer um erro ao fechar ou remover o arquivo
+     */
+    @Override
+    public void close() throws IOException {
+        if (concluido) {
+            return;
+        }
+        try {
+            if (!fechado) {
+                fechado = true;
+                canal.close();
+            }
+        } finally {
+            Files.deleteIfExists(parcial);
+        }
+    }
+
+    /**
+     * Codifica o texto acumulado em UTF-8 e grava os bytes no canal.
+     * O texto sempre termina em um fim de linha, então nenhum par de caracteres fica dividido.
+     */
+    private void codificar(boolean fim) throws IOException {
+        CharBuffer caracteres = CharBuffer.wrap(texto);
+        while (true) {
+            CoderResult resultado = codificador.encode(caracteres, bytes, fim);
+            if (resultado.isOverflow()) {
+                gravar();
+            } else if (resultado.isError()) {
+                resultado.throwException();
+            } else {
+                break;
+            }
+        }
+        texto.setLength(0);
+        if (fim) {
+            while (codificador.flush(bytes).isOverflow()) {
+                gravar();
+            }
+            gravar();
+        }
+    }
+
+    /**
+     * Grava os bytes do buffer no canal.
+     */
+    private void gravar() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            canal.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,192 @@
+package arquivo;
+
+import dao.FuncionarioDao;
+import dao.PessoaDao;
+import dao.ProcessadorLinha;
+import dao.ProjetoDao;
+import util.Conexao;
+import util.Log;
+import util.Medicao;
+import util.Metricas;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+
+/**
+ * Exporta Pessoas, Funcionarios e Projetos para arquivos CSV ou JSON Lines, opcionalmente
+ * compactados com gzip (extensão .gz, por exemplo {@code pessoas.csv.gz}).
+ *
+ * As linhas são lidas do cursor do banco e escritas diretamente no arquivo, sem montar listas nem
+ * criar as entidades; a memória usada não depende do tamanho das tabelas. O arquivo só recebe o nome
+ * final quando a exportação termina, então uma exportação interrompida não deixa um arquivo incompleto.
+ *
+ * Colunas (CSV) ou campos (JSON) de cada tipo, compatíveis com o {@link Importador}:
+ * <ul>
+ * <li>pessoas: id, nome, email</li>
+ * <li>funcionarios: id, nome, email, matricula, departamento</li>
+ * <li>projetos: id, nome, descricao, id_funcionario</li>
+ * <li>projetos-responsaveis: os campos do Projeto e, do Funcionario responsável, nome_funcionario,
+ * email_funcionario, matricula e departamento (vazios se o responsável não existir)</li>
+ * </ul>
+ */
+public class Exportador {
+    // Colunas de cada exportação e quais delas são inteiras
+    private static final String[] COLUNAS_PESSOAS = {"id", "nome", "email"};
+    private static final boolean[] NUMERICAS_PESSOAS = {true, false, false};
+    private static final String[] COLUNAS_FUNCIONARIOS = {"id", "nome", "email", "matricula", "departamento"};
+    private static final boolean[] NUMERICAS_FUNCIONARIOS = {true, false, false, false, false};
+    private static final String[] COLUNAS_PROJETOS = {"id", "nome", "descricao", "id_funcionario"};
+    private static final boolean[] NUMERICAS_PROJETOS = {true, false, false, true};
+    private static final String[] COLUNAS_PROJETOS_RESPONSAVEIS = {"id", "nome", "descricao", "id_funcionario",
+            "nome_funcionario", "email_funcionario", "matricula", "departamento"};
+    private static final boolean[] NUMERICAS_PROJETOS_RESPONSAVEIS = {true, false, false, true, false, false, false, false};
+
+    /**
+     * Percorre as linhas de uma consulta de um DAO.
+     */
+    private interface ConsultaLinhas {
+        long percorrer(ProcessadorLinha processador) throws SQLException;
+    }
+
+    // DAOs usados na leitura
+    private final PessoaDao pessoaDao = new PessoaDao();
+    private final FuncionarioDao funcionarioDao = new FuncionarioDao();
+    private final ProjetoDao projetoDao = new ProjetoDao();
+
+    /**
+     * Exporta todas as Pessoas, em ordem de ID.
+     *
+     * @param destino o arquivo CSV ou JSON Lines (com .gz para compactar)
+     * @return a quantidade de registros exportados
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long exportarPessoas(Path destino) throws IOException, SQLException {
+        return processar("pessoas", destino, COLUNAS_PESSOAS, NUMERICAS_PESSOAS, pessoaDao::percorrerLinhas);
+    }
+
+    /**
+     * Exporta todos os Funcionarios, com os dados da Pessoa, em ordem de ID.
+     *
+     * @param destino o arquivo CSV ou JSON Lines (com .gz para compactar)
+     * @return a quantidade de registros exportados
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long exportarFuncionarios(Path destino) throws IOException, SQLException {
+        return processar("funcionarios", destino, COLUNAS_FUNCIONARIOS, NUMERICAS_FUNCIONARIOS,
+                         funcionarioDao::percorrerLinhas);
+    }
+
+    /**
+     * Exporta todos os Projetos, em ordem de ID.
+     *
+     * @param destino o arquivo CSV ou JSON Lines (com .gz para compactar)
+     * @return a quantidade de registros exportados
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long exportarProjetos(Path destino) throws IOException, SQLException {
+        return processar("projetos", destino, COLUNAS_PROJETOS, NUMERICAS_PROJETOS, projetoDao::percorrerLinhas);
+    }
+
+    /**
+     * Exporta todos os Projetos com os dados do Funcionario responsável em cada registro,
+     * lidos em um único JOIN, em ordem de ID do Projeto.
+     *
+     * @param destino o arquivo CSV ou JSON Lines (com .gz para compactar)
+     * @return a quantidade de registros exportados
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long exportarProjetosComResponsavel(Path destino) throws IOException, SQLException {
+        return processar("projetos-responsaveis", destino, COLUNAS_PROJETOS_RESPONSAVEIS,
+                         NUMERICAS_PROJETOS_RESPONSAVEIS, projetoDao::percorrerLinhasComResponsavel);
+    }
+
+    /**
+     * Exporta o tipo informado.
+     *
+     * @param tipo    pessoas, funcionarios, projetos ou projetos-responsaveis
+     * @param destino o arquivo CSV ou JSON Lines (com .gz para compactar)
+     * @return a quantidade de registros exportados
+     * @throws IOException  se ocorrer um erro ao gravar o arquivo
+     * @throws SQLException se ocorrer um erro no banco de dados
+     * @throws IllegalArgumentException se o tipo for inválido
+     */
+    public long exportar(String tipo, Path destino) throws IOException, SQLException {
+        switch (tipo) {
+            case "pessoas":
+                return exportarPessoas(destino);
+            case "funcionarios":
+                return exportarFuncionarios(destino);
+            case "projetos":
+                return exportarProjetos(destino);
+            case "projetos-responsaveis":
+                return exportarProjetosComResponsavel(destino);
+            default:
+                throw new IllegalArgumentException("Tipo inválido: " + tipo +
+                                                   ". Use pessoas, funcionarios, projetos ou projetos-responsaveis.");
+        }
+    }
+
+    /**
+     * Exporta um tipo pela linha de comando.
+     *
+     * @param args o tipo (pessoas, funcionarios, projetos ou projetos-responsaveis) e o caminho do arquivo
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: java arquivo.Exportador <pessoas|funcionarios|projetos|projetos-responsaveis> <arquivo>");
+            return;
+        }
+        try {
+            long registros = new Exportador().exportar(args[0], Paths.get(args[1]));
+            Log.descarregar();
+            System.out.println("Exportação concluída: " + registros + " registro(s) em " + args[1] + ".");
+        } catch (IOException | SQLException | IllegalArgumentException e) {
+            Log.descarregar();
+            // Mensagem de erro (Regra de Negócio 4)
+            System.out.println("Erro ao exportar arquivo: " + e.getMessage());
+        } finally {
+            try {
+                Conexao.fecharConexao();
+            } catch (SQLException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Escreve no arquivo cada linha da consulta, lida diretamente do cursor.
+     */
+    private long processar(String tipo, Path destino, String[] colunas, boolean[] numericas,
+                           ConsultaLinhas consulta) throws IOException, SQLException {
+        try (Medicao medicao = Metricas.medir("Exportador." + tipo)) {
+            FormatoArquivo formato = FormatoArquivo.deArquivo(destino);
+            try (EscritorRegistros escritor = new EscritorRegistros(destino, formato, colunas, numericas)) {
+                try {
+                    consulta.percorrer(rs -> {
+                        try {
+                            escritor.escrever(rs);
+                        } catch (IOException e) {
+                            // Interrompe a leitura do cursor; o erro é relançado abaixo
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                escritor.concluir();
+                long registros = escritor.getRegistros();
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Exportação de " + tipo + " concluída: " + registros + " registro(s) em " +
+                               destino.getFileName() + ".");
+                medicao.concluir(registros);
+                return registros;
+            }
+        }
+    }
+}
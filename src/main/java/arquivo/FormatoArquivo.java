@@ -0,0 +1,47 @@
+package arquivo;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo usados na importação e na exportação.
+ */
+public enum FormatoArquivo {
+    /** Texto separado por vírgula (ou ponto e vírgula), com cabeçalho. */
+    CSV,
+    /** Um objeto JSON por linha (JSON Lines). */
+    JSON_LINHAS;
+
+    /**
+     * Identifica o formato pela extensão do arquivo (.csv, .jsonl, .ndjson ou .json),
+     * seguida ou não de .gz.
+     *
+     * @param arquivo o arquivo
+     * @return o formato do arquivo
+     * @throws IllegalArgumentException se a extensão não for reconhecida
+     */
+    public static FormatoArquivo deArquivo(Path arquivo) {
+        String nome = arquivo.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".gz")) {
+            nome = nome.substring(0, nome.length() - 3);
+        }
+        if (nome.endsWith(".csv")) {
+            return CSV;
+        }
+        if (nome.endsWith(".jsonl") || nome.endsWith(".ndjson") || nome.endsWith(".json")) {
+            return JSON_LINHAS;
+        }
+        throw new IllegalArgumentException("Formato de arquivo não reconhecido: " + arquivo.getFileName() +
+                                           " (use .csv ou .jsonl).");
+    }
+
+    /**
+     * Verifica se o arquivo é compactado com gzip (extensão .gz).
+     *
+     * @param arquivo o arquivo
+     * @return true se o nome do arquivo terminar em .gz
+     */
+    public static boolean compactado(Path arquivo) {
+        return arquivo.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+}
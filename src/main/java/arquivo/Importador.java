@@ -0,0 +1,481 @@
+package arquivo;
+
+import classe.Funcionario;
+import classe.Pessoa;
+import classe.Projeto;
+import dao.FuncionarioDao;
+import dao.PessoaDao;
+import dao.ProjetoDao;
+import dao.ResultadoLote;
+import dao.ResultadoSalvar;
+import util.Conexao;
+import util.Log;
+import util.Medicao;
+import util.Metricas;
+import util.Transacao;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Importa Pessoas, Funcionarios e Projetos de arquivos CSV ou JSON Lines.
+ *
+ * O arquivo é lido em blocos, sem ser carregado em memória. Cada registro é validado pelas regras
+ * dos setters das classes, e cada bloco é gravado pelas operações em lote dos DAOs, que verificam
+ * de uma vez a existência das Pessoas e Funcionarios referenciados. Registros inválidos ou recusados
+ * pelo banco são gravados no arquivo de rejeitados ({@code nome.rejeitados.csv} ou
+ * {@code nome.rejeitados.jsonl}) com o motivo, sem interromper a importação.
+ *
+ * Após cada bloco confirmado no banco, a posição no arquivo é gravada em {@code arquivo.checkpoint};
+ * se a importação for interrompida, a próxima chamada para o mesmo arquivo continua desse ponto.
+ * O checkpoint é removido ao concluir. Pessoas e Funcionarios são salvos com inserir-ou-atualizar,
+ * então reprocessar um bloco não os duplica; Projetos são sempre inseridos.
+ *
+ * Colunas (CSV) ou campos (JSON) de cada tipo:
+ * <ul>
+ * <li>pessoas: id (opcional), nome, email</li>
+ * <li>funcionarios: id (opcional), nome, email, matricula, departamento; a Pessoa é salva junto</li>
+ * <li>projetos: nome, descricao, id_funcionario</li>
+ * </ul>
+ */
+public class Importador {
+    // Quantidade padrão de registros por bloco
+    private static final int TAMANHO_BLOCO_PADRAO = Integer.getInteger("empresa.importacao.bloco", 1000);
+
+    /**
+     * Grava um bloco de registros válidos e registra os recusados.
+     */
+    private interface GravadorBloco {
+        int gravar(List<Registro> bloco, Rejeicoes rejeicoes) throws SQLException;
+    }
+
+    // DAOs usados na gravação
+    private final PessoaDao pessoaDao = new PessoaDao();
+    private final FuncionarioDao funcionarioDao = new FuncionarioDao();
+    private final ProjetoDao projetoDao = new ProjetoDao();
+    // Quantidade de registros por bloco
+    private final int tamanhoBloco;
+
+    /**
+     * Cria o importador com o tamanho de bloco de {@code empresa.importacao.bloco} (padrão 1000).
+     */
+    public Importador() {
+        this(TAMANHO_BLOCO_PADRAO);
+    }
+
+    /**
+     * Cria o importador.
+     *
+     * @param tamanhoBloco quantidade de registros gravados e confirmados por vez
+     */
+    public Importador(int tamanhoBloco) {
+        if (tamanhoBloco <= 0) {
+            throw new IllegalArgumentException("Tamanho do bloco deve ser um valor positivo.");
+        }
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    /**
+     * Importa Pessoas. Cada Pessoa é inserida ou, se já existir (pelo ID ou e-mail), atualizada.
+     *
+     * @param arquivo   o arquivo CSV ou JSON Lines
+     * @param progresso chamado após cada bloco confirmado (ou null)
+     * @return o resumo da importação
+     * @throws IOException  se ocorrer um erro ao ler o arquivo ou gravar o checkpoint
+     * @throws SQLException se ocorrer um erro que impeça a gravação de um bloco
+     */
+    public ResumoImportacao importarPessoas(Path arquivo, Consumer<ResumoImportacao> progresso)
+            throws IOException, SQLException {
+        return processar("pessoas", arquivo, Arrays.asList("nome", "email"), (bloco, rejeicoes) -> {
+            Map<Object, Registro> origem = new IdentityHashMap<>();
+            List<Pessoa> pessoas = new ArrayList<>(bloco.size());
+            for (Registro registro : bloco) {
+                try {
+                    Pessoa pessoa = new Pessoa(registro.inteiroOpcional("id", 0), registro.textoOpcional("nome"),
+                                               registro.textoOpcional("email"));
+                    origem.put(pessoa, registro);
+                    pessoas.add(pessoa);
+                } catch (IllegalArgumentException e) {
+                    rejeicoes.adicionar(registro, e.getMessage());
+                }
+            }
+            ResultadoSalvar<Pessoa> resultado = pessoaDao.salvarLote(pessoas);
+            rejeitarFalhas(resultado, origem, rejeicoes);
+            return resultado.getSucessos().size();
+        }, progresso);
+    }
+
+    /**
+     * Importa Funcionarios. A Pessoa de cada Funcionario é salva antes (encontrada pelo ID ou e-mail,
+     * ou criada), e o Funcionario é inserido ou atualizado, tudo na mesma transação por bloco.
+     * Se algum Funcionario for recusado, o bloco é desfeito e gravado de novo sem ele, para que
+     * a Pessoa de um registro rejeitado não fique gravada.
+     *
+     * @param arquivo   o arquivo CSV ou JSON Lines
+     * @param progresso chamado após cada bloco confirmado (ou null)
+     * @return o resumo da importação
+     * @throws IOException  se ocorrer um erro ao ler o arquivo ou gravar o checkpoint
+     * @throws SQLException se ocorrer um erro que impeça a gravação de um bloco
+     */
+    public ResumoImportacao importarFuncionarios(Path arquivo, Consumer<ResumoImportacao> progresso)
+            throws IOException, SQLException {
+        return processar("funcionarios", arquivo, Arrays.asList("nome", "email", "matricula", "departamento"),
+                        (bloco, rejeicoes) -> {
+            List<Registro> validos = new ArrayList<>(bloco.size());
+            for (Registro registro : bloco) {
+                try {
+                    lerFuncionario(registro);
+                    validos.add(registro);
+                } catch (IllegalArgumentException e) {
+                    rejeicoes.adicionar(registro, e.getMessage());
+                }
+            }
+            while (true) {
+                // Cria os Funcionarios de novo a cada tentativa, com o ID informado no arquivo
+                Map<Object, Registro> origem = new IdentityHashMap<>();
+                List<Pessoa> pessoas = new ArrayList<>(validos.size());
+                for (Registro registro : validos) {
+                    Funcionario funcionario = lerFuncionario(registro);
+                    origem.put(funcionario, registro);
+                    pessoas.add(funcionario);
+                }
+                try (Transacao transacao = Transacao.iniciar()) {
+                    // Regra de Negócio 1: salva as Pessoas primeiro, obtendo o ID de cada uma
+                    ResultadoSalvar<Pessoa> resultadoPessoas = pessoaDao.salvarLote(pessoas);
+                    List<Funcionario> funcionarios = new ArrayList<>(resultadoPessoas.getSucessos().size());
+                    for (Pessoa pessoa : resultadoPessoas.getSucessos()) {
+                        funcionarios.add((Funcionario) pessoa);
+                    }
+                    ResultadoSalvar<Funcionario> resultado = funcionarioDao.salvarLote(funcionarios);
+                    if (!resultado.getFalhas().isEmpty()) {
+                        // A Pessoa de um Funcionario recusado não pode ficar gravada: desfaz o bloco ao
+                        // fechar a transação e grava-o de novo sem os recusados
+                        rejeitarFalhas(resultado, origem, rejeicoes);
+                        Set<Registro> recusados = Collections.newSetFromMap(new IdentityHashMap<>());
+                        for (ResultadoLote.Falha<Funcionario> falha : resultado.getFalhas()) {
+                            recusados.add(origem.get(falha.getItem()));
+                        }
+                        validos.removeIf(recusados::contains);
+                        continue;
+                    }
+                    rejeitarFalhas(resultadoPessoas, origem, rejeicoes);
+                    transacao.confirmar();
+                    return resultado.getSucessos().size();
+                }
+            }
+        }, progresso);
+    }
+
+    /**
+     * Importa Projetos. Projetos cujo Funcionario não existe são rejeitados (Regra de Negócio 2).
+     *
+     * @param arquivo   o arquivo CSV ou JSON Lines
+     * @param progresso chamado após cada bloco confirmado (ou null)
+     * @return o resumo da importação
+     * @throws IOException  se ocorrer um erro ao ler o arquivo ou gravar o checkpoint
+     * @throws SQLException se ocorrer um erro que impeça a gravação de um bloco
+     */
+    public ResumoImportacao importarProjetos(Path arquivo, Consumer<ResumoImportacao> progresso)
+            throws IOException, SQLException {
+        return processar("projetos", arquivo, Arrays.asList("nome", "descricao", "id_funcionario"), (bloco, rejeicoes) -> {
+            Map<Object, Registro> origem = new IdentityHashMap<>();
+            List<Projeto> projetos = new ArrayList<>(bloco.size());
+            for (Registro registro : bloco) {
+                try {
+                    Projeto projeto = new Projeto(0, registro.textoOpcional("nome"), registro.textoOpcional("descricao"),
+                                                  registro.inteiro("id_funcionario"));
+                    origem.put(projeto, registro);
+                    projetos.add(projeto);
+                } catch (IllegalArgumentException e) {
+                    rejeicoes.adicionar(registro, e.getMessage());
+                }
+            }
+            ResultadoLote<Projeto> resultado = projetoDao.inserirLote(projetos);
+            rejeitarFalhas(resultado, origem, rejeicoes);
+            return resultado.getSucessos().size();
+        }, progresso);
+    }
+
+    /**
+     * Importa um arquivo do tipo informado.
+     *
+     * @param tipo      pessoas, funcionarios ou projetos
+     * @param arquivo   o arquivo CSV ou JSON Lines
+     * @param progresso chamado após cada bloco confirmado (ou null)
+     * @return o resumo da importação
+     * @throws IOException  se ocorrer um erro ao ler o arquivo ou gravar o checkpoint
+     * @throws SQLException se ocorrer um erro que impeça a gravação de um bloco
+     * @throws IllegalArgumentException se o tipo for inválido
+     */
+    public ResumoImportacao importar(String tipo, Path arquivo, Consumer<ResumoImportacao> progresso)
+            throws IOException, SQLException {
+        switch (tipo) {
+            case "pessoas":
+                return importarPessoas(arquivo, progresso);
+            case "funcionarios":
+                return importarFuncionarios(arquivo, progresso);
+            case "projetos":
+                return importarProjetos(arquivo, progresso);
+            default:
+                throw new IllegalArgumentException("Tipo inválido: " + tipo + ". Use pessoas, funcionarios ou projetos.");
+        }
+    }
+
+    /**
+     * Importa um arquivo pela linha de comando.
+     *
+     * @param args o tipo (pessoas, funcionarios ou projetos) e o caminho do arquivo
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: java arquivo.Importador <pessoas|funcionarios|projetos> <arquivo>");
+            return;
+        }
+        try {
+            ResumoImportacao resumo = new Importador().importar(args[0], Paths.get(args[1]), null);
+            Log.descarregar();
+            System.out.println("Importação concluída: " + resumo);
+        } catch (IOException | SQLException | IllegalArgumentException e) {
+            Log.descarregar();
+            // Mensagem de erro (Regra de Negócio 4)
+            System.out.println("Erro ao importar arquivo: " + e.getMessage());
+        } finally {
+            try {
+                Conexao.fecharConexao();
+            } catch (SQLException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lê o arquivo em blocos, grava cada bloco e atualiza o checkpoint e o arquivo de rejeitados.
+     */
+    private ResumoImportacao processar(String tipo, Path arquivo, List<String> colunas, GravadorBloco gravador,
+                                       Consumer<ResumoImportacao> progresso) throws IOException, SQLException {
+        try (Medicao medicao = Metricas.medir("Importador." + tipo)) {
+            if (FormatoArquivo.compactado(arquivo)) {
+                // O checkpoint guarda a posição em bytes do arquivo, que não existe em um fluxo gzip
+                throw new IOException("Arquivos compactados não são aceitos na importação: " + arquivo.getFileName() +
+                                      ". Descompacte o arquivo antes de importá-lo.");
+            }
+            FormatoArquivo formato = FormatoArquivo.deArquivo(arquivo);
+            Path checkpoint = arquivo.resolveSibling(arquivo.getFileName() + ".checkpoint");
+            Properties anterior = lerCheckpoint(checkpoint, tipo);
+            ResumoImportacao resumo;
+            long importadosAntes;
+            try (LeitorRegistros leitor = new LeitorRegistros(arquivo, formato)) {
+                if (formato == FormatoArquivo.CSV && !leitor.getCabecalho().containsAll(colunas)) {
+                    throw new IOException("O cabeçalho de " + arquivo.getFileName() + " deve ter as colunas " + colunas + ".");
+                }
+                if (anterior != null) {
+                    long linha = Long.parseLong(anterior.getProperty("linha"));
+                    leitor.retomar(Long.parseLong(anterior.getProperty("posicao")), linha);
+                    resumo = new ResumoImportacao(arquivo.getFileName().toString(), linha,
+                                                  Long.parseLong(anterior.getProperty("lidos")),
+                                                  Long.parseLong(anterior.getProperty("importados")),
+                                                  Long.parseLong(anterior.getProperty("rejeitados")));
+                    Log.info(() -> "Importação de " + tipo + " retomada após a linha " + linha + ".");
+                } else {
+                    resumo = new ResumoImportacao(arquivo.getFileName().toString(), 0, 0, 0, 0);
+                }
+                importadosAntes = resumo.getImportados();
+                try (Rejeicoes rejeicoes = new Rejeicoes(arquivoRejeitados(arquivo, formato), formato, leitor, anterior != null)) {
+                    List<Registro> bloco = new ArrayList<>(tamanhoBloco);
+                    while (true) {
+                        bloco.clear();
+                        Registro registro;
+                        while (bloco.size() < tamanhoBloco && (registro = leitor.proximo()) != null) {
+                            bloco.add(registro);
+                        }
+                        if (bloco.isEmpty()) {
+                            break;
+                        }
+                        // Linhas malformadas são rejeitadas antes da gravação
+                        List<Registro> validos = new ArrayList<>(bloco.size());
+                        for (Registro lido : bloco) {
+                            if (lido.getErro() != null) {
+                                rejeicoes.adicionar(lido, lido.getErro());
+                            } else {
+                                validos.add(lido);
+                            }
+                        }
+                        int importados = validos.isEmpty() ? 0 : gravador.gravar(validos, rejeicoes);
+                        // O bloco já foi confirmado: grava os rejeitados e só então avança o checkpoint
+                        int rejeitados = rejeicoes.descarregar();
+                        resumo.adicionarBloco(bloco.size(), importados, rejeitados, leitor.getNumeroLinha());
+                        gravarCheckpoint(checkpoint, tipo, leitor.getPosicao(), resumo);
+                        Log.info(() -> "Importação de " + tipo + " em andamento: " + resumo + ".");
+                        if (progresso != null) {
+                            progresso.accept(resumo);
+                        }
+                    }
+                }
+            }
+            resumo.concluir();
+            Files.deleteIfExists(checkpoint);
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Importação de " + tipo + " concluída: " + resumo + ".");
+            medicao.concluir(resumo.getImportados() - importadosAntes);
+            return resumo;
+        }
+    }
+
+    /**
+     * Cria o Funcionario de um registro.
+     *
+     * @throws IllegalArgumentException se algum campo for inválido
+     */
+    private static Funcionario lerFuncionario(Registro registro) {
+        return new Funcionario(registro.inteiroOpcional("id", 0), registro.textoOpcional("nome"),
+                               registro.textoOpcional("email"), registro.textoOpcional("matricula"),
+                               registro.textoOpcional("departamento"));
+    }
+
+    /**
+     * Registra como rejeitados os itens que o DAO recusou.
+     */
+    private static <T> void rejeitarFalhas(ResultadoLote<T> resultado, Map<Object, Registro> origem, Rejeicoes rejeicoes) {
+        for (ResultadoLote.Falha<T> falha : resultado.getFalhas()) {
+            rejeicoes.adicionar(origem.get(falha.getItem()), falha.getMotivo());
+        }
+    }
+
+    /**
+     * Lê o checkpoint de uma importação anterior do mesmo arquivo.
+     *
+     * @return as propriedades do checkpoint, ou null se não houver
+     */
+    private static Properties lerCheckpoint(Path checkpoint, String tipo) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return null;
+        }
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        if (!tipo.equals(propriedades.getProperty("tipo"))) {
+            throw new IOException("O checkpoint " + checkpoint.getFileName() + " é de uma importação de " +
+                                  propriedades.getProperty("tipo") + "; remova-o para importar " + tipo + ".");
+        }
+        return propriedades;
+    }
+
+    /**
+     * Grava o checkpoint em um arquivo temporário e o move sobre o anterior, para que uma
+     * interrupção durante a gravação não deixe um checkpoint incompleto.
+     */
+    private static void gravarCheckpoint(Path checkpoint, String tipo, long posicao, ResumoImportacao resumo)
+            throws IOException {
+        Properties propriedades = new Properties();
+        propriedades.setProperty("tipo", tipo);
+        propriedades.setProperty("posicao", Long.toString(posicao));
+        propriedades.setProperty("linha", Long.toString(resumo.getUltimaLinha()));
+        propriedades.setProperty("lidos", Long.toString(resumo.getLidos()));
+        propriedades.setProperty("importados", Long.toString(resumo.getImportados()));
+        propriedades.setProperty("rejeitados", Long.toString(resumo.getRejeitados()));
+        Path temporario = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer escritor = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+            propriedades.store(escritor, "Checkpoint da importação de " + tipo);
+        }
+        Files.move(temporario, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Obtém o arquivo de rejeitados: nome.rejeitados.csv ou nome.rejeitados.jsonl.
+     */
+    private static Path arquivoRejeitados(Path arquivo, FormatoArquivo formato) {
+        String nome = arquivo.getFileName().toString();
+        int ponto = nome.lastIndexOf('.');
+        String base = ponto > 0 ? nome.substring(0, ponto) : nome;
+        return arquivo.resolveSibling(base + ".rejeitados" + (formato == FormatoArquivo.CSV ? ".csv" : ".jsonl"));
+    }
+
+    /**
+     * Registros rejeitados de um bloco, gravados no arquivo de rejeitados após a confirmação do bloco.
+     * Em CSV, cada linha original recebe a coluna "motivo"; em JSON Lines, é gravado um objeto com a
+     * linha, o motivo e o registro original.
+     */
+    private static final class Rejeicoes implements AutoCloseable {
+        // Arquivo de rejeitados
+        private final BufferedWriter escritor;
+        // Formato do arquivo importado
+        private final FormatoArquivo formato;
+        // Separador das colunas (CSV)
+        private final char separador;
+        // Rejeitados do bloco atual e o motivo de cada um
+        private final List<Registro> registros = new ArrayList<>();
+        private final List<String> motivos = new ArrayList<>();
+
+        Rejeicoes(Path arquivo, FormatoArquivo formato, LeitorRegistros leitor, boolean retomando) throws IOException {
+            this.formato = formato;
+            this.separador = leitor.getSeparador();
+            boolean novo = !retomando || !Files.exists(arquivo);
+            this.escritor = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, novo ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND);
+            if (novo && formato == FormatoArquivo.CSV) {
+                escritor.write(leitor.getTextoCabecalho() + separador + "motivo");
+                escritor.newLine();
+            }
+        }
+
+        /**
+         * Registra um registro rejeitado.
+         */
+        void adicionar(Registro registro, String motivo) {
+            registros.add(registro);
+            motivos.add(motivo);
+        }
+
+        /**
+         * Grava os rejeitados do bloco no arquivo.
+         *
+         * @return a quantidade de registros rejeitados no bloco
+         */
+        int descarregar() throws IOException {
+            // Mantém a ordem do arquivo original
+            List<Integer> ordem = new ArrayList<>(registros.size());
+            for (int i = 0; i < registros.size(); i++) {
+                ordem.add(i);
+            }
+            ordem.sort((a, b) -> Long.compare(registros.get(a).getLinha(), registros.get(b).getLinha()));
+            for (int i : ordem) {
+                Registro registro = registros.get(i);
+                if (formato == FormatoArquivo.CSV) {
+                    escritor.write(registro.getTexto() + separador + Textos.campoCsv(motivos.get(i), separador));
+                } else {
+                    escritor.write("{\"linha\":" + registro.getLinha() + ",\"motivo\":" + Textos.textoJson(motivos.get(i)) +
+                                   ",\"registro\":" + Textos.textoJson(registro.getTexto()) + "}");
+                }
+                escritor.newLine();
+            }
+            escritor.flush();
+            int quantidade = registros.size();
+            registros.clear();
+            motivos.clear();
+            return quantidade;
+        }
+
+        @Override
+        public void close() throws IOException {
+            escritor.close();
+        }
+    }
+}
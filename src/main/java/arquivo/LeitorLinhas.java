@@ -0,0 +1,176 @@
+package arquivo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lê um arquivo texto UTF-8 linha a linha por um FileChannel, com um buffer fixo,
+ * sem carregar o arquivo em memória. Mantém a posição em bytes do fim da última linha lida,
+ * o que permite retomar a leitura a partir de um checkpoint sem reler o início do arquivo.
+ */
+final class LeitorLinhas implements Closeable {
+    // Tamanho do buffer de leitura, em bytes
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    // Canal do arquivo
+    private final FileChannel canal;
+    // Buffer de leitura e o array que o sustenta
+    private final byte[] dados = new byte[TAMANHO_BUFFER];
+    private final ByteBuffer buffer = ByteBuffer.wrap(dados);
+    // Trecho do buffer ainda não consumido: [inicio, fim)
+    private int inicio;
+    private int fim;
+    // Linha que atravessa o fim do buffer
+    private byte[] parcial = new byte[256];
+    private int tamanhoParcial;
+    // Posição no arquivo do fim da última linha lida
+    private long posicao;
+    // Número da última linha lida (a primeira é 1)
+    private long numeroLinha;
+    // Indica se a última linha lida terminava em \r\n
+    private boolean terminouEmRetorno;
+
+    /**
+     * Abre o arquivo para leitura.
+     *
+     * @param arquivo o arquivo a ser lido
+     * @throws IOException se não for possível abrir o arquivo
+     */
+    LeitorLinhas(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+    }
+
+    /**
+     * Lê a próxima linha, sem o terminador (\n ou \r\n).
+     *
+     * @return a linha, ou null no fim do arquivo
+     * @throws IOException se ocorrer um erro de leitura
+     */
+    String proximaLinha() throws IOException {
+        tamanhoParcial = 0;
+        while (true) {
+            if (inicio == fim) {
+                buffer.clear();
+                int lidos = canal.read(buffer);
+                if (lidos <= 0) {
+                    // Fim do arquivo: a última linha pode não ter terminador
+                    if (tamanhoParcial == 0) {
+                        return null;
+                    }
+                    String linha = decodificar(parcial, 0, tamanhoParcial);
+                    numeroLinha++;
+                    return linha;
+                }
+                inicio = 0;
+                fim = lidos;
+            }
+            for (int i = inicio; i < fim; i++) {
+                if (dados[i] == '\n') {
+                    int tamanho = i - inicio;
+                    String linha;
+                    if (tamanhoParcial == 0) {
+                        linha = decodificar(dados, inicio, tamanho);
+                    } else {
+                        acumular(inicio, tamanho);
+                        linha = decodificar(parcial, 0, tamanhoParcial);
+                    }
+                    posicao += tamanho + 1;
+                    inicio = i + 1;
+                    numeroLinha++;
+                    return linha;
+                }
+            }
+            // Sem quebra de linha no restante do buffer: guarda o trecho e lê mais
+            acumular(inicio, fim - inicio);
+            posicao += fim - inicio;
+            inicio = fim;
+        }
+    }
+
+    /**
+     * Obtém a posição em bytes do fim da última linha lida.
+     *
+     * @return a posição no arquivo
+     */
+    long getPosicao() {
+        return posicao;
+    }
+
+    /**
+     * Indica se a última linha lida terminava em \r\n (e não apenas em \n).
+     *
+     * @return true se o \r final foi removido da linha
+     */
+    boolean terminouEmRetorno() {
+        return terminouEmRetorno;
+    }
+
+    /**
+     * Obtém o número da última linha lida.
+     *
+     * @return o número da linha (0 se nenhuma foi lida)
+     */
+    long getNumeroLinha() {
+        return numeroLinha;
+    }
+
+    /**
+     * Continua a leitura a partir de uma posição obtida anteriormente por {@link #getPosicao()}.
+     *
+     * @param posicao     a posição em bytes do fim de uma linha
+     * @param numeroLinha o número dessa linha
+     * @throws IOException se a posição estiver além do fim do arquivo
+     */
+    void posicionar(long posicao, long numeroLinha) throws IOException {
+        if (posicao > canal.size()) {
+            throw new IOException("Posição " + posicao + " além do fim do arquivo.");
+        }
+        canal.position(posicao);
+        this.posicao = posicao;
+        this.numeroLinha = numeroLinha;
+        inicio = 0;
+        fim = 0;
+    }
+
+    /**
+     * Fecha o arquivo.
+     *
+     * @throws IOException se ocorrer um erro ao fechar
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Acrescenta um trecho do buffer à linha parcial.
+     */
+    private void acumular(int de, int tamanho) {
+        if (tamanhoParcial + tamanho > parcial.length) {
+            parcial = Arrays.copyOf(parcial, Math.max(parcial.length * 2, tamanhoParcial + tamanho));
+        }
+        System.arraycopy(dados, de, parcial, tamanhoParcial, tamanho);
+        tamanhoParcial += tamanho;
+    }
+
+    /**
+     * Converte os bytes da linha em texto, removendo o \r final e a marca BOM do início do arquivo.
+     */
+    private String decodificar(byte[] bytes, int de, int tamanho) {
+        terminouEmRetorno = tamanho > 0 && bytes[de + tamanho - 1] == '\r';
+        if (terminouEmRetorno) {
+            tamanho--;
+        }
+        String linha = new String(bytes, de, tamanho, StandardCharsets.UTF_8);
+        if (numeroLinha == 0 && !linha.isEmpty() && linha.charAt(0) == '\uFEFF') {
+            linha = linha.substring(1);
+        }
+        return linha;
+    }
+}
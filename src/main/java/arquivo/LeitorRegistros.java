@@ -0,0 +1,400 @@
+package arquivo;
+
+import classe.Validacao;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Lê os registros de um arquivo de importação, um por linha, nos formatos CSV (com cabeçalho,
+ * separado por vírgula ou ponto e vírgula) ou JSON Lines (um objeto JSON simples por linha).
+ * Em CSV, um valor entre aspas pode conter quebras de linha e continuar nas linhas seguintes,
+ * como os escritos pelo {@link Exportador}.
+ * Linhas em branco são ignoradas; linhas que não podem ser interpretadas são devolvidas com o erro,
+ * para serem rejeitadas sem interromper a leitura.
+ */
+final class LeitorRegistros implements Closeable {
+    // Formato de um número JSON
+    private static final Pattern NUMERO_JSON = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+    // Tamanho máximo de um registro CSV de várias linhas, para que aspas não fechadas
+    // não levem o restante do arquivo para a memória
+    private static final int TAMANHO_MAXIMO_REGISTRO = 1 << 20;
+
+    // Leitor das linhas do arquivo
+    private final LeitorLinhas linhas;
+    // Formato do arquivo
+    private final FormatoArquivo formato;
+    // Nomes das colunas (apenas CSV)
+    private final List<String> cabecalho;
+    // Linha de cabeçalho original (apenas CSV)
+    private final String textoCabecalho;
+    // Separador das colunas (apenas CSV)
+    private final char separador;
+
+    /**
+     * Abre o arquivo e, no formato CSV, lê o cabeçalho.
+     *
+     * @param arquivo o arquivo a ser lido
+     * @param formato o formato do arquivo
+     * @throws IOException se não for possível ler o arquivo ou o cabeçalho estiver ausente
+     */
+    LeitorRegistros(Path arquivo, FormatoArquivo formato) throws IOException {
+        this.linhas = new LeitorLinhas(arquivo);
+        this.formato = formato;
+        if (formato == FormatoArquivo.CSV) {
+            String primeira = linhas.proximaLinha();
+            if (Validacao.emBranco(primeira)) {
+                linhas.close();
+                throw new IOException("Arquivo CSV sem cabeçalho: " + arquivo + ".");
+            }
+            this.textoCabecalho = primeira;
+            this.separador = primeira.indexOf(';') >= 0 && primeira.indexOf(',') < 0 ? ';' : ',';
+            List<String> colunas = new ArrayList<>();
+            for (String coluna : dividirCsv(primeira, separador)) {
+                colunas.add(coluna.trim().toLowerCase(Locale.ROOT));
+            }
+            this.cabecalho = Collections.unmodifiableList(colunas);
+        } else {
+            this.textoCabecalho = null;
+            this.separador = ',';
+            this.cabecalho = Collections.emptyList();
+        }
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return o registro, ou null no fim do arquivo
+     * @throws IOException se ocorrer um erro de leitura
+     */
+    Registro proximo() throws IOException {
+        String linha;
+        do {
+            linha = linhas.proximaLinha();
+            if (linha == null) {
+                return null;
+            }
+        } while (Validacao.emBranco(linha));
+        long numero = linhas.getNumeroLinha();
+        if (formato == FormatoArquivo.CSV && aspasAbertas(linha)) {
+            // Valor entre aspas com quebra de linha: o registro continua nas linhas seguintes, e a
+            // posição do leitor (usada no checkpoint) fica no fim do registro
+            StringBuilder registro = new StringBuilder(linha);
+            boolean abertas = true;
+            while (abertas && registro.length() <= TAMANHO_MAXIMO_REGISTRO) {
+                // Mantém a quebra de linha do valor como estava no arquivo
+                String quebra = linhas.terminouEmRetorno() ? "\r\n" : "\n";
+                String continuacao = linhas.proximaLinha();
+                if (continuacao == null) {
+                    break;
+                }
+                registro.append(quebra).append(continuacao);
+                abertas = aspasAbertas(continuacao) != abertas;
+            }
+            linha = registro.toString();
+            if (abertas) {
+                return new Registro(numero, linha, null, registro.length() > TAMANHO_MAXIMO_REGISTRO
+                        ? "Registro maior que " + TAMANHO_MAXIMO_REGISTRO + " caracteres (aspas não fechadas?)."
+                        : "Aspas não fechadas no registro.");
+            }
+        }
+        try {
+            Map<String, String> campos = formato == FormatoArquivo.CSV ? camposCsv(linha) : lerObjetoJson(linha);
+            return new Registro(numero, linha, campos, null);
+        } catch (IllegalArgumentException e) {
+            return new Registro(numero, linha, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Continua a leitura após a linha de um checkpoint.
+     *
+     * @param posicao     a posição em bytes do fim da linha
+     * @param numeroLinha o número da linha
+     * @throws IOException se a posição não pertencer ao arquivo
+     */
+    void retomar(long posicao, long numeroLinha) throws IOException {
+        linhas.posicionar(posicao, numeroLinha);
+    }
+
+    /**
+     * Obtém a posição em bytes do fim do último registro lido.
+     *
+     * @return a posição no arquivo
+     */
+    long getPosicao() {
+        return linhas.getPosicao();
+    }
+
+    /**
+     * Obtém o número da linha do último registro lido.
+     *
+     * @return o número da linha
+     */
+    long getNumeroLinha() {
+        return linhas.getNumeroLinha();
+    }
+
+    /**
+     * Obtém os nomes das colunas do cabeçalho (vazio em JSON Lines).
+     *
+     * @return os nomes das colunas, em minúsculas
+     */
+    List<String> getCabecalho() {
+        return cabecalho;
+    }
+
+    /**
+     * Obtém a linha de cabeçalho original (null em JSON Lines).
+     *
+     * @return o cabeçalho
+     */
+    String getTextoCabecalho() {
+        return textoCabecalho;
+    }
+
+    /**
+     * Obtém o separador das colunas CSV.
+     *
+     * @return o separador
+     */
+    char getSeparador() {
+        return separador;
+    }
+
+    /**
+     * Fecha o arquivo.
+     *
+     * @throws IOException se ocorrer um erro ao fechar
+     */
+    @Override
+    public void close() throws IOException {
+        linhas.close();
+    }
+
+    /**
+     * Associa os valores de uma linha CSV às colunas do cabeçalho.
+     */
+    private Map<String, String> camposCsv(String linha) {
+        List<String> valores = dividirCsv(linha, separador);
+        if (valores.size() > cabecalho.size()) {
+            throw new IllegalArgumentException("Linha com " + valores.size() + " colunas; o cabeçalho tem " +
+                                               cabecalho.size() + ".");
+        }
+        Map<String, String> campos = new HashMap<>(cabecalho.size() * 2);
+        for (int i = 0; i < valores.size(); i++) {
+            campos.put(cabecalho.get(i), valores.get(i));
+        }
+        return campos;
+    }
+
+    /**
+     * Verifica se o trecho de CSV tem um número ímpar de aspas, ou seja, se muda o estado
+     * "entre aspas" (aspas escritas em dobro contam duas vezes e não o mudam).
+     */
+    private static boolean aspasAbertas(String trecho) {
+        boolean abertas = false;
+        for (int i = 0; i < trecho.length(); i++) {
+            if (trecho.charAt(i) == '"') {
+                abertas = !abertas;
+            }
+        }
+        return abertas;
+    }
+
+    /**
+     * Divide um registro CSV nas colunas. Valores entre aspas podem conter o separador e
+     * quebras de linha, e aspas dentro deles são escritas em dobro ("").
+     *
+     * @param linha     a linha CSV
+     * @param separador o separador das colunas
+     * @return os valores das colunas
+     * @throws IllegalArgumentException se houver aspas não fechadas
+     */
+    static List<String> dividirCsv(String linha, char separador) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder valor = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"') {
+                    if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                        valor.append('"');
+                        i++;
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    valor.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                valores.add(valor.toString());
+                valor.setLength(0);
+            } else {
+                valor.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Aspas não fechadas na linha.");
+        }
+        valores.add(valor.toString());
+        return valores;
+    }
+
+    /**
+     * Lê um objeto JSON simples (sem objetos ou listas aninhados) com valores texto, número,
+     * booleano ou null. Os nomes dos campos são convertidos para minúsculas.
+     *
+     * @param linha a linha com o objeto JSON
+     * @return os campos do objeto (valores null são omitidos)
+     * @throws IllegalArgumentException se a linha não for um objeto JSON simples
+     */
+    static Map<String, String> lerObjetoJson(String linha) {
+        Map<String, String> campos = new HashMap<>();
+        int[] pos = {pularEspacos(linha, 0)};
+        esperar(linha, pos, '{');
+        pos[0] = pularEspacos(linha, pos[0]);
+        if (pos[0] < linha.length() && linha.charAt(pos[0]) == '}') {
+            pos[0]++;
+        } else {
+            while (true) {
+                pos[0] = pularEspacos(linha, pos[0]);
+                String nome = lerTextoJson(linha, pos);
+                esperar(linha, pos, ':');
+                String valor = lerValorJson(linha, pos);
+                if (valor != null) {
+                    campos.put(nome.toLowerCase(Locale.ROOT), valor);
+                }
+                pos[0] = pularEspacos(linha, pos[0]);
+                if (pos[0] < linha.length() && linha.charAt(pos[0]) == ',') {
+                    pos[0]++;
+                    continue;
+                }
+                esperar(linha, pos, '}');
+                break;
+            }
+        }
+        if (pularEspacos(linha, pos[0]) != linha.length()) {
+            throw new IllegalArgumentException("JSON inválido: conteúdo após o fim do objeto.");
+        }
+        return campos;
+    }
+
+    /**
+     * Lê um valor JSON a partir da posição atual.
+     */
+    private static String lerValorJson(String linha, int[] pos) {
+        pos[0] = pularEspacos(linha, pos[0]);
+        if (pos[0] >= linha.length()) {
+            throw new IllegalArgumentException("JSON inválido: valor ausente.");
+        }
+        char c = linha.charAt(pos[0]);
+        if (c == '"') {
+            return lerTextoJson(linha, pos);
+        }
+        if (c == '{' || c == '[') {
+            throw new IllegalArgumentException("JSON inválido: objetos e listas aninhados não são suportados.");
+        }
+        int inicio = pos[0];
+        while (pos[0] < linha.length() && ",} \t".indexOf(linha.charAt(pos[0])) < 0) {
+            pos[0]++;
+        }
+        String literal = linha.substring(inicio, pos[0]);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false") || NUMERO_JSON.matcher(literal).matches()) {
+            return literal;
+        }
+        throw new IllegalArgumentException("JSON inválido: valor " + literal + ".");
+    }
+
+    /**
+     * Lê um texto JSON entre aspas a partir da posição atual, tratando as sequências de escape.
+     */
+    private static String lerTextoJson(String linha, int[] pos) {
+        esperar(linha, pos, '"');
+        StringBuilder texto = new StringBuilder();
+        while (pos[0] < linha.length()) {
+            char c = linha.charAt(pos[0]++);
+            if (c == '"') {
+                return texto.toString();
+            }
+            if (c != '\\') {
+                texto.append(c);
+                continue;
+            }
+            if (pos[0] >= linha.length()) {
+                break;
+            }
+            char escape = linha.charAt(pos[0]++);
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    texto.append(escape);
+                    break;
+                case 'b':
+                    texto.append('\b');
+                    break;
+                case 'f':
+                    texto.append('\f');
+                    break;
+                case 'n':
+                    texto.append('\n');
+                    break;
+                case 'r':
+                    texto.append('\r');
+                    break;
+                case 't':
+                    texto.append('\t');
+                    break;
+                case 'u':
+                    if (pos[0] + 4 > linha.length()) {
+                        throw new IllegalArgumentException("JSON inválido: escape \\u incompleto.");
+                    }
+                    try {
+                        texto.append((char) Integer.parseInt(linha.substring(pos[0], pos[0] + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("JSON inválido: escape \\u" + linha.substring(pos[0], pos[0] + 4) + ".");
+                    }
+                    pos[0] += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("JSON inválido: escape \\" + escape + ".");
+            }
+        }
+        throw new IllegalArgumentException("JSON inválido: texto não fechado.");
+    }
+
+    /**
+     * Verifica o caractere esperado na posição atual (após espaços) e avança.
+     */
+    private static void esperar(String linha, int[] pos, char esperado) {
+        pos[0] = pularEspacos(linha, pos[0]);
+        if (pos[0] >= linha.length() || linha.charAt(pos[0]) != esperado) {
+            throw new IllegalArgumentException("JSON inválido: esperado '" + esperado + "' na posição " + (pos[0] + 1) + ".");
+        }
+        pos[0]++;
+    }
+
+    /**
+     * Avança a posição até o próximo caractere que não seja espaço.
+     */
+    private static int pularEspacos(String linha, int pos) {
+        while (pos < linha.length() && Character.isWhitespace(linha.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,102 @@
+package arquivo;
+
+import classe.Validacao;
+import java.util.Map;
+
+/**
+ * Linha lida de um arquivo de importação: o número da linha, o texto original e os
+ * campos por nome (ou o erro, se a linha não pôde ser interpretada).
+ */
+final class Registro {
+    // Número da linha no arquivo
+    private final long linha;
+    // Texto original da linha
+    private final String texto;
+    // Campos da linha por nome (null se a linha estiver malformada)
+    private final Map<String, String> campos;
+    // Motivo pelo qual a linha não pôde ser interpretada (null se estiver correta)
+    private final String erro;
+
+    Registro(long linha, String texto, Map<String, String> campos, String erro) {
+        this.linha = linha;
+        this.texto = texto;
+        this.campos = campos;
+        this.erro = erro;
+    }
+
+    long getLinha() {
+        return linha;
+    }
+
+    String getTexto() {
+        return texto;
+    }
+
+    String getErro() {
+        return erro;
+    }
+
+    /**
+     * Obtém um campo de texto obrigatório.
+     *
+     * @param nome o nome do campo
+     * @return o valor do campo, sem espaços nas pontas
+     * @throws IllegalArgumentException se o campo estiver ausente ou vazio
+     */
+    String texto(String nome) {
+        String valor = textoOpcional(nome);
+        if (valor == null) {
+            throw new IllegalArgumentException("Campo obrigatório ausente: " + nome + ".");
+        }
+        return valor;
+    }
+
+    /**
+     * Obtém um campo de texto opcional.
+     *
+     * @param nome o nome do campo
+     * @return o valor do campo, sem espaços nas pontas, ou null se estiver ausente ou vazio
+     */
+    String textoOpcional(String nome) {
+        String valor = campos.get(nome);
+        if (Validacao.emBranco(valor)) {
+            return null;
+        }
+        return valor.trim();
+    }
+
+    /**
+     * Obtém um campo inteiro obrigatório.
+     *
+     * @param nome o nome do campo
+     * @return o valor do campo
+     * @throws IllegalArgumentException se o campo estiver ausente ou não for um número inteiro
+     */
+    int inteiro(String nome) {
+        return converterInteiro(nome, texto(nome));
+    }
+
+    /**
+     * Obtém um campo inteiro opcional.
+     *
+     * @param nome   o nome do campo
+     * @param padrao o valor usado se o campo estiver ausente ou vazio
+     * @return o valor do campo, ou o padrão
+     * @throws IllegalArgumentException se o campo não for um número inteiro
+     */
+    int inteiroOpcional(String nome, int padrao) {
+        String valor = textoOpcional(nome);
+        return valor != null ? converterInteiro(nome, valor) : padrao;
+    }
+
+    /**
+     * Converte o valor de um campo inteiro.
+     */
+    private static int converterInteiro(String nome, String valor) {
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + nome + ": " + valor + ".");
+        }
+    }
+}
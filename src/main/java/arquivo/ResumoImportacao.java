@@ -0,0 +1,120 @@
+package arquivo;
+
+/**
+ * Andamento de uma importação: quantos registros foram lidos, importados e rejeitados,
+ * contando desde o início do arquivo (inclusive antes de um checkpoint retomado).
+ */
+public class ResumoImportacao {
+    // Arquivo importado
+    private final String arquivo;
+    // Linha a partir da qual a importação foi retomada (0 se começou do início)
+    private final long linhaInicial;
+    // Registros lidos, importados e rejeitados
+    private long lidos;
+    private long importados;
+    private long rejeitados;
+    // Última linha processada e confirmada
+    private long ultimaLinha;
+    // Indica se o arquivo foi importado até o fim
+    private boolean concluido;
+
+    ResumoImportacao(String arquivo, long linhaInicial, long lidos, long importados, long rejeitados) {
+        this.arquivo = arquivo;
+        this.linhaInicial = linhaInicial;
+        this.lidos = lidos;
+        this.importados = importados;
+        this.rejeitados = rejeitados;
+        this.ultimaLinha = linhaInicial;
+    }
+
+    /**
+     * Registra um bloco processado.
+     */
+    void adicionarBloco(long lidos, long importados, long rejeitados, long ultimaLinha) {
+        this.lidos += lidos;
+        this.importados += importados;
+        this.rejeitados += rejeitados;
+        this.ultimaLinha = ultimaLinha;
+    }
+
+    /**
+     * Marca a importação como concluída.
+     */
+    void concluir() {
+        this.concluido = true;
+    }
+
+    /**
+     * Obtém o nome do arquivo importado.
+     *
+     * @return o nome do arquivo
+     */
+    public String getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Obtém a linha do checkpoint a partir da qual a importação foi retomada.
+     *
+     * @return o número da linha, ou 0 se a importação começou do início
+     */
+    public long getLinhaInicial() {
+        return linhaInicial;
+    }
+
+    /**
+     * Obtém a quantidade de registros lidos.
+     *
+     * @return a quantidade de registros lidos
+     */
+    public long getLidos() {
+        return lidos;
+    }
+
+    /**
+     * Obtém a quantidade de registros importados.
+     *
+     * @return a quantidade de registros importados
+     */
+    public long getImportados() {
+        return importados;
+    }
+
+    /**
+     * Obtém a quantidade de registros rejeitados.
+     *
+     * @return a quantidade de registros rejeitados
+     */
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    /**
+     * Obtém a última linha processada e confirmada no banco.
+     *
+     * @return o número da linha
+     */
+    public long getUltimaLinha() {
+        return ultimaLinha;
+    }
+
+    /**
+     * Verifica se o arquivo foi importado até o fim.
+     *
+     * @return true se a importação foi concluída
+     */
+    public boolean isConcluido() {
+        return concluido;
+    }
+
+    /**
+     * Retorna um resumo do andamento.
+     *
+     * @return string com as quantidades de registros
+     */
+    @Override
+    public String toString() {
+        return arquivo + ": " + lidos + " lido(s), " + importados + " importado(s), " + rejeitados +
+               " rejeitado(s) até a linha " + ultimaLinha + (concluido ? " (concluído)" : "");
+    }
+}
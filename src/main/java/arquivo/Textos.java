@@ -0,0 +1,116 @@
+package arquivo;
+
+/**
+ * Formatação de valores para escrita em arquivos CSV e JSON Lines.
+ */
+final class Textos {
+    // Dígitos hexadecimais usados nos escapes de caracteres de controle do JSON
+    private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Textos() {
+    }
+
+    /**
+     * Formata um valor como coluna CSV, entre aspas se contiver o separador, aspas ou quebra de linha.
+     *
+     * @param valor     o valor (null é escrito como coluna vazia)
+     * @param separador o separador das colunas
+     * @return o valor pronto para a linha CSV
+     */
+    static String campoCsv(String valor, char separador) {
+        if (valor == null) {
+            return "";
+        }
+        return acrescentarCsv(new StringBuilder(valor.length() + 2), valor, separador).toString();
+    }
+
+    /**
+     * Acrescenta um valor como coluna CSV ao texto, entre aspas se contiver o separador,
+     * aspas ou quebra de linha, sem criar textos intermediários.
+     *
+     * @param texto     o texto da linha
+     * @param valor     o valor (null é escrito como coluna vazia)
+     * @param separador o separador das colunas
+     * @return o próprio texto
+     */
+    static StringBuilder acrescentarCsv(StringBuilder texto, String valor, char separador) {
+        if (valor == null) {
+            return texto;
+        }
+        boolean aspas = false;
+        for (int i = 0; i < valor.length() && !aspas; i++) {
+            char c = valor.charAt(i);
+            aspas = c == separador || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            return texto.append(valor);
+        }
+        texto.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                texto.append('"');
+            }
+            texto.append(c);
+        }
+        return texto.append('"');
+    }
+
+    /**
+     * Formata um texto como valor JSON, entre aspas e com as sequências de escape necessárias.
+     *
+     * @param valor o texto (null é escrito como null)
+     * @return o valor JSON
+     */
+    static String textoJson(String valor) {
+        if (valor == null) {
+            return "null";
+        }
+        return acrescentarJson(new StringBuilder(valor.length() + 2), valor).toString();
+    }
+
+    /**
+     * Acrescenta um texto como valor JSON ao texto, entre aspas e com as sequências de escape
+     * necessárias, sem criar textos intermediários.
+     *
+     * @param texto o texto da linha
+     * @param valor o texto (null é escrito como null)
+     * @return o próprio texto
+     */
+    static StringBuilder acrescentarJson(StringBuilder texto, String valor) {
+        if (valor == null) {
+            return texto.append("null");
+        }
+        texto.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"':
+                    texto.append("\\\"");
+                    break;
+                case '\\':
+                    texto.append("\\\\");
+                    break;
+                case '\n':
+                    texto.append("\\n");
+                    break;
+                case '\r':
+                    texto.append("\\r");
+                    break;
+                case '\t':
+                    texto.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        texto.append("\\u00").append(HEXADECIMAL[c >> 4]).append(HEXADECIMAL[c & 0xF]);
+                    } else {
+                        texto.append(c);
+                    }
+            }
+        }
+        return texto.append('"');
+    }
+}
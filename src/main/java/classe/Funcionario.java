@@ -32,6 +32,25 @@ public class Funcionario extends Pessoa {
         setDepartamento(departamento);
     }
 
+    /**
+     * Cria um Funcionario com dados lidos do banco de dados, que já foram validados ao serem gravados,
+     * sem repetir a validação dos setters. Não use com dados informados pelo usuário.
+     *
+     * @param id           Identificador único (chave estrangeira referenciando Pessoa)
+     * @param nome         Nome completo do funcionário
+     * @param email        E-mail do funcionário
+     * @param matricula    Código único do funcionário
+     * @param departamento Departamento do funcionário
+     * @return o Funcionario criado
+     */
+    public static Funcionario doBanco(int id, String nome, String email, String matricula, String departamento) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.definirDoBanco(id, nome, email);
+        funcionario.matricula = matricula;
+        funcionario.departamento = departamento;
+        return funcionario;
+    }
+
     /**
      * Obtém a matrícula do funcionário.
      *
@@ -49,7 +68,7 @@ public class Funcionario extends Pessoa {
      */
     public void setMatricula(String matricula) {
         // Valida o formato da matrícula (Regra de Negócio 4)
-        if (matricula == null || !matricula.matches("F\\d{3}")) {
+        if (!Validacao.matriculaValida(matricula)) {
             throw new IllegalArgumentException("Matrícula deve seguir o formato F seguido de três dígitos (ex. F001).");
         }
         this.matricula = matricula;
@@ -72,7 +91,7 @@ public class Funcionario extends Pessoa {
      */
     public void setDepartamento(String departamento) {
         // Valida se o departamento é válido (Regra de Negócio 4)
-        if (departamento == null || departamento.trim().isEmpty()) {
+        if (Validacao.emBranco(departamento)) {
             throw new IllegalArgumentException("Departamento não pode ser nulo ou vazio.");
         }
         this.departamento = departamento;
@@ -32,6 +32,30 @@ public class Pessoa {
         setEmail(email);
     }
 
+    /**
+     * Cria uma Pessoa com dados lidos do banco de dados, que já foram validados ao serem gravados,
+     * sem repetir a validação dos setters. Não use com dados informados pelo usuário.
+     *
+     * @param id    Identificador único da pessoa
+     * @param nome  Nome completo da pessoa
+     * @param email Endereço de e-mail
+     * @return a Pessoa criada
+     */
+    public static Pessoa doBanco(int id, String nome, String email) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.definirDoBanco(id, nome, email);
+        return pessoa;
+    }
+
+    /**
+     * Define os atributos com dados lidos do banco de dados, sem validação.
+     */
+    void definirDoBanco(int id, String nome, String email) {
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+    }
+
     /**
      * Obtém o ID da pessoa.
      *
@@ -67,7 +91,7 @@ public class Pessoa {
      */
     public void setNome(String nome) {
         // Valida se o nome é válido (Regra de Negócio 4)
-        if (nome == null || nome.trim().isEmpty()) {
+        if (Validacao.emBranco(nome)) {
             throw new IllegalArgumentException("Nome não pode ser nulo ou vazio.");
         }
         this.nome = nome;
@@ -90,7 +114,7 @@ public class Pessoa {
      */
     public void setEmail(String email) {
         // Valida se o e-mail é válido (Regra de Negócio 4)
-        if (email == null || email.trim().isEmpty() || !email.contains("@")) {
+        if (!Validacao.emailValido(email)) {
             throw new IllegalArgumentException("E-mail inválido.");
         }
         this.email = email;
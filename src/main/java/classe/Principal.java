@@ -1,11 +1,17 @@
 package classe;
 
+import arquivo.Exportador;
+import arquivo.Importador;
+import arquivo.ResumoImportacao;
 import dao.PessoaDao;
 import dao.FuncionarioDao;
 import dao.ProjetoDao;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.SQLException;
-import java.util.List;
 import java.util.Scanner;
+import util.Log;
+import util.Transacao;
 
 /**
  * Classe principal para testar as operações CRUD e regras de negócio da aplicação.
@@ -26,6 +32,8 @@ public class Principal {
 
         // Laço para exibir o menu até o usuário escolher sair
         while (true) {
+            // Aguarda as mensagens do log assíncrono para não misturá-las com o menu
+            Log.descarregar();
             System.out.println("\n--- MENU ---");
             System.out.println("1 - Cadastrar Pessoa");
             System.out.println("2 - Listar Pessoas");
@@ -33,6 +41,9 @@ public class Principal {
             System.out.println("4 - Excluir Funcionário");
             System.out.println("5 - Cadastrar Projeto");
             System.out.println("6 - Listar Projetos");
+            System.out.println("7 - Cadastrar Pessoa, Funcionário e Projeto");
+            System.out.println("8 - Importar arquivo CSV ou JSON");
+            System.out.println("9 - Exportar arquivo CSV ou JSON");
             System.out.println("0 - Sair");
             System.out.print("Escolha: ");
             int opcao = sc.nextInt();
@@ -53,15 +64,16 @@ public class Principal {
                         break;
 
                     case 2:
-                        // Lista todas as pessoas cadastradas
-                        List<Pessoa> pessoas = pessoaDao.listar();
-                        if (pessoas.isEmpty()) {
-                            System.out.println("Nenhuma pessoa cadastrada.");
-                        } else {
-                            System.out.println("Pessoas cadastradas:");
-                            for (Pessoa p : pessoas) {
-                                System.out.println(p);
+                        // Lista todas as pessoas cadastradas, lendo uma por vez do banco
+                        int[] totalPessoas = {0};
+                        pessoaDao.percorrer(p -> {
+                            if (totalPessoas[0]++ == 0) {
+                                System.out.println("Pessoas cadastradas:");
                             }
+                            System.out.println(p);
+                        });
+                        if (totalPessoas[0] == 0) {
+                            System.out.println("Nenhuma pessoa cadastrada.");
                         }
                         break;
 
@@ -109,18 +121,67 @@ public class Principal {
                         break;
 
                     case 6:
-                        // Lista todos os projetos cadastrados
-                        List<Projeto> projetos = projetoDao.listar();
-                        if (projetos.isEmpty()) {
-                            System.out.println("Nenhum projeto cadastrado.");
-                        } else {
-                            System.out.println("Projetos cadastrados:");
-                            for (Projeto proj : projetos) {
-                                System.out.println(proj);
+                        // Lista todos os projetos cadastrados, lendo um por vez do banco
+                        int[] totalProjetos = {0};
+                        projetoDao.percorrer(proj -> {
+                            if (totalProjetos[0]++ == 0) {
+                                System.out.println("Projetos cadastrados:");
                             }
+                            System.out.println(proj);
+                        });
+                        if (totalProjetos[0] == 0) {
+                            System.out.println("Nenhum projeto cadastrado.");
                         }
                         break;
 
+                    case 7:
+                        // Cadastro completo em uma única transação: ou tudo é gravado, ou nada
+                        System.out.print("Nome: ");
+                        String nomeNovo = sc.nextLine();
+                        System.out.print("Email: ");
+                        String emailNovo = sc.nextLine();
+                        System.out.print("Matrícula (ex. F001): ");
+                        String matriculaNova = sc.nextLine();
+                        System.out.print("Departamento: ");
+                        String departamentoNovo = sc.nextLine();
+                        System.out.print("Nome do Projeto: ");
+                        String nomeProjNovo = sc.nextLine();
+                        System.out.print("Descrição: ");
+                        String descNova = sc.nextLine();
+                        try (Transacao transacao = Transacao.iniciar()) {
+                            Pessoa novaPessoa = new Pessoa(0, nomeNovo, emailNovo);
+                            pessoaDao.inserir(novaPessoa);
+                            Funcionario novoFuncionario = new Funcionario(novaPessoa.getId(), nomeNovo, emailNovo,
+                                    matriculaNova, departamentoNovo);
+                            funcionarioDao.inserir(novoFuncionario);
+                            projetoDao.inserir(new Projeto(0, nomeProjNovo, descNova, novoFuncionario.getId()));
+                            // Grava as três inclusões com um único commit
+                            transacao.confirmar();
+                        }
+                        break;
+
+                    case 8:
+                        // Importação em lote de um arquivo, com checkpoint e arquivo de rejeitados
+                        System.out.print("Tipo (pessoas, funcionarios ou projetos): ");
+                        String tipo = sc.nextLine().trim();
+                        System.out.print("Arquivo (.csv ou .jsonl): ");
+                        String caminho = sc.nextLine().trim();
+                        ResumoImportacao resumo = new Importador().importar(tipo, Paths.get(caminho), null);
+                        Log.descarregar();
+                        System.out.println("Importação concluída: " + resumo);
+                        break;
+
+                    case 9:
+                        // Exportação direta do cursor do banco para o arquivo (compactado se terminar em .gz)
+                        System.out.print("Tipo (pessoas, funcionarios, projetos ou projetos-responsaveis): ");
+                        String tipoExportacao = sc.nextLine().trim();
+                        System.out.print("Arquivo (.csv ou .jsonl, opcionalmente .gz): ");
+                        String destino = sc.nextLine().trim();
+                        long exportados = new Exportador().exportar(tipoExportacao, Paths.get(destino));
+                        Log.descarregar();
+                        System.out.println("Exportação concluída: " + exportados + " registro(s) em " + destino + ".");
+                        break;
+
                     case 0:
                         // Encerra o programa
                         System.out.println("Encerrando...");
@@ -132,11 +193,17 @@ public class Principal {
                         System.out.println("Opção inválida! Escolha uma opção válida.");
                 }
             } catch (SQLException e) {
+                Log.descarregar();
                 // Exibe erro no console (Regra de Negócio 4)
                 System.err.println("Erro: " + e.getMessage());
             } catch (IllegalArgumentException e) {
+                Log.descarregar();
                 // Exibe erros de validação dos objetos (Regra de Negócio 4)
                 System.err.println("Erro de validação: " + e.getMessage());
+            } catch (IOException e) {
+                Log.descarregar();
+                // Exibe erros de leitura ou gravação do arquivo importado ou exportado (Regra de Negócio 4)
+                System.err.println("Erro no arquivo: " + e.getMessage());
             }
         }
     }
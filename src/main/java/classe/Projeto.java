@@ -36,6 +36,25 @@ public class Projeto {
         this.idFuncionario = idFuncionario;
     }
 
+    /**
+     * Cria um Projeto com dados lidos do banco de dados, que já foram validados ao serem gravados,
+     * sem repetir a validação dos setters. Não use com dados informados pelo usuário.
+     *
+     * @param id            Identificador único do projeto
+     * @param nome          Título do projeto
+     * @param descricao     Descrição detalhada do projeto
+     * @param idFuncionario ID do funcionário responsável
+     * @return o Projeto criado
+     */
+    public static Projeto doBanco(int id, String nome, String descricao, int idFuncionario) {
+        Projeto projeto = new Projeto();
+        projeto.id = id;
+        projeto.nome = nome;
+        projeto.descricao = descricao;
+        projeto.idFuncionario = idFuncionario;
+        return projeto;
+    }
+
     /**
      * Obtém o ID do projeto.
      *
@@ -71,7 +90,7 @@ public class Projeto {
      */
     public void setNome(String nome) {
         // Valida se o nome é válido (Regra de Negócio 4)
-        if (nome == null || nome.trim().isEmpty()) {
+        if (Validacao.emBranco(nome)) {
             throw new IllegalArgumentException("Nome do projeto não pode ser nulo ou vazio.");
         }
         this.nome = nome;
@@ -94,7 +113,7 @@ public class Projeto {
      */
     public void setDescricao(String descricao) {
         // Valida se a descrição é válida (Regra de Negócio 4)
-        if (descricao == null || descricao.trim().isEmpty()) {
+        if (Validacao.emBranco(descricao)) {
             throw new IllegalArgumentException("Descrição do projeto não pode ser nula ou vazia.");
         }
         this.descricao = descricao;
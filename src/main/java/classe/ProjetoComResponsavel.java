@@ -0,0 +1,51 @@
+package classe;
+
+/**
+ * Representa um projeto junto com os dados do seu funcionário responsável.
+ * Usado por consultas que trazem o projeto e o responsável em um único JOIN.
+ */
+public class ProjetoComResponsavel {
+    // Projeto consultado
+    private final Projeto projeto;
+    // Funcionário responsável pelo projeto
+    private final Funcionario responsavel;
+
+    /**
+     * Construtor com parâmetros para inicializar um ProjetoComResponsavel.
+     *
+     * @param projeto     o projeto
+     * @param responsavel o funcionário responsável pelo projeto (ou null, se não existir)
+     */
+    public ProjetoComResponsavel(Projeto projeto, Funcionario responsavel) {
+        this.projeto = projeto;
+        this.responsavel = responsavel;
+    }
+
+    /**
+     * Obtém o projeto.
+     *
+     * @return o projeto
+     */
+    public Projeto getProjeto() {
+        return projeto;
+    }
+
+    /**
+     * Obtém o funcionário responsável.
+     *
+     * @return o funcionário responsável, ou null se ele não existir no banco
+     */
+    public Funcionario getResponsavel() {
+        return responsavel;
+    }
+
+    /**
+     * Retorna uma representação em string do projeto com o responsável.
+     *
+     * @return string com os detalhes do projeto e do responsável
+     */
+    @Override
+    public String toString() {
+        return "ProjetoComResponsavel [projeto=" + projeto + ", responsavel=" + responsavel + "]";
+    }
+}
@@ -0,0 +1,64 @@
+package classe;
+
+/**
+ * Regras de validação dos atributos das classes (Regra de Negócio 4).
+ *
+ * As verificações percorrem os caracteres diretamente, sem criar textos (como faria {@code trim()})
+ * nem compilar expressões regulares (como faria {@code String.matches}), pois os setters são
+ * chamados para cada registro em cargas em lote.
+ */
+public final class Validacao {
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Validacao() {
+    }
+
+    /**
+     * Verifica se o texto é nulo, vazio ou formado apenas por espaços e caracteres de controle
+     * (os mesmos caracteres que {@code String.trim()} remove).
+     *
+     * @param valor o texto
+     * @return true se o texto não tiver conteúdo
+     */
+    public static boolean emBranco(String valor) {
+        if (valor == null) {
+            return true;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se o e-mail tem conteúdo e contém @.
+     *
+     * @param email o e-mail
+     * @return true se o e-mail for válido
+     */
+    public static boolean emailValido(String email) {
+        return !emBranco(email) && email.indexOf('@') >= 0;
+    }
+
+    /**
+     * Verifica se a matrícula segue o formato F seguido de três dígitos (ex. F001).
+     *
+     * @param matricula a matrícula
+     * @return true se a matrícula for válida
+     */
+    public static boolean matriculaValida(String matricula) {
+        return matricula != null && matricula.length() == 4 && matricula.charAt(0) == 'F' &&
+               digito(matricula.charAt(1)) && digito(matricula.charAt(2)) && digito(matricula.charAt(3));
+    }
+
+    /**
+     * Verifica se o caractere é um dígito de 0 a 9.
+     */
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
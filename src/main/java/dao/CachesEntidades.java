@@ -0,0 +1,138 @@
+package dao;
+
+import classe.Funcionario;
+import classe.Pessoa;
+import classe.Projeto;
+import util.CacheLru;
+import util.Metricas;
+import util.Transacao;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Caches de leitura compartilhados pelos DAOs para {@code buscarPorId}.
+ * São estáticos porque cada DAO pode ter várias instâncias, e as invalidações
+ * feitas por uma delas precisam valer para todas.
+ * O tamanho e a validade vêm das propriedades {@code empresa.cache.tamanho}
+ * (0 desativa) e {@code empresa.cache.validadeMs} (0 = sem validade).
+ */
+public final class CachesEntidades {
+    // Configuração dos caches
+    private static final int TAMANHO = Integer.getInteger("empresa.cache.tamanho", 10000);
+    private static final long VALIDADE_MS = Long.getLong("empresa.cache.validadeMs", 0L);
+
+    // Cache de Pessoas por ID
+    public static final CacheLru<Pessoa> PESSOAS = new CacheLru<>(TAMANHO, VALIDADE_MS,
+            p -> Pessoa.doBanco(p.getId(), p.getNome(), p.getEmail()));
+    // Cache de Funcionarios por ID
+    public static final CacheLru<Funcionario> FUNCIONARIOS = new CacheLru<>(TAMANHO, VALIDADE_MS,
+            f -> Funcionario.doBanco(f.getId(), f.getNome(), f.getEmail(), f.getMatricula(), f.getDepartamento()));
+    // Cache de Projetos por ID
+    public static final CacheLru<Projeto> PROJETOS = new CacheLru<>(TAMANHO, VALIDADE_MS,
+            p -> Projeto.doBanco(p.getId(), p.getNome(), p.getDescricao(), p.getIdFuncionario()));
+
+    // Ouvintes avisados a cada invalidação
+    private static final List<OuvinteAlteracoes> OUVINTES = new CopyOnWriteArrayList<>();
+
+    static {
+        // Publica os indicadores dos caches via JMX
+        Metricas.publicar("CacheLru", "pessoa", PESSOAS);
+        Metricas.publicar("CacheLru", "funcionario", FUNCIONARIOS);
+        Metricas.publicar("CacheLru", "projeto", PROJETOS);
+    }
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private CachesEntidades() {
+    }
+
+    /**
+     * Verifica se os caches podem ser usados na thread atual.
+     * Dentro de uma {@link Transacao} as leituras vão sempre ao banco, para enxergar as
+     * alterações ainda não confirmadas, e não são guardadas, pois podem ser desfeitas.
+     *
+     * @return true se não houver transação aberta
+     */
+    static boolean disponiveis() {
+        return !Transacao.ativa();
+    }
+
+    /**
+     * Invalida uma Pessoa e o Funcionario de mesmo ID, que também contém os dados da Pessoa.
+     *
+     * @param id o ID da Pessoa
+     */
+    static void invalidarPessoa(int id) {
+        invalidar(PESSOAS, id);
+        invalidar(FUNCIONARIOS, id);
+        avisar(() -> OUVINTES.forEach(o -> o.pessoaAlterada(id)));
+    }
+
+    /**
+     * Invalida um Funcionario.
+     *
+     * @param id o ID do Funcionario
+     */
+    static void invalidarFuncionario(int id) {
+        invalidar(FUNCIONARIOS, id);
+        avisar(() -> OUVINTES.forEach(o -> o.funcionarioAlterado(id)));
+    }
+
+    /**
+     * Invalida um Projeto.
+     *
+     * @param id o ID do Projeto
+     */
+    static void invalidarProjeto(int id) {
+        invalidar(PROJETOS, id);
+        avisar(() -> OUVINTES.forEach(o -> o.projetoAlterado(id)));
+    }
+
+    /**
+     * Invalida o ID agora e, dentro de uma transação, novamente ao terminá-la:
+     * outras threads podem ter guardado o valor anterior antes do commit.
+     */
+    private static void invalidar(CacheLru<?> cache, int id) {
+        cache.invalidar(id);
+        Transacao.aoTerminar(() -> cache.invalidar(id));
+    }
+
+    /**
+     * Avisa os ouvintes agora e, dentro de uma transação, novamente ao terminá-la.
+     */
+    private static void avisar(Runnable aviso) {
+        if (OUVINTES.isEmpty()) {
+            return;
+        }
+        aviso.run();
+        Transacao.aoTerminar(aviso);
+    }
+
+    /**
+     * Registra um ouvinte das alterações feitas pelos DAOs.
+     *
+     * @param ouvinte o ouvinte
+     */
+    public static void adicionarOuvinte(OuvinteAlteracoes ouvinte) {
+        OUVINTES.add(ouvinte);
+    }
+
+    /**
+     * Remove um ouvinte registrado.
+     *
+     * @param ouvinte o ouvinte
+     */
+    public static void removerOuvinte(OuvinteAlteracoes ouvinte) {
+        OUVINTES.remove(ouvinte);
+    }
+
+    /**
+     * Limpa todos os caches.
+     */
+    public static void limpar() {
+        PESSOAS.limpar();
+        FUNCIONARIOS.limpar();
+        PROJETOS.limpar();
+    }
+}
@@ -0,0 +1,460 @@
+package dao;
+
+import util.Conexao;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Funções auxiliares para consultas de listagem.
+ * Os Streams usam cursores do servidor (useCursorFetch com setFetchSize), de modo que apenas
+ * um bloco de linhas fica em memória por vez, qualquer que seja o tamanho da tabela.
+ * As páginas usam paginação por chave, sem OFFSET.
+ */
+final class Consultas {
+    // Quantidade de linhas buscadas do cursor do servidor por vez
+    static final int TAMANHO_FETCH = Integer.getInteger("empresa.fetchSize", 500);
+    // Quantidade máxima de valores por consulta IN
+    static final int MAXIMO_IN = 512;
+    // Somado ao ID por LAST_INSERT_ID nos INSERT ... ON DUPLICATE KEY UPDATE: como nenhum ID INT chega a
+    // esse valor, uma chave gerada a partir dele indica que a linha já existia, qualquer que seja a
+    // contagem de linhas afetadas do driver
+    static final long MARCA_ATUALIZACAO = 1L << 32;
+    // Atribuição final desses comandos: mantém o ID da linha encontrada e o devolve, marcado, nas chaves geradas
+    static final String DEVOLVER_ID_ATUALIZADO =
+            "id = LAST_INSERT_ID(id + " + MARCA_ATUALIZACAO + ") - " + MARCA_ATUALIZACAO;
+    // Tempo de validade das estimativas de total de linhas
+    private static final long VALIDADE_ESTIMATIVA_MS = 60000;
+    // Estimativas de total por tabela: {total, instante do cálculo}
+    private static final Map<String, long[]> ESTIMATIVAS = new ConcurrentHashMap<>();
+
+    /**
+     * Define os parâmetros de uma consulta.
+     */
+    interface Parametros {
+        void definir(PreparedStatement stmt) throws SQLException;
+
+        // Consulta sem parâmetros
+        Parametros NENHUM = stmt -> { };
+    }
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Consultas() {
+    }
+
+    /**
+     * Executa a consulta e retorna um Stream lido diretamente do cursor.
+     * A conexão, o statement e o ResultSet ficam abertos até o Stream ser fechado,
+     * por isso o Stream deve ser usado em um bloco try-with-resources.
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @param sql        consulta SQL
+     * @param parametros define os parâmetros da consulta
+     * @param mapeador   converte cada linha em um objeto
+     * @param mensagem   prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return Stream das linhas da consulta
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    static <T> Stream<T> stream(String sql, Parametros parametros, MapeadorLinha<T> mapeador,
+                                String mensagem) throws SQLException {
+        Connection conn = Conexao.getConexao();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            // Statement próprio (fora do cache), somente leitura e só para frente
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(TAMANHO_FETCH);
+            parametros.definir(stmt);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            fechar(rs, stmt, conn);
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException(mensagem + e.getMessage());
+        }
+
+        ResultSet cursor = rs;
+        PreparedStatement statement = stmt;
+        Spliterator<T> linhas = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> acao) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    acao.accept(mapeador.mapear(cursor));
+                    return true;
+                } catch (SQLException e) {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new ErroBancoDados(mensagem + e.getMessage(), e);
+                }
+            }
+        };
+        return StreamSupport.stream(linhas, false).onClose(() -> fechar(cursor, statement, conn));
+    }
+
+    /**
+     * Executa a consulta e entrega cada linha ao consumidor, fechando os recursos ao final.
+     *
+     * @param sql        consulta SQL
+     * @param parametros define os parâmetros da consulta
+     * @param mapeador   converte cada linha em um objeto
+     * @param acao       recebe cada objeto lido
+     * @param mensagem   prefixo da mensagem de erro (Regra de Negócio 4)
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static <T> long percorrer(String sql, Parametros parametros, MapeadorLinha<T> mapeador,
+                              Consumer<? super T> acao, String mensagem) throws SQLException {
+        try (Stream<T> linhas = stream(sql, parametros, mapeador, mensagem)) {
+            long[] total = {0};
+            linhas.forEach(item -> {
+                acao.accept(item);
+                total[0]++;
+            });
+            return total[0];
+        } catch (ErroBancoDados e) {
+            throw new SQLException(e.getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Executa a consulta e entrega cada linha do cursor ao processador, sem criar objetos,
+     * fechando os recursos ao final. Exceções não verificadas lançadas pelo processador
+     * interrompem a leitura e são propagadas sem alteração.
+     *
+     * @param sql         consulta SQL
+     * @param parametros  define os parâmetros da consulta
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @param mensagem    prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static long percorrerLinhas(String sql, Parametros parametros, ProcessadorLinha processador,
+                                String mensagem) throws SQLException {
+        try (Connection conn = Conexao.getConexao();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(TAMANHO_FETCH);
+            parametros.definir(stmt);
+            long linhas = 0;
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    processador.processar(rs);
+                    linhas++;
+                }
+            }
+            return linhas;
+        } catch (SQLException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException(mensagem + e.getMessage());
+        }
+    }
+
+    /**
+     * Entrega ao processador as linhas dos IDs informados, consultando-os em blocos de até
+     * {@link #MAXIMO_IN} valores. IDs que não existem simplesmente não geram linhas.
+     *
+     * @param sqlIn       consulta SQL terminada em {@code IN}, à qual a lista de parâmetros é acrescentada
+     * @param ids         IDs a consultar
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @param mensagem    prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static long percorrerLinhasPorIds(String sqlIn, Collection<Integer> ids, ProcessadorLinha processador,
+                                      String mensagem) throws SQLException {
+        List<Integer> valores = new ArrayList<>(new HashSet<>(ids));
+        long linhas = 0;
+        for (int inicio = 0; inicio < valores.size(); inicio += MAXIMO_IN) {
+            List<Integer> bloco = valores.subList(inicio, Math.min(inicio + MAXIMO_IN, valores.size()));
+            int tamanho = tamanhoIn(bloco.size());
+            String sql = sqlIn + " (" + parametrosIn(tamanho) + ")";
+            linhas += percorrerLinhas(sql, stmt -> definirIn(stmt, 1, bloco, tamanho), processador, mensagem);
+        }
+        return linhas;
+    }
+
+    /**
+     * Executa uma consulta de paginação por chave e monta a página.
+     * A consulta deve ter dois parâmetros, nesta ordem: o ID após o qual a página começa
+     * ({@code WHERE id > ?}) e o limite de linhas ({@code ORDER BY id LIMIT ?}).
+     * Uma linha a mais é pedida para saber se existe uma próxima página.
+     *
+     * @param sql      consulta SQL com os parâmetros de início e limite
+     * @param aposId   ID após o qual a página começa (0 para a primeira página)
+     * @param limite   quantidade máxima de itens da página
+     * @param mapeador converte cada linha em um objeto
+     * @param id       obtém o ID de um item
+     * @param mensagem prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return a página de resultados
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static <T> Pagina<T> pagina(String sql, int aposId, int limite, MapeadorLinha<T> mapeador,
+                                ToIntFunction<T> id, String mensagem) throws SQLException {
+        return pagina(sql, Parametros.NENHUM, 0, aposId, limite, mapeador, id, mensagem);
+    }
+
+    /**
+     * Executa uma consulta filtrada de paginação por chave e monta a página.
+     * Os parâmetros do filtro vêm primeiro ({@code WHERE coluna = ? AND id > ?}), seguidos do
+     * ID após o qual a página começa e do limite de linhas ({@code ORDER BY id LIMIT ?}).
+     * Uma linha a mais é pedida para saber se existe uma próxima página.
+     *
+     * @param sql              consulta SQL com os parâmetros do filtro, de início e de limite
+     * @param filtro           define os parâmetros do filtro
+     * @param parametrosFiltro quantidade de parâmetros definidos pelo filtro
+     * @param aposId           ID após o qual a página começa (0 para a primeira página)
+     * @param limite           quantidade máxima de itens da página
+     * @param mapeador         converte cada linha em um objeto
+     * @param id               obtém o ID de um item
+     * @param mensagem         prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return a página de resultados
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static <T> Pagina<T> pagina(String sql, Parametros filtro, int parametrosFiltro, int aposId, int limite,
+                                MapeadorLinha<T> mapeador, ToIntFunction<T> id, String mensagem) throws SQLException {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite da página deve ser um valor positivo.");
+        }
+        List<T> itens = new ArrayList<>(Math.min(limite + 1, 1024));
+        try (Connection conn = Conexao.getConexao();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            // Define os parâmetros da query
+            filtro.definir(stmt);
+            stmt.setInt(parametrosFiltro + 1, aposId);
+            stmt.setInt(parametrosFiltro + 2, limite + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(mapeador.mapear(rs));
+                }
+            }
+        } catch (SQLException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException(mensagem + e.getMessage());
+        }
+        boolean temMais = itens.size() > limite;
+        if (temMais) {
+            itens.remove(limite);
+        }
+        int ultimoId = itens.isEmpty() ? 0 : id.applyAsInt(itens.get(itens.size() - 1));
+        return new Pagina<>(itens, ultimoId, temMais);
+    }
+
+    /**
+     * Executa uma consulta que retorna no máximo uma linha, como a busca por uma coluna única.
+     *
+     * @param sql        consulta SQL
+     * @param parametros define os parâmetros da consulta
+     * @param mapeador   converte a linha em um objeto
+     * @param mensagem   prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return o objeto, ou null se a consulta não retornar linhas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static <T> T unico(String sql, Parametros parametros, MapeadorLinha<T> mapeador, String mensagem) throws SQLException {
+        try (Connection conn = Conexao.getConexao();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            // Define os parâmetros da query
+            parametros.definir(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapeador.mapear(rs) : null;
+            }
+        } catch (SQLException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException(mensagem + e.getMessage());
+        }
+    }
+
+    /**
+     * Monta o padrão de uma busca por prefixo ({@code coluna LIKE ? ESCAPE '!'}), tratando os
+     * caracteres curinga do prefixo como texto. Uma busca por prefixo usa o índice da coluna.
+     *
+     * @param prefixo o início do valor procurado
+     * @return o padrão LIKE
+     */
+    static String padraoPrefixo(String prefixo) {
+        StringBuilder padrao = new StringBuilder(prefixo.length() + 2);
+        for (int i = 0; i < prefixo.length(); i++) {
+            char c = prefixo.charAt(i);
+            if (c == '%' || c == '_' || c == '!') {
+                padrao.append('!');
+            }
+            padrao.append(c);
+        }
+        return padrao.append('%').toString();
+    }
+
+    /**
+     * Estima a quantidade de linhas da tabela sem executar COUNT(*).
+     * Usa a estatística TABLE_ROWS do information_schema e, se ela não estiver disponível, um COUNT(*);
+     * o valor fica em cache por um minuto. No InnoDB, TABLE_ROWS é uma estimativa por amostragem que
+     * pode errar por uma grande margem, e o MySQL 8 ainda a guarda em cache por
+     * information_schema_stats_expiry (padrão 86400 s): o valor pode estar horas desatualizado.
+     * Use para dimensionar telas e relatórios, nunca quando a contagem exata importar.
+     *
+     * @param tabela   nome da tabela (constante interna, nunca entrada do usuário)
+     * @param mensagem prefixo da mensagem de erro (Regra de Negócio 4)
+     * @return quantidade estimada de linhas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static long estimarTotal(String tabela, String mensagem) throws SQLException {
+        long agora = System.currentTimeMillis();
+        long[] emCache = ESTIMATIVAS.get(tabela);
+        if (emCache != null && agora - emCache[1] < VALIDADE_ESTIMATIVA_MS) {
+            return emCache[0];
+        }
+        long total = -1;
+        try (Connection conn = Conexao.getConexao()) {
+            // Estatística mantida pelo próprio banco
+            String sql = "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+                         "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, tabela);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        total = rs.getLong(1);
+                        if (rs.wasNull()) {
+                            total = -1;
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                // Banco sem a estatística TABLE_ROWS (por exemplo, H2 nos benchmarks)
+                total = -1;
+            }
+            if (total < 0) {
+                // Estatística indisponível: conta as linhas
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM " + tabela);
+                     ResultSet rs = stmt.executeQuery()) {
+                    total = rs.next() ? rs.getLong(1) : 0;
+                }
+            }
+        } catch (SQLException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException(mensagem + e.getMessage());
+        }
+        ESTIMATIVAS.put(tabela, new long[] { total, agora });
+        return total;
+    }
+
+    /**
+     * Verifica se o erro é uma violação de integridade, como a chave estrangeira que impede
+     * excluir uma linha referenciada (MySQL: erro 1451, SQLState 23000).
+     *
+     * @param e o erro lançado pelo banco
+     * @return true se o erro for uma violação de integridade
+     */
+    static boolean violaIntegridade(SQLException e) {
+        return e.getErrorCode() == 1451 || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+
+    /**
+     * Calcula quantos parâmetros usar em uma consulta IN: a potência de dois igual ou
+     * maior que a quantidade de valores. Completar a lista (repetindo o último valor)
+     * mantém poucos textos SQL distintos e permite reaproveitar o cache de statements.
+     *
+     * @param quantidade quantidade de valores (até {@link #MAXIMO_IN})
+     * @return quantidade de parâmetros da consulta
+     */
+    static int tamanhoIn(int quantidade) {
+        int tamanho = Integer.highestOneBit(Math.max(1, quantidade));
+        return tamanho < quantidade ? tamanho << 1 : tamanho;
+    }
+
+    /**
+     * Monta a lista de parâmetros de uma consulta IN, no formato {@code ?, ?, ?}.
+     *
+     * @param quantidade quantidade de parâmetros
+     * @return a lista de parâmetros
+     */
+    static String parametrosIn(int quantidade) {
+        StringBuilder parametros = new StringBuilder(quantidade * 3);
+        for (int i = 0; i < quantidade; i++) {
+            parametros.append(i == 0 ? "?" : ", ?");
+        }
+        return parametros.toString();
+    }
+
+    /**
+     * Define os parâmetros de uma consulta IN a partir da posição informada,
+     * repetindo o último valor até completar a quantidade de parâmetros.
+     *
+     * @param stmt       statement da consulta
+     * @param inicio     posição do primeiro parâmetro
+     * @param valores    valores a consultar (não vazio)
+     * @param parametros quantidade de parâmetros da consulta
+     * @throws SQLException se ocorrer um erro ao definir os parâmetros
+     */
+    static void definirIn(PreparedStatement stmt, int inicio, List<Integer> valores, int parametros) throws SQLException {
+        for (int i = 0; i < parametros; i++) {
+            stmt.setInt(inicio + i, valores.get(Math.min(i, valores.size() - 1)));
+        }
+    }
+
+    /**
+     * Define os parâmetros de texto de uma consulta IN a partir da posição informada,
+     * repetindo o último valor até completar a quantidade de parâmetros.
+     *
+     * @param stmt       statement da consulta
+     * @param inicio     posição do primeiro parâmetro
+     * @param valores    valores a consultar (não vazio)
+     * @param parametros quantidade de parâmetros da consulta
+     * @throws SQLException se ocorrer um erro ao definir os parâmetros
+     */
+    static void definirInTexto(PreparedStatement stmt, int inicio, List<String> valores, int parametros) throws SQLException {
+        for (int i = 0; i < parametros; i++) {
+            stmt.setString(inicio + i, valores.get(Math.min(i, valores.size() - 1)));
+        }
+    }
+
+    /**
+     * Obtém a primeira chave gerada pelo último comando do statement.
+     *
+     * @param stmt statement preparado com RETURN_GENERATED_KEYS e já executado
+     * @return a chave, ou 0 se o driver não devolveu nenhuma
+     * @throws SQLException se ocorrer um erro ao ler as chaves
+     */
+    static long chaveGerada(PreparedStatement stmt) throws SQLException {
+        try (ResultSet chaves = stmt.getGeneratedKeys()) {
+            return chaves.next() ? chaves.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Fecha o ResultSet, o statement e a conexão, ignorando erros ao fechar.
+     */
+    private static void fechar(ResultSet rs, PreparedStatement stmt, Connection conn) {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+        } catch (SQLException e) {
+            // Ignora erros ao fechar
+        }
+        try {
+            if (stmt != null) {
+                stmt.close();
+            }
+        } catch (SQLException e) {
+            // Ignora erros ao fechar
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            // Ignora erros ao fechar
+        }
+    }
+}
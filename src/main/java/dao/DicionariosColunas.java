@@ -0,0 +1,71 @@
+package dao;
+
+import util.DicionarioTextos;
+import util.Metricas;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Dicionários de textos repetidos usados pelos DAOs ao mapear as colunas configuradas.
+ * As colunas vêm da propriedade {@code empresa.dedup.colunas}, separadas por vírgula, entre
+ * {@code pessoa.nome}, {@code pessoa.email}, {@code funcionario.departamento}, {@code projeto.nome}
+ * e {@code projeto.descricao} (padrão {@code funcionario.departamento}; vazio desativa), e o máximo
+ * de valores distintos por coluna de {@code empresa.dedup.maximo} (padrão 1024).
+ */
+public final class DicionariosColunas {
+    // Configuração dos dicionários
+    private static final Set<String> COLUNAS = colunas(System.getProperty("empresa.dedup.colunas", "funcionario.departamento"));
+    private static final int MAXIMO = Integer.getInteger("empresa.dedup.maximo", 1024);
+
+    // Nome da Pessoa (também usado pelo Funcionario)
+    public static final DicionarioTextos NOME_PESSOA = criar("pessoa.nome");
+    // E-mail da Pessoa (também usado pelo Funcionario)
+    public static final DicionarioTextos EMAIL = criar("pessoa.email");
+    // Departamento do Funcionario
+    public static final DicionarioTextos DEPARTAMENTO = criar("funcionario.departamento");
+    // Nome do Projeto
+    public static final DicionarioTextos NOME_PROJETO = criar("projeto.nome");
+    // Descrição do Projeto
+    public static final DicionarioTextos DESCRICAO = criar("projeto.descricao");
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private DicionariosColunas() {
+    }
+
+    /**
+     * Cria o dicionário da coluna: ativo e publicado via JMX se a coluna estiver configurada,
+     * desativado (devolve os valores sem alteração) caso contrário.
+     */
+    private static DicionarioTextos criar(String coluna) {
+        if (!COLUNAS.contains(coluna)) {
+            return new DicionarioTextos(0);
+        }
+        DicionarioTextos dicionario = new DicionarioTextos(MAXIMO);
+        Metricas.publicar("DicionarioTextos", coluna, dicionario);
+        return dicionario;
+    }
+
+    /**
+     * Separa a lista de colunas configuradas.
+     */
+    private static Set<String> colunas(String configuracao) {
+        Set<String> colunas = new HashSet<>(Arrays.asList(configuracao.trim().toLowerCase(Locale.ROOT).split("\\s*,\\s*")));
+        colunas.remove("");
+        return colunas;
+    }
+
+    /**
+     * Descarta os valores guardados em todos os dicionários, mantendo as métricas.
+     */
+    public static void limpar() {
+        NOME_PESSOA.limpar();
+        EMAIL.limpar();
+        DEPARTAMENTO.limpar();
+        NOME_PROJETO.limpar();
+        DESCRICAO.limpar();
+    }
+}
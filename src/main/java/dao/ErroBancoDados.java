@@ -0,0 +1,32 @@
+package dao;
+
+import java.sql.SQLException;
+
+/**
+ * Exceção não verificada que transporta um SQLException ocorrido durante
+ * a leitura de um Stream, onde exceções verificadas não podem ser lançadas.
+ */
+public class ErroBancoDados extends RuntimeException {
+    // Versão da forma serializada
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Cria a exceção com a mensagem e o SQLException original.
+     *
+     * @param mensagem mensagem de erro (Regra de Negócio 4)
+     * @param causa    o SQLException original
+     */
+    public ErroBancoDados(String mensagem, SQLException causa) {
+        super(mensagem, causa);
+    }
+
+    /**
+     * Obtém o SQLException original.
+     *
+     * @return a causa da exceção
+     */
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
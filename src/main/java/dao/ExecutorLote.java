@@ -0,0 +1,192 @@
+package dao;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Funções auxiliares para as operações em lote dos DAOs.
+ * Divide os itens em blocos e executa cada bloco com addBatch/executeBatch,
+ * registrando as falhas de cada linha sem interromper o lote.
+ */
+final class ExecutorLote {
+    // Quantidade padrão de linhas enviadas por executeBatch
+    static final int TAMANHO_LOTE_PADRAO = 500;
+
+    /**
+     * Processa um bloco de itens do lote.
+     */
+    interface ProcessadorBloco<T> {
+        void processar(List<T> bloco) throws SQLException;
+    }
+
+    /**
+     * Define os parâmetros do statement para um item.
+     */
+    interface Preenchedor<T> {
+        void preencher(PreparedStatement stmt, T item) throws SQLException;
+    }
+
+    /**
+     * Atribui a chave gerada pelo banco a um item inserido.
+     */
+    interface AtribuidorChave<T> {
+        void atribuir(T item, int chave);
+    }
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private ExecutorLote() {
+    }
+
+    /**
+     * Percorre os itens em blocos do tamanho informado.
+     *
+     * @param itens       itens do lote
+     * @param tamanhoLote quantidade de itens por bloco
+     * @param processador processamento de cada bloco
+     * @throws SQLException se o processamento de um bloco falhar
+     */
+    static <T> void emBlocos(Iterable<T> itens, int tamanhoLote, ProcessadorBloco<T> processador) throws SQLException {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser um valor positivo.");
+        }
+        List<T> bloco = new ArrayList<>(Math.min(tamanhoLote, 1024));
+        for (T item : itens) {
+            bloco.add(item);
+            if (bloco.size() == tamanhoLote) {
+                processador.processar(bloco);
+                bloco.clear();
+            }
+        }
+        if (!bloco.isEmpty()) {
+            processador.processar(bloco);
+        }
+    }
+
+    /**
+     * Executa um bloco com executeBatch e registra o resultado de cada linha.
+     * Linhas que falham no banco são registradas como falhas, e as demais seguem no lote.
+     *
+     * @param stmt        statement preparado (com RETURN_GENERATED_KEYS se houver atribuidor)
+     * @param bloco       itens do bloco
+     * @param preenchedor define os parâmetros de cada item
+     * @param atribuidor  atribui as chaves geradas aos itens inseridos (ou null)
+     * @param resultado   resultado do lote a ser preenchido
+     * @throws SQLException se ocorrer um erro que não seja de uma linha específica
+     */
+    static <T> void executarBloco(PreparedStatement stmt, List<T> bloco, Preenchedor<T> preenchedor,
+                                  AtribuidorChave<T> atribuidor, ResultadoLote<T> resultado) throws SQLException {
+        executarBloco(stmt, bloco, preenchedor, atribuidor, null, resultado);
+    }
+
+    /**
+     * Executa um bloco com executeBatch e registra o resultado de cada linha, tratando como
+     * falha as linhas que não afetaram nenhum registro (por exemplo, UPDATE de um ID inexistente).
+     *
+     * @param stmt        statement preparado (com RETURN_GENERATED_KEYS se houver atribuidor)
+     * @param bloco       itens do bloco
+     * @param preenchedor define os parâmetros de cada item
+     * @param atribuidor  atribui as chaves geradas aos itens inseridos (ou null)
+     * @param semLinhas   motivo da falha das linhas sem registros afetados (ou null para tratá-las como sucesso)
+     * @param resultado   resultado do lote a ser preenchido
+     * @throws SQLException se ocorrer um erro que não seja de uma linha específica
+     */
+    static <T> void executarBloco(PreparedStatement stmt, List<T> bloco, Preenchedor<T> preenchedor,
+                                  AtribuidorChave<T> atribuidor, Function<T, String> semLinhas,
+                                  ResultadoLote<T> resultado) throws SQLException {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        int[] contagens;
+        String erro = null;
+        try {
+            for (T item : bloco) {
+                preenchedor.preencher(stmt, item);
+                stmt.addBatch();
+            }
+            try {
+                contagens = stmt.executeBatch();
+            } catch (BatchUpdateException e) {
+                // O driver continua após linhas com erro e informa a contagem de cada uma
+                contagens = e.getUpdateCounts();
+                erro = e.getMessage();
+            }
+        } finally {
+            // Descarta o lote também quando o preenchimento é interrompido no meio
+            stmt.clearBatch();
+        }
+
+        // As chaves geradas vêm na ordem das linhas inseridas com sucesso
+        try (ResultSet chaves = atribuidor != null ? stmt.getGeneratedKeys() : null) {
+            for (int i = 0; i < bloco.size(); i++) {
+                T item = bloco.get(i);
+                if (semLinhas != null && i < contagens.length && contagens[i] == 0) {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    resultado.adicionarFalha(item, semLinhas.apply(item));
+                } else if (i < contagens.length && contagens[i] != Statement.EXECUTE_FAILED) {
+                    if (chaves != null && chaves.next()) {
+                        atribuidor.atribuir(item, chaves.getInt(1));
+                    }
+                    resultado.adicionarSucesso(item);
+                } else {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    resultado.adicionarFalha(item, erro != null ? erro : "Linha não executada pelo banco de dados.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Exclui um bloco de IDs com um único DELETE ... WHERE id IN (...) e classifica cada ID.
+     * O SQL pode ter condições extras (por exemplo, NOT EXISTS de um vínculo): os IDs que
+     * existiam antes e continuam existindo depois do DELETE foram bloqueados por elas.
+     *
+     * @param conn          conexão com o banco de dados
+     * @param tabela        tabela dos IDs
+     * @param sql           monta o DELETE para a quantidade de parâmetros do IN (parâmetros a partir do 1)
+     * @param bloco         IDs distintos do bloco (até {@link Consultas#MAXIMO_IN})
+     * @param vinculado     motivo da falha dos IDs bloqueados (ou null se o SQL não tiver condições extras)
+     * @param naoEncontrado motivo da falha dos IDs inexistentes
+     * @param resultado     resultado do lote a ser preenchido
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static void excluirBloco(Connection conn, VerificadorExistencia.Tabela tabela, IntFunction<String> sql,
+                             List<Integer> bloco, IntFunction<String> vinculado, IntFunction<String> naoEncontrado,
+                             ResultadoLote<Integer> resultado) throws SQLException {
+        Set<Integer> antes = VerificadorExistencia.existentes(conn, tabela, bloco);
+        Set<Integer> depois = Collections.emptySet();
+        if (!antes.isEmpty()) {
+            List<Integer> alvos = new ArrayList<>(antes);
+            int tamanho = Consultas.tamanhoIn(alvos.size());
+            try (PreparedStatement stmt = conn.prepareStatement(sql.apply(tamanho))) {
+                Consultas.definirIn(stmt, 1, alvos, tamanho);
+                stmt.executeUpdate();
+            }
+            if (vinculado != null) {
+                depois = VerificadorExistencia.existentes(conn, tabela, alvos);
+            }
+        }
+        for (Integer id : bloco) {
+            if (!antes.contains(id)) {
+                // Mensagem de erro (Regra de Negócio 4)
+                resultado.adicionarFalha(id, naoEncontrado.apply(id));
+            } else if (depois.contains(id)) {
+                // Mensagem de erro (Regra de Negócio 4)
+                resultado.adicionarFalha(id, vinculado.apply(id));
+            } else {
+                resultado.adicionarSucesso(id);
+            }
+        }
+    }
+}
@@ -1,20 +1,49 @@
 package dao;
 
 import classe.Funcionario;
+import classe.Validacao;
 import util.Conexao;
+import util.Log;
+import util.Medicao;
+import util.Metricas;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Objeto de Acesso a Dados (DAO) para gerenciar entidades Funcionario no banco de dados.
  */
 public class FuncionarioDao {
-    // Instância de PessoaDao para verificar existência de Pessoa
-    private PessoaDao pessoaDao = new PessoaDao();
+    // Consulta das colunas lidas pelo MAPEADOR, na ordem de suas posições; colunas novas nas tabelas não são lidas
+    private static final String SQL_FUNCIONARIO =
+            "SELECT p.id, p.nome, p.email, f.matricula, f.departamento FROM funcionario f JOIN pessoa p ON f.id = p.id";
+    // Insere ou atualiza um funcionário, apenas se existir a Pessoa do ID informado no 4º parâmetro
+    // (Regra de Negócio 1, mesmo sem a chave estrangeira). A linha encontrada só é alterada se for a do ID
+    // informado no 5º e 6º parâmetros: uma matrícula de outro Funcionario não redireciona a gravação.
+    // A chave gerada é o ID inserido ou, na atualização, o ID da linha encontrada somado a MARCA_ATUALIZACAO.
+    private static final String SQL_SALVAR = "INSERT INTO funcionario (id, matricula, departamento) " +
+            "SELECT ?, ?, ? FROM DUAL WHERE EXISTS (SELECT 1 FROM pessoa WHERE id = ?) " +
+            "ON DUPLICATE KEY UPDATE matricula = CASE WHEN id = ? THEN VALUES(matricula) ELSE matricula END, " +
+            "departamento = CASE WHEN id = ? THEN VALUES(departamento) ELSE departamento END, " +
+            Consultas.DEVOLVER_ID_ATUALIZADO;
+    // Cria um Funcionario a partir da linha atual de uma consulta iniciada por SQL_FUNCIONARIO, pela posição das colunas
+    private static final MapeadorLinha<Funcionario> MAPEADOR =
+            rs -> Funcionario.doBanco(rs.getInt(1), DicionariosColunas.NOME_PESSOA.valor(rs.getString(2)),
+                                      DicionariosColunas.EMAIL.valor(rs.getString(3)), rs.getString(4),
+                                      DicionariosColunas.DEPARTAMENTO.valor(rs.getString(5)));
 
     /**
      * Insere um novo Funcionario no banco de dados.
@@ -24,26 +53,31 @@ public class FuncionarioDao {
      * @throws SQLException se ocorrer um erro no banco ou se o ID da Pessoa não existir
      */
     public void inserir(Funcionario funcionario) throws SQLException {
-        // Regra de Negócio 1: Verifica se o ID da Pessoa existe
-        if (pessoaDao.buscarPorId(funcionario.getId()) == null) {
-            throw new SQLException("Não é possível inserir funcionário: Pessoa com ID " + funcionario.getId() + " não existe.");
-        }
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.inserir")) {
+            // Regra de Negócio 1: Verifica se o ID da Pessoa existe
+            if (!VerificadorExistencia.existe(VerificadorExistencia.Tabela.PESSOA, funcionario.getId())) {
+                throw new SQLException("Não é possível inserir funcionário: Pessoa com ID " + funcionario.getId() + " não existe.");
+            }
 
-        // Query SQL para inserir um funcionário
-        String sql = "INSERT INTO funcionario (id, matricula, departamento) VALUES (?, ?, ?)";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define os parâmetros da query
-            stmt.setInt(1, funcionario.getId());
-            stmt.setString(2, funcionario.getMatricula());
-            stmt.setString(3, funcionario.getDepartamento());
-            // Executa a inserção
-            stmt.executeUpdate();
-            // Mensagem de sucesso (Regra de Negócio 5)
-            System.out.println("Funcionário inserido com sucesso: " + funcionario);
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao inserir funcionário: " + e.getMessage());
+            // Query SQL para inserir um funcionário
+            String sql = "INSERT INTO funcionario (id, matricula, departamento) VALUES (?, ?, ?)";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setInt(1, funcionario.getId());
+                stmt.setString(2, funcionario.getMatricula());
+                stmt.setString(3, funcionario.getDepartamento());
+                // Executa a inserção
+                stmt.executeUpdate();
+                // Garante que nenhuma leitura anterior do mesmo ID permaneça no cache
+                CachesEntidades.invalidarFuncionario(funcionario.getId());
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Funcionário inserido com sucesso: " + funcionario);
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir funcionário: " + e.getMessage());
+            }
+            medicao.concluir(1);
         }
     }
 
@@ -54,96 +88,130 @@ public class FuncionarioDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public void atualizar(Funcionario funcionario) throws SQLException {
-        // Query SQL para atualizar um funcionário
-        String sql = "UPDATE funcionario SET matricula = ?, departamento = ? WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define os parâmetros da query
-            stmt.setString(1, funcionario.getMatricula());
-            stmt.setString(2, funcionario.getDepartamento());
-            stmt.setInt(3, funcionario.getId());
-            // Executa a atualização
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Funcionário atualizado com sucesso: " + funcionario);
-            } else {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.atualizar")) {
+            // Query SQL para atualizar um funcionário
+            String sql = "UPDATE funcionario SET matricula = ?, departamento = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setString(1, funcionario.getMatricula());
+                stmt.setString(2, funcionario.getDepartamento());
+                stmt.setInt(3, funcionario.getId());
+                // Executa a atualização
+                int rows = stmt.executeUpdate();
+                // Invalida o Funcionario no cache
+                CachesEntidades.invalidarFuncionario(funcionario.getId());
+                if (rows > 0) {
+                    // Mensagem de sucesso (Regra de Negócio 5)
+                    Log.info(() -> "Funcionário atualizado com sucesso: " + funcionario);
+                } else {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Funcionário com ID " + funcionario.getId() + " não encontrado.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Funcionário com ID " + funcionario.getId() + " não encontrado.");
+                throw new SQLException("Erro ao atualizar funcionário: " + e.getMessage());
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao atualizar funcionário: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
     /**
      * Exclui um Funcionario do banco de dados.
      * Regra de Negócio 3: Proíbe a exclusão se o Funcionario estiver vinculado a um Projeto.
+     * A verificação e a exclusão são feitas no mesmo comando, sem janela para um Projeto
+     * ser vinculado entre as duas.
      *
      * @param id o ID do Funcionario a ser excluído
      * @throws SQLException se ocorrer um erro no banco ou se o Funcionario estiver vinculado a um Projeto
      */
     public void excluir(int id) throws SQLException {
-        // Regra de Negócio 3: Verifica se o Funcionario está vinculado a um Projeto
-        String checkSql = "SELECT COUNT(*) FROM projeto WHERE id_funcionario = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-            checkStmt.setInt(1, id);
-            ResultSet rs = checkStmt.executeQuery();
-            if (rs.next() && rs.getInt(1) > 0) {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.excluir")) {
+            // Regra de Negócio 3: Exclui o Funcionario apenas se não estiver vinculado a um Projeto, em um único comando
+            String sql = "DELETE FROM funcionario WHERE id = ? AND NOT EXISTS (SELECT 1 FROM projeto WHERE id_funcionario = ?)";
+            boolean vinculado;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setInt(1, id);
+                stmt.setInt(2, id);
+                // Executa a exclusão
+                int rows;
+                try {
+                    rows = stmt.executeUpdate();
+                } catch (SQLException e) {
+                    // A chave estrangeira de projeto também impede a exclusão
+                    if (!Consultas.violaIntegridade(e)) {
+                        throw e;
+                    }
+                    rows = 0;
+                }
+                if (rows > 0) {
+                    // Invalida o Funcionario no cache
+                    CachesEntidades.invalidarFuncionario(id);
+                }
+                // Nenhuma linha excluída: se o Funcionario existe, está vinculado a um Projeto
+                vinculado = rows == 0 && VerificadorExistencia.existe(conn, VerificadorExistencia.Tabela.FUNCIONARIO, id);
+                if (rows == 0 && !vinculado) {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Funcionário com ID " + id + " não encontrado.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Não é possível excluir o funcionário com ID " + id + " pois está vinculado a um projeto.");
+                throw new SQLException("Erro ao excluir funcionário: " + e.getMessage());
             }
-        }
-
-        // Query SQL para excluir um funcionário
-        String sql = "DELETE FROM funcionario WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            // Executa a exclusão
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Funcionário com ID " + id + " excluído com sucesso.");
-            } else {
+            if (vinculado) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Funcionário com ID " + id + " não encontrado.");
+                throw new SQLException("Não é possível excluir o funcionário com ID " + id + " pois está vinculado a um projeto.");
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao excluir funcionário: " + e.getMessage());
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Funcionário com ID " + id + " excluído com sucesso.");
+            medicao.concluir(1);
         }
     }
 
     /**
      * Busca um Funcionario pelo ID, incluindo detalhes da Pessoa.
      *
+     * Consulta primeiro o cache de leitura; o banco só é acessado se o Funcionario não estiver em cache.
+     *
      * @param id o ID do Funcionario
      * @return o objeto Funcionario, ou null se não encontrado
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public Funcionario buscarPorId(int id) throws SQLException {
-        // Query SQL para buscar um funcionário com join na tabela pessoa
-        String sql = "SELECT p.id, p.nome, p.email, f.matricula, f.departamento " +
-                    "FROM funcionario f JOIN pessoa p ON f.id = p.id WHERE f.id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    // Cria um objeto Funcionario com os dados retornados
-                    return new Funcionario(rs.getInt("id"), rs.getString("nome"), rs.getString("email"),
-                                          rs.getString("matricula"), rs.getString("departamento"));
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.buscarPorId")) {
+            // Consulta o cache antes do banco (fora de transações)
+            boolean usarCache = CachesEntidades.disponiveis();
+            Funcionario emCache = usarCache ? CachesEntidades.FUNCIONARIOS.obter(id) : null;
+            if (emCache != null) {
+                medicao.concluir(1);
+                return emCache;
+            }
+            long marca = CachesEntidades.FUNCIONARIOS.marca();
+            // Query SQL para buscar um funcionário com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO + " WHERE f.id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define o parâmetro da query
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        // Cria um objeto Funcionario com os dados retornados
+                        Funcionario funcionario = MAPEADOR.mapear(rs);
+                        if (usarCache) {
+                            CachesEntidades.FUNCIONARIOS.colocar(id, funcionario, marca);
+                        }
+                        medicao.concluir(1);
+                        return funcionario;
+                    }
                 }
+                medicao.concluir(0);
+                return null; // Retorna null se não encontrar
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao buscar funcionário: " + e.getMessage());
             }
-            return null; // Retorna null se não encontrar
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao buscar funcionário: " + e.getMessage());
         }
     }
 
@@ -154,23 +222,615 @@ public class FuncionarioDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public List<Funcionario> listar() throws SQLException {
-        // Lista para armazenar os funcionários
-        List<Funcionario> funcionarios = new ArrayList<>();
-        // Query SQL para listar todos os funcionários com join na tabela pessoa
-        String sql = "SELECT p.id, p.nome, p.email, f.matricula, f.departamento " +
-                    "FROM funcionario f JOIN pessoa p ON f.id = p.id";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            // Itera sobre os resultados
-            while (rs.next()) {
-                funcionarios.add(new Funcionario(rs.getInt("id"), rs.getString("nome"), rs.getString("email"),
-                                                rs.getString("matricula"), rs.getString("departamento")));
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.listar")) {
+            // Lista para armazenar os funcionários
+            List<Funcionario> funcionarios = new ArrayList<>();
+            // Query SQL para listar todos os funcionários com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                // Itera sobre os resultados
+                while (rs.next()) {
+                    funcionarios.add(MAPEADOR.mapear(rs));
+                }
+                medicao.concluir(funcionarios.size());
+                return funcionarios;
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao listar funcionários: " + e.getMessage());
             }
-            return funcionarios;
-        } catch (SQLException e) {
+        }
+    }
+
+    /**
+     * Insere vários Funcionarios em lote, usando o tamanho de bloco padrão.
+     *
+     * @param funcionarios os Funcionarios a serem inseridos
+     * @return o resultado do lote, com os Funcionarios inseridos e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Funcionario> inserirLote(Iterable<Funcionario> funcionarios) throws SQLException {
+        return inserirLote(funcionarios, ExecutorLote.TAMANHO_LOTE_PADRAO);
+    }
+
+    /**
+     * Insere vários Funcionarios em lote, em blocos de executeBatch dentro de uma única transação.
+     * Regra de Negócio 1: Verifica de uma vez, para cada bloco, se os IDs das Pessoas existem;
+     * Funcionarios sem Pessoa e linhas com erro são registrados como falhas sem interromper o lote.
+     *
+     * @param funcionarios os Funcionarios a serem inseridos
+     * @param tamanhoLote  quantidade de linhas enviadas por executeBatch
+     * @return o resultado do lote, com os Funcionarios inseridos e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Funcionario> inserirLote(Iterable<Funcionario> funcionarios, int tamanhoLote) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.inserirLote")) {
+            ResultadoLote<Funcionario> resultado = new ResultadoLote<>();
+            // Query SQL para inserir um funcionário
+            String sql = "INSERT INTO funcionario (id, matricula, departamento) VALUES (?, ?, ?)";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    ExecutorLote.emBlocos(funcionarios, tamanhoLote, bloco -> {
+                        // Regra de Negócio 1: Verifica se os IDs das Pessoas existem
+                        Set<Integer> ids = new HashSet<>();
+                        for (Funcionario funcionario : bloco) {
+                            ids.add(funcionario.getId());
+                        }
+                        Set<Integer> existentes = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.PESSOA, ids);
+                        List<Funcionario> validos = new ArrayList<>(bloco.size());
+                        for (Funcionario funcionario : bloco) {
+                            if (existentes.contains(funcionario.getId())) {
+                                validos.add(funcionario);
+                            } else {
+                                resultado.adicionarFalha(funcionario, "Não é possível inserir funcionário: Pessoa com ID " +
+                                                         funcionario.getId() + " não existe.");
+                            }
+                        }
+                        ExecutorLote.executarBloco(stmt, validos, (s, funcionario) -> {
+                            // Define os parâmetros da query
+                            s.setInt(1, funcionario.getId());
+                            s.setString(2, funcionario.getMatricula());
+                            s.setString(3, funcionario.getDepartamento());
+                        }, null, resultado);
+                    });
+                    // Confirma todas as linhas inseridas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Funcionario funcionario : resultado.getSucessos()) {
+                        CachesEntidades.invalidarFuncionario(funcionario.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir lote de funcionários: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de funcionários inserido: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Atualiza vários Funcionarios em lote, em uma única transação.
+     * As linhas são enviadas em blocos com executeBatch; os Funcionarios não encontrados
+     * são registrados como falha sem interromper o lote.
+     *
+     * @param funcionarios os Funcionarios com os dados atualizados
+     * @return o resultado do lote, com os Funcionarios atualizados e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Funcionario> atualizarLote(Iterable<Funcionario> funcionarios) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.atualizarLote")) {
+            ResultadoLote<Funcionario> resultado = new ResultadoLote<>();
+            // Query SQL para atualizar um funcionário
+            String sql = "UPDATE funcionario SET matricula = ?, departamento = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    ExecutorLote.emBlocos(funcionarios, ExecutorLote.TAMANHO_LOTE_PADRAO, bloco ->
+                            ExecutorLote.executarBloco(stmt, bloco, (s, funcionario) -> {
+                                // Define os parâmetros da query
+                                s.setString(1, funcionario.getMatricula());
+                                s.setString(2, funcionario.getDepartamento());
+                                s.setInt(3, funcionario.getId());
+                            }, null, funcionario -> "Funcionário com ID " + funcionario.getId() + " não encontrado.", resultado));
+                    // Confirma todas as linhas atualizadas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Funcionario funcionario : resultado.getSucessos()) {
+                        CachesEntidades.invalidarFuncionario(funcionario.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao atualizar lote de funcionários: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de funcionários atualizado: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Exclui vários Funcionarios pelo ID, em uma única transação.
+     * Os IDs são processados em blocos, com um único DELETE por bloco; IDs repetidos são considerados uma vez.
+     * Regra de Negócio 3: Funcionarios vinculados a um Projeto não são excluídos (verificação feita no próprio DELETE).
+     *
+     * @param ids os IDs a excluir
+     * @return o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados (com o motivo)
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Integer> excluirLote(Collection<Integer> ids) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.excluirLote")) {
+            ResultadoLote<Integer> resultado = new ResultadoLote<>();
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try {
+                    ExecutorLote.emBlocos(new LinkedHashSet<>(ids), Consultas.MAXIMO_IN, bloco ->
+                            ExecutorLote.excluirBloco(conn, VerificadorExistencia.Tabela.FUNCIONARIO, tamanho ->
+                                    "DELETE FROM funcionario WHERE id IN (" + Consultas.parametrosIn(tamanho) + ") " +
+                                    "AND NOT EXISTS (SELECT 1 FROM projeto pr WHERE pr.id_funcionario = funcionario.id)",
+                                    bloco, id -> "Não é possível excluir o funcionário com ID " + id + " pois está vinculado a um projeto.",
+                                    id -> "Funcionário com ID " + id + " não encontrado.", resultado));
+                    // Confirma todas as exclusões de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Integer id : resultado.getSucessos()) {
+                        CachesEntidades.invalidarFuncionario(id);
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao excluir lote de funcionários: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de funcionários excluído: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Salva um Funcionario: insere se ele não existir ou atualiza o existente, com um único
+     * INSERT ... ON DUPLICATE KEY UPDATE. O Funcionario é identificado pelo ID, que é o da Pessoa
+     * já cadastrada; os dados da Pessoa (nome e e-mail) não são alterados, salve-os com {@link PessoaDao#salvar}.
+     * Um Funcionario existente salvo sem nenhuma alteração é informado como atualizado.
+     * Regra de Negócio 1: Verifica se o ID da Pessoa existe (no mesmo comando, que não grava nada sem ela).
+     *
+     * @param funcionario o Funcionario a ser salvo
+     * @return true se o Funcionario foi inserido, false se já existia e foi atualizado
+     * @throws SQLException se ocorrer um erro no banco, se o ID não for informado, se a Pessoa não
+     *                      existir, se a matrícula pertencer a outro Funcionario ou se faltar no
+     *                      banco o índice único da matrícula
+     */
+    public boolean salvar(Funcionario funcionario) throws SQLException {
+        if (funcionario.getId() <= 0) {
             // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao listar funcionários: " + e.getMessage());
+            throw new SQLException("Não é possível salvar funcionário: informe o ID de uma Pessoa já cadastrada.");
+        }
+        Conexao.exigirIndicesUnicos();
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.salvar")) {
+            boolean inserido;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(SQL_SALVAR, Statement.RETURN_GENERATED_KEYS)) {
+                // Define os parâmetros da query
+                stmt.setInt(1, funcionario.getId());
+                stmt.setString(2, funcionario.getMatricula());
+                stmt.setString(3, funcionario.getDepartamento());
+                stmt.setInt(4, funcionario.getId());
+                stmt.setInt(5, funcionario.getId());
+                stmt.setInt(6, funcionario.getId());
+                // Executa a inserção ou atualização e distingue uma da outra pela chave gerada
+                int linhas = stmt.executeUpdate();
+                long chave = Consultas.chaveGerada(stmt);
+                int id;
+                if (chave >= Consultas.MARCA_ATUALIZACAO) {
+                    inserido = false;
+                    id = (int) (chave - Consultas.MARCA_ATUALIZACAO);
+                } else if (chave > 0 || linhas == 1) {
+                    inserido = true;
+                    id = funcionario.getId();
+                } else {
+                    // Nenhuma linha gravada, ou driver que não devolve a chave na atualização: a linha é a dona da matrícula
+                    inserido = false;
+                    Integer dono = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.FUNCIONARIO, "matricula",
+                            Collections.singletonList(funcionario.getMatricula())).get(funcionario.getMatricula());
+                    if (dono == null) {
+                        // Regra de Negócio 1: a Pessoa não existe e nada foi gravado
+                        throw new SQLException("Não é possível salvar funcionário: Pessoa com ID " + funcionario.getId() + " não existe.");
+                    }
+                    id = dono;
+                }
+                if (id != funcionario.getId()) {
+                    // A linha encontrada pela matrícula é de outro Funcionario e não foi alterada
+                    throw new SQLException("A matrícula " + funcionario.getMatricula() + " já pertence ao funcionário com ID " + id + ".");
+                }
+            } catch (SQLException e) {
+                if (e.getErrorCode() == 1452) {
+                    // Regra de Negócio 1: a chave estrangeira recusou o ID da Pessoa
+                    throw new SQLException("Não é possível salvar funcionário: Pessoa com ID " + funcionario.getId() + " não existe.");
+                }
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao salvar funcionário: " + e.getMessage());
+            }
+            // Invalida o Funcionario no cache
+            CachesEntidades.invalidarFuncionario(funcionario.getId());
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Funcionário " + (inserido ? "inserido" : "atualizado") + " com sucesso: " + funcionario);
+            medicao.concluir(1);
+            return inserido;
+        }
+    }
+
+    /**
+     * Salva vários Funcionarios em lote, em uma única transação: cada Funcionario é inserido ou,
+     * se já existir (pelo ID ou pela matrícula), atualizado, com um INSERT ... ON DUPLICATE KEY UPDATE
+     * por linha enviado em blocos de executeBatch.
+     * Regra de Negócio 1: Funcionarios sem Pessoa são registrados como falha.
+     *
+     * @param funcionarios os Funcionarios a serem salvos
+     * @return o resultado do lote, com os Funcionarios inseridos, os atualizados e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro ou se faltar no banco o índice único da matrícula
+     */
+    public ResultadoSalvar<Funcionario> salvarLote(Iterable<Funcionario> funcionarios) throws SQLException {
+        Conexao.exigirIndicesUnicos();
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.salvarLote")) {
+            ResultadoSalvar<Funcionario> resultado = new ResultadoSalvar<>();
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_SALVAR)) {
+                    ExecutorLote.emBlocos(funcionarios, ExecutorLote.TAMANHO_LOTE_PADRAO, bloco ->
+                            salvarBloco(conn, stmt, bloco, resultado));
+                    // Confirma todas as linhas salvas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Funcionario funcionario : resultado.getSucessos()) {
+                        CachesEntidades.invalidarFuncionario(funcionario.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao salvar lote de funcionários: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de funcionários salvo: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Salva um bloco de Funcionarios com o INSERT ... ON DUPLICATE KEY UPDATE preparado.
+     * Antes, consulta de uma vez as matrículas, as Pessoas e os Funcionarios já existentes do bloco;
+     * depois, obtém pela matrícula a linha gravada por cada Funcionario, comparando no banco pela
+     * collation da coluna: uma matrícula igual à de outro Funcionario do bloco não altera a linha dele.
+     */
+    private static void salvarBloco(Connection conn, PreparedStatement stmt, List<Funcionario> bloco,
+                                    ResultadoSalvar<Funcionario> resultado) throws SQLException {
+        // Resolve pela matrícula o ID dos Funcionarios informados sem ID
+        Set<String> matriculas = new HashSet<>();
+        for (Funcionario funcionario : bloco) {
+            matriculas.add(funcionario.getMatricula());
+        }
+        Map<String, Integer> porMatricula = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.FUNCIONARIO,
+                                                                             "matricula", matriculas);
+        Set<Integer> ids = new HashSet<>();
+        for (Funcionario funcionario : bloco) {
+            Integer dono = porMatricula.get(funcionario.getMatricula());
+            if (funcionario.getId() <= 0 && dono != null) {
+                funcionario.setId(dono);
+            }
+            ids.add(funcionario.getId());
+        }
+        // Regra de Negócio 1: Verifica de uma vez se os IDs das Pessoas existem
+        Set<Integer> pessoas = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.PESSOA, ids);
+        Set<Integer> idsExistentes = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.FUNCIONARIO, ids);
+
+        List<Funcionario> validos = new ArrayList<>(bloco.size());
+        for (Funcionario funcionario : bloco) {
+            Integer dono = porMatricula.get(funcionario.getMatricula());
+            if (!pessoas.contains(funcionario.getId())) {
+                resultado.adicionarFalha(funcionario, "Não é possível salvar funcionário: Pessoa com ID " +
+                                         funcionario.getId() + " não existe.");
+                continue;
+            }
+            if (dono != null && dono != funcionario.getId()) {
+                resultado.adicionarFalha(funcionario, "A matrícula " + funcionario.getMatricula() +
+                                         " já pertence ao funcionário com ID " + dono + ".");
+                continue;
+            }
+            validos.add(funcionario);
+        }
+
+        ResultadoLote<Funcionario> parcial = new ResultadoLote<>();
+        ExecutorLote.executarBloco(stmt, validos, (s, funcionario) -> {
+            // Define os parâmetros da query
+            s.setInt(1, funcionario.getId());
+            s.setString(2, funcionario.getMatricula());
+            s.setString(3, funcionario.getDepartamento());
+            s.setInt(4, funcionario.getId());
+            s.setInt(5, funcionario.getId());
+            s.setInt(6, funcionario.getId());
+        }, null, parcial);
+        for (ResultadoLote.Falha<Funcionario> falha : parcial.getFalhas()) {
+            resultado.adicionarFalha(falha.getItem(), falha.getMotivo());
+        }
+
+        // Obtém pela matrícula, agora única, a linha gravada por cada Funcionario
+        List<String> gravadas = new ArrayList<>(parcial.getSucessos().size());
+        for (Funcionario funcionario : parcial.getSucessos()) {
+            gravadas.add(funcionario.getMatricula());
+        }
+        Map<String, Integer> donos = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.FUNCIONARIO,
+                                                                      "matricula", gravadas);
+        Set<Integer> inseridos = new HashSet<>();
+        for (Funcionario funcionario : parcial.getSucessos()) {
+            Integer dono = donos.get(funcionario.getMatricula());
+            if (dono != null && dono != funcionario.getId()) {
+                // Matrícula igual, pela collation, à de outro Funcionario do bloco: a linha dele não foi alterada
+                resultado.adicionarFalha(funcionario, "A matrícula " + funcionario.getMatricula() +
+                                         " já pertence ao funcionário com ID " + dono + ".");
+            } else if (!idsExistentes.contains(funcionario.getId()) && inseridos.add(funcionario.getId())) {
+                resultado.adicionarInserido(funcionario);
+            } else {
+                // Já existia, ou está repetido no bloco: a primeira ocorrência insere, as seguintes atualizam
+                resultado.adicionarAtualizado(funcionario);
+            }
+        }
+    }
+
+    /**
+     * Lista todos os Funcionarios como um Stream lido do cursor do banco, sem carregar a tabela em memória.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @return Stream de todos os Funcionarios
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Funcionario> listarStream() throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.listarStream")) {
+            // Query SQL para listar todos os funcionários com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO;
+            Stream<Funcionario> stream = Consultas.stream(sql, Consultas.Parametros.NENHUM, MAPEADOR, "Erro ao listar funcionários: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Percorre todos os Funcionarios, entregando um por vez à ação, sem carregar a tabela em memória.
+     *
+     * @param acao a ação executada para cada Funcionario
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public void percorrer(Consumer<? super Funcionario> acao) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.percorrer")) {
+            // Query SQL para listar todos os funcionários com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO;
+            long linhas = Consultas.percorrer(sql, Consultas.Parametros.NENHUM, MAPEADOR, acao, "Erro ao listar funcionários: ");
+            medicao.concluir(linhas);
+        }
+    }
+
+    /**
+     * Percorre todos os Funcionarios, em ordem de ID, entregando cada linha do cursor ao processador
+     * sem criar objetos Funcionario. Colunas, nesta ordem: 1 id, 2 nome, 3 email, 4 matricula,
+     * 5 departamento.
+     *
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.percorrerLinhas")) {
+            // Query SQL com join na tabela pessoa e as colunas na ordem documentada
+            String sql = SQL_FUNCIONARIO + " ORDER BY f.id";
+            long linhas = Consultas.percorrerLinhas(sql, Consultas.Parametros.NENHUM, processador, "Erro ao listar funcionários: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Percorre os Funcionarios dos IDs informados, entregando cada linha do cursor ao processador
+     * sem criar objetos. IDs inexistentes são ignorados e a ordem das linhas não é definida.
+     * Colunas, nesta ordem: 1 id, 2 nome, 3 email, 4 matricula, 5 departamento.
+     *
+     * @param ids         IDs a consultar
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(Collection<Integer> ids, ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.percorrerLinhasPorIds")) {
+            // Query SQL com as colunas na ordem documentada; a lista do IN é montada por bloco
+            String sql = SQL_FUNCIONARIO + " WHERE f.id IN";
+            long linhas = Consultas.percorrerLinhasPorIds(sql, ids, processador, "Erro ao buscar funcionários: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Lista uma página de Funcionarios, em ordem de ID, usando paginação por chave.
+     * Para a primeira página use {@code aposId = 0}; para as seguintes, o
+     * {@link Pagina#getUltimoId()} da página anterior.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Funcionarios
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Funcionario> listar(int aposId, int limite) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.listarPagina")) {
+            // Query SQL para listar uma página de funcionários com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO + " WHERE f.id > ? ORDER BY f.id LIMIT ?";
+            Pagina<Funcionario> pagina = Consultas.pagina(sql, aposId, limite, MAPEADOR, Funcionario::getId, "Erro ao listar funcionários: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Busca um Funcionario pela matrícula, incluindo detalhes da Pessoa (índice único da matrícula).
+     *
+     * @param matricula a matrícula do Funcionario
+     * @return o Funcionario, ou null se não encontrado
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Funcionario buscarPorMatricula(String matricula) throws SQLException {
+        if (Validacao.emBranco(matricula)) {
+            throw new IllegalArgumentException("Matrícula não pode ser nula ou vazia.");
+        }
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.buscarPorMatricula")) {
+            // Query SQL para buscar um funcionário pela matrícula com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO + " WHERE f.matricula = ?";
+            Funcionario funcionario = Consultas.unico(sql, stmt -> stmt.setString(1, matricula), MAPEADOR,
+                                                      "Erro ao buscar funcionário: ");
+            medicao.concluir(funcionario != null ? 1 : 0);
+            return funcionario;
+        }
+    }
+
+    /**
+     * Lista uma página dos Funcionarios de um departamento, em ordem de ID, usando paginação por chave.
+     * O filtro é feito no banco pelo índice do departamento.
+     *
+     * @param departamento o departamento procurado
+     * @param aposId       ID após o qual a página começa (0 para a primeira página)
+     * @param limite       quantidade máxima de itens da página
+     * @return a página de Funcionarios do departamento
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Funcionario> buscarPorDepartamento(String departamento, int aposId, int limite) throws SQLException {
+        validarDepartamento(departamento);
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.buscarPorDepartamento")) {
+            // Query SQL para listar uma página dos funcionários do departamento com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO + " WHERE f.departamento = ? AND f.id > ? ORDER BY f.id LIMIT ?";
+            Pagina<Funcionario> pagina = Consultas.pagina(sql, stmt -> stmt.setString(1, departamento), 1, aposId, limite,
+                                                          MAPEADOR, Funcionario::getId, "Erro ao buscar funcionários: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Lista os Funcionarios de um departamento, em ordem de ID, como um Stream lido do cursor do banco.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @param departamento o departamento procurado
+     * @return Stream dos Funcionarios do departamento
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Funcionario> buscarPorDepartamentoStream(String departamento) throws SQLException {
+        validarDepartamento(departamento);
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.buscarPorDepartamentoStream")) {
+            // Query SQL para listar os funcionários do departamento com join na tabela pessoa
+            String sql = SQL_FUNCIONARIO + " WHERE f.departamento = ? ORDER BY f.id";
+            Stream<Funcionario> stream = Consultas.stream(sql, stmt -> stmt.setString(1, departamento), MAPEADOR,
+                                                          "Erro ao buscar funcionários: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Estima o total de Funcionarios cadastrados sem contar as linhas a cada página.
+     * O valor é uma estimativa do banco, que pode errar por uma grande margem e estar horas
+     * desatualizada (veja Consultas.estimarTotal).
+     *
+     * @return quantidade estimada de Funcionarios
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long estimarTotal() throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.estimarTotal")) {
+            long total = Consultas.estimarTotal("funcionario", "Erro ao estimar total de funcionários: ");
+            medicao.concluir(1);
+            return total;
+        }
+    }
+
+    /**
+     * Busca vários Funcionarios pelos IDs, incluindo detalhes da Pessoa.
+     * Os que estão no cache de leitura não são consultados; os demais são buscados
+     * com uma única consulta IN por bloco de IDs. IDs repetidos são consultados uma vez.
+     *
+     * @param ids os IDs dos Funcionarios
+     * @return mapa de ID para Funcionario, apenas com os Funcionarios encontrados
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Map<Integer, Funcionario> buscarPorIds(Collection<Integer> ids) throws SQLException {
+        try (Medicao medicao = Metricas.medir("FuncionarioDao.buscarPorIds")) {
+            Map<Integer, Funcionario> funcionarios = new HashMap<>();
+            // Separa os IDs que não estão no cache
+            List<Integer> faltantes = new ArrayList<>();
+            boolean usarCache = CachesEntidades.disponiveis();
+            for (Integer id : new HashSet<>(ids)) {
+                Funcionario emCache = usarCache ? CachesEntidades.FUNCIONARIOS.obter(id) : null;
+                if (emCache != null) {
+                    funcionarios.put(id, emCache);
+                } else {
+                    faltantes.add(id);
+                }
+            }
+            if (faltantes.isEmpty()) {
+                medicao.concluir(funcionarios.size());
+                return funcionarios;
+            }
+
+            long marca = CachesEntidades.FUNCIONARIOS.marca();
+            try (Connection conn = Conexao.getConexao()) {
+                for (int inicio = 0; inicio < faltantes.size(); inicio += Consultas.MAXIMO_IN) {
+                    List<Integer> bloco = faltantes.subList(inicio, Math.min(inicio + Consultas.MAXIMO_IN, faltantes.size()));
+                    int tamanho = Consultas.tamanhoIn(bloco.size());
+                    // Query SQL para buscar os funcionários do bloco com join na tabela pessoa
+                    String sql = SQL_FUNCIONARIO + " WHERE f.id IN (" +
+                                 Consultas.parametrosIn(tamanho) + ")";
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        Consultas.definirIn(stmt, 1, bloco, tamanho);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                Funcionario funcionario = MAPEADOR.mapear(rs);
+                                if (usarCache) {
+                                    CachesEntidades.FUNCIONARIOS.colocar(funcionario.getId(), funcionario, marca);
+                                }
+                                funcionarios.put(funcionario.getId(), funcionario);
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao buscar funcionários: " + e.getMessage());
+            }
+            medicao.concluir(funcionarios.size());
+            return funcionarios;
+        }
+    }
+
+    /**
+     * Valida o departamento de uma busca.
+     */
+    private static void validarDepartamento(String departamento) {
+        if (Validacao.emBranco(departamento)) {
+            throw new IllegalArgumentException("Departamento não pode ser nulo ou vazio.");
         }
     }
 }
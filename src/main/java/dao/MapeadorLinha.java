@@ -0,0 +1,21 @@
+package dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Converte a linha atual de um ResultSet em um objeto.
+ *
+ * @param <T> tipo do objeto criado
+ */
+@FunctionalInterface
+public interface MapeadorLinha<T> {
+    /**
+     * Cria o objeto a partir da linha atual.
+     *
+     * @param rs o ResultSet posicionado na linha
+     * @return o objeto criado
+     * @throws SQLException se ocorrer um erro ao ler as colunas
+     */
+    T mapear(ResultSet rs) throws SQLException;
+}
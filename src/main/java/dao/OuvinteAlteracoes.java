@@ -0,0 +1,33 @@
+package dao;
+
+/**
+ * Recebe os IDs alterados (inseridos, atualizados ou removidos) pelos DAOs deste processo.
+ * Dentro de uma transação cada aviso é repetido ao terminá-la, pois só então a alteração
+ * fica visível para outras conexões (ou é desfeita). Os avisos são feitos na thread que
+ * alterou o registro, portanto as implementações devem ser rápidas e não devem acessar o banco.
+ *
+ * @see CachesEntidades#adicionarOuvinte(OuvinteAlteracoes)
+ */
+public interface OuvinteAlteracoes {
+
+    /**
+     * Avisa que uma Pessoa foi alterada (o Funcionario de mesmo ID também contém os dados dela).
+     *
+     * @param id o ID da Pessoa
+     */
+    void pessoaAlterada(int id);
+
+    /**
+     * Avisa que um Funcionario foi alterado.
+     *
+     * @param id o ID do Funcionario
+     */
+    void funcionarioAlterado(int id);
+
+    /**
+     * Avisa que um Projeto foi alterado.
+     *
+     * @param id o ID do Projeto
+     */
+    void projetoAlterado(int id);
+}
@@ -0,0 +1,70 @@
+package dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Página de resultados obtida por paginação por chave (keyset).
+ * A próxima página é pedida a partir de {@link #getUltimoId()}, de modo que
+ * cada página custa o mesmo que a primeira, independentemente da posição.
+ *
+ * @param <T> tipo dos itens da página
+ */
+public class Pagina<T> {
+    // Itens da página, em ordem crescente de ID
+    private final List<T> itens;
+    // ID do último item da página (0 se a página estiver vazia)
+    private final int ultimoId;
+    // Indica se existem itens após esta página
+    private final boolean temMais;
+
+    /**
+     * Cria uma página de resultados.
+     *
+     * @param itens    itens da página
+     * @param ultimoId ID do último item da página
+     * @param temMais  se existem itens após esta página
+     */
+    public Pagina(List<T> itens, int ultimoId, boolean temMais) {
+        this.itens = Collections.unmodifiableList(itens);
+        this.ultimoId = ultimoId;
+        this.temMais = temMais;
+    }
+
+    /**
+     * Obtém os itens da página.
+     *
+     * @return lista imutável dos itens
+     */
+    public List<T> getItens() {
+        return itens;
+    }
+
+    /**
+     * Obtém o ID do último item, usado para pedir a próxima página.
+     *
+     * @return o ID do último item, ou 0 se a página estiver vazia
+     */
+    public int getUltimoId() {
+        return ultimoId;
+    }
+
+    /**
+     * Indica se existem itens após esta página.
+     *
+     * @return true se houver uma próxima página
+     */
+    public boolean isTemMais() {
+        return temMais;
+    }
+
+    /**
+     * Retorna uma representação em string da página.
+     *
+     * @return string com o resumo da página
+     */
+    @Override
+    public String toString() {
+        return "Pagina [itens=" + itens.size() + ", ultimoId=" + ultimoId + ", temMais=" + temMais + "]";
+    }
+}
@@ -1,18 +1,46 @@
 package dao;
 
 import classe.Pessoa;
+import classe.Validacao;
 import util.Conexao;
+import util.Log;
+import util.Medicao;
+import util.Metricas;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Objeto de Acesso a Dados (DAO) para gerenciar entidades Pessoa no banco de dados.
  */
 public class PessoaDao {
+    // Consulta das colunas lidas pelo MAPEADOR, na ordem de suas posições; colunas novas na tabela não são lidas
+    private static final String SQL_PESSOA = "SELECT id, nome, email FROM pessoa";
+    // Insere ou atualiza uma pessoa. A linha encontrada só é alterada se for a do ID informado no 4º e 5º
+    // parâmetros (0 = sem ID, encontrada pelo e-mail): um e-mail de outra Pessoa não redireciona a gravação.
+    // A chave gerada é o ID inserido ou, na atualização, o ID da linha encontrada somado a MARCA_ATUALIZACAO.
+    private static final String SQL_SALVAR = "INSERT INTO pessoa (id, nome, email) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "nome = CASE WHEN ? IN (0, id) THEN VALUES(nome) ELSE nome END, " +
+            "email = CASE WHEN ? IN (0, id) THEN VALUES(email) ELSE email END, " +
+            Consultas.DEVOLVER_ID_ATUALIZADO;
+    // Cria uma Pessoa a partir da linha atual de uma consulta iniciada por SQL_PESSOA, pela posição das colunas
+    private static final MapeadorLinha<Pessoa> MAPEADOR =
+            rs -> Pessoa.doBanco(rs.getInt(1), DicionariosColunas.NOME_PESSOA.valor(rs.getString(2)),
+                                 DicionariosColunas.EMAIL.valor(rs.getString(3)));
+
     /**
      * Insere uma nova Pessoa no banco de dados.
      *
@@ -20,26 +48,31 @@ public class PessoaDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public void inserir(Pessoa pessoa) throws SQLException {
-        // Query SQL para inserir uma pessoa
-        String sql = "INSERT INTO pessoa (nome, email) VALUES (?, ?)";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            // Define os parâmetros da query
-            stmt.setString(1, pessoa.getNome());
-            stmt.setString(2, pessoa.getEmail());
-            // Executa a inserção
-            stmt.executeUpdate();
-            // Obtém o ID gerado automaticamente
-            try (ResultSet rs = stmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    pessoa.setId(rs.getInt(1));
+        try (Medicao medicao = Metricas.medir("PessoaDao.inserir")) {
+            // Query SQL para inserir uma pessoa
+            String sql = "INSERT INTO pessoa (nome, email) VALUES (?, ?)";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                // Define os parâmetros da query
+                stmt.setString(1, pessoa.getNome());
+                stmt.setString(2, pessoa.getEmail());
+                // Executa a inserção
+                stmt.executeUpdate();
+                // Obtém o ID gerado automaticamente
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        pessoa.setId(rs.getInt(1));
+                    }
                 }
+                // Garante que nenhuma leitura anterior do mesmo ID permaneça no cache
+                CachesEntidades.invalidarPessoa(pessoa.getId());
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Pessoa inserida com sucesso: " + pessoa);
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir pessoa: " + e.getMessage());
             }
-            // Mensagem de sucesso (Regra de Negócio 5)
-            System.out.println("Pessoa inserida com sucesso: " + pessoa);
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao inserir pessoa: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
@@ -50,93 +83,128 @@ public class PessoaDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public void atualizar(Pessoa pessoa) throws SQLException {
-        // Query SQL para atualizar uma pessoa
-        String sql = "UPDATE pessoa SET nome = ?, email = ? WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define os parâmetros da query
-            stmt.setString(1, pessoa.getNome());
-            stmt.setString(2, pessoa.getEmail());
-            stmt.setInt(3, pessoa.getId());
-            // Executa a atualização
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Pessoa atualizada com sucesso: " + pessoa);
-            } else {
+        try (Medicao medicao = Metricas.medir("PessoaDao.atualizar")) {
+            // Query SQL para atualizar uma pessoa
+            String sql = "UPDATE pessoa SET nome = ?, email = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setString(1, pessoa.getNome());
+                stmt.setString(2, pessoa.getEmail());
+                stmt.setInt(3, pessoa.getId());
+                // Executa a atualização
+                int rows = stmt.executeUpdate();
+                // Invalida a Pessoa e o Funcionario correspondente no cache
+                CachesEntidades.invalidarPessoa(pessoa.getId());
+                if (rows > 0) {
+                    // Mensagem de sucesso (Regra de Negócio 5)
+                    Log.info(() -> "Pessoa atualizada com sucesso: " + pessoa);
+                } else {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Pessoa com ID " + pessoa.getId() + " não encontrada.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Pessoa com ID " + pessoa.getId() + " não encontrada.");
+                throw new SQLException("Erro ao atualizar pessoa: " + e.getMessage());
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao atualizar pessoa: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
     /**
      * Exclui uma Pessoa do banco de dados.
+     * A verificação de vínculo com Funcionário e a exclusão são feitas no mesmo comando,
+     * sem janela para um Funcionário ser cadastrado entre as duas.
      *
      * @param id o ID da Pessoa a ser excluída
      * @throws SQLException se ocorrer um erro no banco ou se a Pessoa estiver vinculada a um Funcionário
      */
     public void excluir(int id) throws SQLException {
-        // Verifica se a Pessoa está vinculada a um Funcionário
-        String checkSql = "SELECT COUNT(*) FROM funcionario WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-            checkStmt.setInt(1, id);
-            ResultSet rs = checkStmt.executeQuery();
-            if (rs.next() && rs.getInt(1) > 0) {
+        try (Medicao medicao = Metricas.medir("PessoaDao.excluir")) {
+            // Exclui a Pessoa apenas se não estiver vinculada a um Funcionário, em um único comando
+            String sql = "DELETE FROM pessoa WHERE id = ? AND NOT EXISTS (SELECT 1 FROM funcionario WHERE id = ?)";
+            boolean vinculada;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setInt(1, id);
+                stmt.setInt(2, id);
+                // Executa a exclusão
+                int rows;
+                try {
+                    rows = stmt.executeUpdate();
+                } catch (SQLException e) {
+                    // A chave estrangeira de funcionario também impede a exclusão
+                    if (!Consultas.violaIntegridade(e)) {
+                        throw e;
+                    }
+                    rows = 0;
+                }
+                if (rows > 0) {
+                    // Invalida a Pessoa e o Funcionario correspondente no cache
+                    CachesEntidades.invalidarPessoa(id);
+                }
+                // Nenhuma linha excluída: se a Pessoa existe, está vinculada a um Funcionário
+                vinculada = rows == 0 && VerificadorExistencia.existe(conn, VerificadorExistencia.Tabela.PESSOA, id);
+                if (rows == 0 && !vinculada) {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Pessoa com ID " + id + " não encontrada.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Não é possível excluir a pessoa com ID " + id + " pois está vinculada a um funcionário.");
+                throw new SQLException("Erro ao excluir pessoa: " + e.getMessage());
             }
-        }
-
-        // Query SQL para excluir uma pessoa
-        String sql = "DELETE FROM pessoa WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            // Executa a exclusão
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Pessoa com ID " + id + " excluída com sucesso.");
-            } else {
+            if (vinculada) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Pessoa com ID " + id + " não encontrada.");
+                throw new SQLException("Não é possível excluir a pessoa com ID " + id + " pois está vinculada a um funcionário.");
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao excluir pessoa: " + e.getMessage());
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Pessoa com ID " + id + " excluída com sucesso.");
+            medicao.concluir(1);
         }
     }
 
     /**
      * Busca uma Pessoa pelo ID.
+     * Consulta primeiro o cache de leitura; o banco só é acessado se a Pessoa não estiver em cache.
      *
      * @param id o ID da Pessoa
      * @return o objeto Pessoa, ou null se não encontrado
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public Pessoa buscarPorId(int id) throws SQLException {
-        // Query SQL para buscar uma pessoa por ID
-        String sql = "SELECT * FROM pessoa WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    // Cria um objeto Pessoa com os dados retornados
-                    return new Pessoa(rs.getInt("id"), rs.getString("nome"), rs.getString("email"));
+        try (Medicao medicao = Metricas.medir("PessoaDao.buscarPorId")) {
+            // Consulta o cache antes do banco (fora de transações)
+            boolean usarCache = CachesEntidades.disponiveis();
+            Pessoa emCache = usarCache ? CachesEntidades.PESSOAS.obter(id) : null;
+            if (emCache != null) {
+                medicao.concluir(1);
+                return emCache;
+            }
+            long marca = CachesEntidades.PESSOAS.marca();
+            // Query SQL para buscar uma pessoa por ID
+            String sql = SQL_PESSOA + " WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define o parâmetro da query
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        // Cria um objeto Pessoa com os dados retornados
+                        Pessoa pessoa = MAPEADOR.mapear(rs);
+                        if (usarCache) {
+                            CachesEntidades.PESSOAS.colocar(id, pessoa, marca);
+                        }
+                        medicao.concluir(1);
+                        return pessoa;
+                    }
                 }
+                medicao.concluir(0);
+                return null; // Retorna null se não encontrar
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao buscar pessoa: " + e.getMessage());
             }
-            return null; // Retorna null se não encontrar
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao buscar pessoa: " + e.getMessage());
         }
     }
 
@@ -147,21 +215,521 @@ public class PessoaDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public List<Pessoa> listar() throws SQLException {
-        // Lista para armazenar as pessoas
-        List<Pessoa> pessoas = new ArrayList<>();
-        // Query SQL para listar todas as pessoas
-        String sql = "SELECT * FROM pessoa";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            // Itera sobre os resultados
-            while (rs.next()) {
-                pessoas.add(new Pessoa(rs.getInt("id"), rs.getString("nome"), rs.getString("email")));
-            }
-            return pessoas;
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao listar pessoas: " + e.getMessage());
-        }
-    }
-}
\ No newline at end of file
+        try (Medicao medicao = Metricas.medir("PessoaDao.listar")) {
+            // Lista para armazenar as pessoas
+            List<Pessoa> pessoas = new ArrayList<>();
+            // Query SQL para listar todas as pessoas
+            String sql = SQL_PESSOA;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                // Itera sobre os resultados
+                while (rs.next()) {
+                    pessoas.add(MAPEADOR.mapear(rs));
+                }
+                medicao.concluir(pessoas.size());
+                return pessoas;
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao listar pessoas: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Insere várias Pessoas em lote, usando o tamanho de bloco padrão.
+     *
+     * @param pessoas as Pessoas a serem inseridas
+     * @return o resultado do lote, com as Pessoas inseridas e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Pessoa> inserirLote(Iterable<Pessoa> pessoas) throws SQLException {
+        return inserirLote(pessoas, ExecutorLote.TAMANHO_LOTE_PADRAO);
+    }
+
+    /**
+     * Insere várias Pessoas em lote, em blocos de executeBatch dentro de uma única transação.
+     * Os IDs gerados são atribuídos às Pessoas inseridas; linhas com erro são registradas
+     * como falhas sem interromper o restante do lote.
+     *
+     * @param pessoas     as Pessoas a serem inseridas
+     * @param tamanhoLote quantidade de linhas enviadas por executeBatch
+     * @return o resultado do lote, com as Pessoas inseridas e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Pessoa> inserirLote(Iterable<Pessoa> pessoas, int tamanhoLote) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.inserirLote")) {
+            ResultadoLote<Pessoa> resultado = new ResultadoLote<>();
+            // Query SQL para inserir uma pessoa
+            String sql = "INSERT INTO pessoa (nome, email) VALUES (?, ?)";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                    ExecutorLote.emBlocos(pessoas, tamanhoLote, bloco ->
+                            ExecutorLote.executarBloco(stmt, bloco, (s, pessoa) -> {
+                                // Define os parâmetros da query
+                                s.setString(1, pessoa.getNome());
+                                s.setString(2, pessoa.getEmail());
+                            }, Pessoa::setId, resultado));
+                    // Confirma todas as linhas inseridas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Pessoa pessoa : resultado.getSucessos()) {
+                        CachesEntidades.invalidarPessoa(pessoa.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir lote de pessoas: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de pessoas inserido: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Atualiza várias Pessoas em lote, em uma única transação.
+     * As linhas são enviadas em blocos com executeBatch; as Pessoas não encontradas
+     * são registradas como falha sem interromper o lote.
+     *
+     * @param pessoas as Pessoas com os dados atualizados
+     * @return o resultado do lote, com as Pessoas atualizadas e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Pessoa> atualizarLote(Iterable<Pessoa> pessoas) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.atualizarLote")) {
+            ResultadoLote<Pessoa> resultado = new ResultadoLote<>();
+            // Query SQL para atualizar uma pessoa
+            String sql = "UPDATE pessoa SET nome = ?, email = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    ExecutorLote.emBlocos(pessoas, ExecutorLote.TAMANHO_LOTE_PADRAO, bloco ->
+                            ExecutorLote.executarBloco(stmt, bloco, (s, pessoa) -> {
+                                // Define os parâmetros da query
+                                s.setString(1, pessoa.getNome());
+                                s.setString(2, pessoa.getEmail());
+                                s.setInt(3, pessoa.getId());
+                            }, null, pessoa -> "Pessoa com ID " + pessoa.getId() + " não encontrada.", resultado));
+                    // Confirma todas as linhas atualizadas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Pessoa pessoa : resultado.getSucessos()) {
+                        CachesEntidades.invalidarPessoa(pessoa.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao atualizar lote de pessoas: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de pessoas atualizado: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Exclui várias Pessoas pelo ID, em uma única transação.
+     * Os IDs são processados em blocos, com um único DELETE por bloco; IDs repetidos são considerados uma vez.
+     * Pessoas vinculadas a um Funcionário não são excluídas (verificação feita no próprio DELETE).
+     *
+     * @param ids os IDs a excluir
+     * @return o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados (com o motivo)
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Integer> excluirLote(Collection<Integer> ids) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.excluirLote")) {
+            ResultadoLote<Integer> resultado = new ResultadoLote<>();
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try {
+                    ExecutorLote.emBlocos(new LinkedHashSet<>(ids), Consultas.MAXIMO_IN, bloco ->
+                            ExecutorLote.excluirBloco(conn, VerificadorExistencia.Tabela.PESSOA, tamanho ->
+                                    "DELETE FROM pessoa WHERE id IN (" + Consultas.parametrosIn(tamanho) + ") " +
+                                    "AND NOT EXISTS (SELECT 1 FROM funcionario f WHERE f.id = pessoa.id)",
+                                    bloco, id -> "Não é possível excluir a pessoa com ID " + id + " pois está vinculada a um funcionário.",
+                                    id -> "Pessoa com ID " + id + " não encontrada.", resultado));
+                    // Confirma todas as exclusões de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Integer id : resultado.getSucessos()) {
+                        CachesEntidades.invalidarPessoa(id);
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao excluir lote de pessoas: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de pessoas excluído: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Salva uma Pessoa: insere se ela não existir ou atualiza a existente, com um único
+     * INSERT ... ON DUPLICATE KEY UPDATE. A Pessoa existente é encontrada pelo ID (se informado)
+     * ou pelo e-mail; o ID da linha inserida ou atualizada é atribuído à Pessoa. Uma Pessoa
+     * existente salva sem nenhuma alteração é informada como atualizada.
+     *
+     * @param pessoa a Pessoa a ser salva
+     * @return true se a Pessoa foi inserida, false se já existia e foi atualizada
+     * @throws SQLException se ocorrer um erro no banco, se o e-mail pertencer a outra Pessoa ou
+     *                      se faltar no banco o índice único do e-mail
+     */
+    public boolean salvar(Pessoa pessoa) throws SQLException {
+        Conexao.exigirIndicesUnicos();
+        try (Medicao medicao = Metricas.medir("PessoaDao.salvar")) {
+            boolean inserida;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(SQL_SALVAR, Statement.RETURN_GENERATED_KEYS)) {
+                // Define os parâmetros da query (ID nulo para o banco gerar um novo)
+                if (pessoa.getId() > 0) {
+                    stmt.setInt(1, pessoa.getId());
+                } else {
+                    stmt.setNull(1, Types.INTEGER);
+                }
+                stmt.setString(2, pessoa.getNome());
+                stmt.setString(3, pessoa.getEmail());
+                stmt.setInt(4, Math.max(pessoa.getId(), 0));
+                stmt.setInt(5, Math.max(pessoa.getId(), 0));
+                // Executa a inserção ou atualização e distingue uma da outra pela chave gerada
+                int linhas = stmt.executeUpdate();
+                long chave = Consultas.chaveGerada(stmt);
+                int id;
+                if (chave >= Consultas.MARCA_ATUALIZACAO) {
+                    inserida = false;
+                    id = (int) (chave - Consultas.MARCA_ATUALIZACAO);
+                } else if (chave > 0 || linhas == 1) {
+                    inserida = true;
+                    id = chave > 0 ? (int) chave : pessoa.getId();
+                } else {
+                    // Driver que não devolve a chave na atualização: a linha é a dona do e-mail
+                    inserida = false;
+                    Integer dono = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.PESSOA, "email",
+                            Collections.singletonList(pessoa.getEmail())).get(pessoa.getEmail());
+                    id = dono != null ? dono : pessoa.getId();
+                }
+                if (pessoa.getId() > 0 && id != pessoa.getId()) {
+                    // A linha encontrada pelo e-mail é de outra Pessoa e não foi alterada
+                    throw new SQLException("O e-mail " + pessoa.getEmail() + " já pertence à pessoa com ID " + id + ".");
+                }
+                pessoa.setId(id);
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao salvar pessoa: " + e.getMessage());
+            }
+            // Invalida a Pessoa no cache
+            CachesEntidades.invalidarPessoa(pessoa.getId());
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Pessoa " + (inserida ? "inserida" : "atualizada") + " com sucesso: " + pessoa);
+            medicao.concluir(1);
+            return inserida;
+        }
+    }
+
+    /**
+     * Salva várias Pessoas em lote, em uma única transação: cada Pessoa é inserida ou, se já
+     * existir (pelo ID ou pelo e-mail), atualizada, com um INSERT ... ON DUPLICATE KEY UPDATE
+     * por linha enviado em blocos de executeBatch.
+     *
+     * @param pessoas as Pessoas a serem salvas
+     * @return o resultado do lote, com as Pessoas inseridas, as atualizadas e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro ou se faltar no banco o índice único do e-mail
+     */
+    public ResultadoSalvar<Pessoa> salvarLote(Iterable<Pessoa> pessoas) throws SQLException {
+        Conexao.exigirIndicesUnicos();
+        try (Medicao medicao = Metricas.medir("PessoaDao.salvarLote")) {
+            ResultadoSalvar<Pessoa> resultado = new ResultadoSalvar<>();
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_SALVAR)) {
+                    ExecutorLote.emBlocos(pessoas, ExecutorLote.TAMANHO_LOTE_PADRAO, bloco ->
+                            salvarBloco(conn, stmt, bloco, resultado));
+                    // Confirma todas as linhas salvas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Pessoa pessoa : resultado.getSucessos()) {
+                        CachesEntidades.invalidarPessoa(pessoa.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao salvar lote de pessoas: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de pessoas salvo: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Salva um bloco de Pessoas com o INSERT ... ON DUPLICATE KEY UPDATE preparado.
+     * Antes, consulta de uma vez quais Pessoas do bloco já existem (pelo ID ou pelo e-mail); depois,
+     * obtém pelo e-mail a linha gravada por cada Pessoa, comparando no banco pela collation da coluna:
+     * é nova se não existia antes do bloco nem foi gravada por uma Pessoa anterior do mesmo bloco.
+     */
+    private static void salvarBloco(Connection conn, PreparedStatement stmt, List<Pessoa> bloco,
+                                    ResultadoSalvar<Pessoa> resultado) throws SQLException {
+        // Consulta as chaves já existentes do bloco: IDs informados e e-mails
+        Set<Integer> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Pessoa pessoa : bloco) {
+            if (pessoa.getId() > 0) {
+                ids.add(pessoa.getId());
+            }
+            emails.add(pessoa.getEmail());
+        }
+        Set<Integer> anteriores = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.PESSOA, ids);
+        Map<String, Integer> porEmail = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.PESSOA, "email", emails);
+        anteriores.addAll(porEmail.values());
+
+        // ID informado: grava nessa linha (existente ou nova), nunca na dona do e-mail
+        List<Pessoa> validas = new ArrayList<>(bloco.size());
+        for (Pessoa pessoa : bloco) {
+            Integer dono = porEmail.get(pessoa.getEmail());
+            if (pessoa.getId() > 0 && dono != null && dono != pessoa.getId()) {
+                resultado.adicionarFalha(pessoa, "O e-mail " + pessoa.getEmail() + " já pertence à pessoa com ID " + dono + ".");
+                continue;
+            }
+            validas.add(pessoa);
+        }
+
+        ResultadoLote<Pessoa> parcial = new ResultadoLote<>();
+        ExecutorLote.executarBloco(stmt, validas, (s, pessoa) -> {
+            // Define os parâmetros da query (ID nulo para o banco gerar um novo)
+            if (pessoa.getId() > 0) {
+                s.setInt(1, pessoa.getId());
+            } else {
+                s.setNull(1, Types.INTEGER);
+            }
+            s.setString(2, pessoa.getNome());
+            s.setString(3, pessoa.getEmail());
+            s.setInt(4, Math.max(pessoa.getId(), 0));
+            s.setInt(5, Math.max(pessoa.getId(), 0));
+        }, null, parcial);
+        for (ResultadoLote.Falha<Pessoa> falha : parcial.getFalhas()) {
+            resultado.adicionarFalha(falha.getItem(), falha.getMotivo());
+        }
+
+        // Obtém pelo e-mail, agora único, a linha gravada por cada Pessoa
+        List<String> gravados = new ArrayList<>(parcial.getSucessos().size());
+        for (Pessoa pessoa : parcial.getSucessos()) {
+            gravados.add(pessoa.getEmail());
+        }
+        Map<String, Integer> donos = VerificadorExistencia.idsPorChave(conn, VerificadorExistencia.Tabela.PESSOA, "email", gravados);
+        Set<Integer> inseridas = new HashSet<>();
+        for (Pessoa pessoa : parcial.getSucessos()) {
+            Integer dono = donos.getOrDefault(pessoa.getEmail(), pessoa.getId() > 0 ? pessoa.getId() : null);
+            if (dono == null) {
+                resultado.adicionarFalha(pessoa, "Não foi possível obter o ID da pessoa com e-mail " + pessoa.getEmail() + ".");
+            } else if (pessoa.getId() > 0 && dono != pessoa.getId()) {
+                // E-mail igual, pela collation, ao de outra Pessoa do bloco: a linha dela não foi alterada
+                resultado.adicionarFalha(pessoa, "O e-mail " + pessoa.getEmail() + " já pertence à pessoa com ID " + dono + ".");
+            } else {
+                pessoa.setId(dono);
+                if (!anteriores.contains(dono) && inseridas.add(dono)) {
+                    resultado.adicionarInserido(pessoa);
+                } else {
+                    resultado.adicionarAtualizado(pessoa);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lista todas as Pessoas como um Stream lido do cursor do banco, sem carregar a tabela em memória.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @return Stream de todas as Pessoas
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Pessoa> listarStream() throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.listarStream")) {
+            // Query SQL para listar todas as pessoas
+            String sql = SQL_PESSOA;
+            Stream<Pessoa> stream = Consultas.stream(sql, Consultas.Parametros.NENHUM, MAPEADOR, "Erro ao listar pessoas: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Percorre todas as Pessoas, entregando uma por vez à ação, sem carregar a tabela em memória.
+     *
+     * @param acao a ação executada para cada Pessoa
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public void percorrer(Consumer<? super Pessoa> acao) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.percorrer")) {
+            // Query SQL para listar todas as pessoas
+            String sql = SQL_PESSOA;
+            long linhas = Consultas.percorrer(sql, Consultas.Parametros.NENHUM, MAPEADOR, acao, "Erro ao listar pessoas: ");
+            medicao.concluir(linhas);
+        }
+    }
+
+    /**
+     * Percorre todas as Pessoas, em ordem de ID, entregando cada linha do cursor ao processador
+     * sem criar objetos Pessoa. Colunas, nesta ordem: 1 id, 2 nome, 3 email.
+     *
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.percorrerLinhas")) {
+            // Query SQL com as colunas na ordem documentada
+            String sql = SQL_PESSOA + " ORDER BY id";
+            long linhas = Consultas.percorrerLinhas(sql, Consultas.Parametros.NENHUM, processador, "Erro ao listar pessoas: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Percorre as Pessoas dos IDs informados, entregando cada linha do cursor ao processador
+     * sem criar objetos. IDs inexistentes são ignorados e a ordem das linhas não é definida.
+     * Colunas, nesta ordem: 1 id, 2 nome, 3 email.
+     *
+     * @param ids         IDs a consultar
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(Collection<Integer> ids, ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.percorrerLinhasPorIds")) {
+            // Query SQL com as colunas na ordem documentada; a lista do IN é montada por bloco
+            String sql = SQL_PESSOA + " WHERE id IN";
+            long linhas = Consultas.percorrerLinhasPorIds(sql, ids, processador, "Erro ao buscar pessoas: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Lista uma página de Pessoas, em ordem de ID, usando paginação por chave.
+     * Para a primeira página use {@code aposId = 0}; para as seguintes, o
+     * {@link Pagina#getUltimoId()} da página anterior.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Pessoas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Pessoa> listar(int aposId, int limite) throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.listarPagina")) {
+            // Query SQL para listar uma página de pessoas
+            String sql = SQL_PESSOA + " WHERE id > ? ORDER BY id LIMIT ?";
+            Pagina<Pessoa> pagina = Consultas.pagina(sql, aposId, limite, MAPEADOR, Pessoa::getId, "Erro ao listar pessoas: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Busca uma Pessoa pelo e-mail (índice único do e-mail).
+     *
+     * @param email o e-mail da Pessoa
+     * @return a Pessoa, ou null se não encontrada
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pessoa buscarPorEmail(String email) throws SQLException {
+        if (Validacao.emBranco(email)) {
+            throw new IllegalArgumentException("E-mail não pode ser nulo ou vazio.");
+        }
+        try (Medicao medicao = Metricas.medir("PessoaDao.buscarPorEmail")) {
+            // Query SQL para buscar uma pessoa pelo e-mail
+            String sql = SQL_PESSOA + " WHERE email = ?";
+            Pessoa pessoa = Consultas.unico(sql, stmt -> stmt.setString(1, email), MAPEADOR, "Erro ao buscar pessoa: ");
+            medicao.concluir(pessoa != null ? 1 : 0);
+            return pessoa;
+        }
+    }
+
+    /**
+     * Lista uma página das Pessoas cujo nome começa pelo prefixo, em ordem de ID, usando paginação por chave.
+     * O filtro é feito no banco pelo índice do nome; os caracteres % e _ do prefixo são tratados como texto.
+     *
+     * @param prefixo o início do nome procurado
+     * @param aposId  ID após o qual a página começa (0 para a primeira página)
+     * @param limite  quantidade máxima de itens da página
+     * @return a página de Pessoas encontradas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Pessoa> buscarPorPrefixoNome(String prefixo, int aposId, int limite) throws SQLException {
+        String padrao = padraoNome(prefixo);
+        try (Medicao medicao = Metricas.medir("PessoaDao.buscarPorPrefixoNome")) {
+            // Query SQL para listar uma página das pessoas pelo início do nome
+            String sql = SQL_PESSOA + " WHERE nome LIKE ? ESCAPE '!' AND id > ? ORDER BY id LIMIT ?";
+            Pagina<Pessoa> pagina = Consultas.pagina(sql, stmt -> stmt.setString(1, padrao), 1, aposId, limite,
+                                                     MAPEADOR, Pessoa::getId, "Erro ao buscar pessoas: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Lista as Pessoas cujo nome começa pelo prefixo, em ordem de ID, como um Stream lido do cursor do banco.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @param prefixo o início do nome procurado
+     * @return Stream das Pessoas encontradas
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Pessoa> buscarPorPrefixoNomeStream(String prefixo) throws SQLException {
+        String padrao = padraoNome(prefixo);
+        try (Medicao medicao = Metricas.medir("PessoaDao.buscarPorPrefixoNomeStream")) {
+            // Query SQL para listar as pessoas pelo início do nome
+            String sql = SQL_PESSOA + " WHERE nome LIKE ? ESCAPE '!' ORDER BY id";
+            Stream<Pessoa> stream = Consultas.stream(sql, stmt -> stmt.setString(1, padrao), MAPEADOR, "Erro ao buscar pessoas: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Estima o total de Pessoas cadastradas sem contar as linhas a cada página.
+     * O valor é uma estimativa do banco, que pode errar por uma grande margem e estar horas
+     * desatualizada (veja Consultas.estimarTotal).
+     *
+     * @return quantidade estimada de Pessoas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long estimarTotal() throws SQLException {
+        try (Medicao medicao = Metricas.medir("PessoaDao.estimarTotal")) {
+            long total = Consultas.estimarTotal("pessoa", "Erro ao estimar total de pessoas: ");
+            medicao.concluir(1);
+            return total;
+        }
+    }
+
+    /**
+     * Valida o prefixo de uma busca por nome e monta o padrão LIKE.
+     */
+    private static String padraoNome(String prefixo) {
+        if (Validacao.emBranco(prefixo)) {
+            throw new IllegalArgumentException("Prefixo do nome não pode ser nulo ou vazio.");
+        }
+        return Consultas.padraoPrefixo(prefixo);
+    }
+}
@@ -0,0 +1,19 @@
+package dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Processa a linha atual de um ResultSet diretamente, sem criar um objeto por linha.
+ * As colunas devem ser lidas pela posição, na ordem documentada pelo método que faz a consulta.
+ */
+@FunctionalInterface
+public interface ProcessadorLinha {
+    /**
+     * Processa a linha atual.
+     *
+     * @param rs o ResultSet posicionado na linha
+     * @throws SQLException se ocorrer um erro ao ler as colunas
+     */
+    void processar(ResultSet rs) throws SQLException;
+}
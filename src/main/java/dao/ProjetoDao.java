@@ -1,19 +1,54 @@
 package dao;
 
+import classe.Funcionario;
 import classe.Projeto;
+import classe.ProjetoComResponsavel;
+import classe.Validacao;
 import util.Conexao;
+import util.Log;
+import util.Medicao;
+import util.Metricas;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Objeto de Acesso a Dados (DAO) para gerenciar entidades Projeto no banco de dados.
  */
 public class ProjetoDao {
-    // Instância de FuncionarioDao para verificar existência de Funcionario
+    // Consulta das colunas lidas pelo MAPEADOR, na ordem de suas posições; colunas novas na tabela não são lidas
+    private static final String SQL_PROJETO = "SELECT id, nome, descricao, id_funcionario FROM projeto";
+    // Cria um Projeto a partir das colunas 1 a 4 da linha atual (SQL_PROJETO ou SQL_COM_RESPONSAVEL)
+    private static final MapeadorLinha<Projeto> MAPEADOR =
+            rs -> Projeto.doBanco(rs.getInt(1), DicionariosColunas.NOME_PROJETO.valor(rs.getString(2)),
+                                  DicionariosColunas.DESCRICAO.valor(rs.getString(3)), rs.getInt(4));
+    // Cria o Funcionario responsável a partir das colunas 4 a 8 da linha atual de SQL_COM_RESPONSAVEL,
+    // ou null se o Funcionario ou sua Pessoa não existirem
+    private static final MapeadorLinha<Funcionario> MAPEADOR_RESPONSAVEL =
+            rs -> rs.getString(5) == null || rs.getString(7) == null ? null :
+                  Funcionario.doBanco(rs.getInt(4), DicionariosColunas.NOME_PESSOA.valor(rs.getString(5)),
+                                      DicionariosColunas.EMAIL.valor(rs.getString(6)), rs.getString(7),
+                                      DicionariosColunas.DEPARTAMENTO.valor(rs.getString(8)));
+    // Consulta de projetos com join nas tabelas funcionario e pessoa do responsável; as colunas 1 a 4
+    // são as mesmas de SQL_PROJETO. LEFT JOIN: em bancos sem as chaves estrangeiras, um Projeto cujo
+    // responsável não existe continua na consulta, com as colunas do responsável nulas
+    private static final String SQL_COM_RESPONSAVEL =
+            "SELECT pr.id, pr.nome, pr.descricao, pr.id_funcionario, p.nome AS nome_funcionario, p.email, " +
+            "f.matricula, f.departamento FROM projeto pr " +
+            "LEFT JOIN funcionario f ON f.id = pr.id_funcionario LEFT JOIN pessoa p ON p.id = f.id";
+
+    // Instância de FuncionarioDao para carregar os Funcionarios responsáveis
     private FuncionarioDao funcionarioDao = new FuncionarioDao();
 
     /**
@@ -24,32 +59,37 @@ public class ProjetoDao {
      * @throws SQLException se ocorrer um erro no banco ou se o ID do Funcionario não existir
      */
     public void inserir(Projeto projeto) throws SQLException {
-        // Regra de Negócio 2: Verifica se o ID do Funcionario existe
-        if (funcionarioDao.buscarPorId(projeto.getIdFuncionario()) == null) {
-            throw new SQLException("Não é possível inserir projeto: Funcionário com ID " + projeto.getIdFuncionario() + " não existe.");
-        }
-
-        // Query SQL para inserir um projeto
-        String sql = "INSERT INTO projeto (nome, descricao, id_funcionario) VALUES (?, ?, ?)";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            // Define os parâmetros da query
-            stmt.setString(1, projeto.getNome());
-            stmt.setString(2, projeto.getDescricao());
-            stmt.setInt(3, projeto.getIdFuncionario());
-            // Executa a inserção
-            stmt.executeUpdate();
-            // Obtém o ID gerado automaticamente
-            try (ResultSet rs = stmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    projeto.setId(rs.getInt(1));
+        try (Medicao medicao = Metricas.medir("ProjetoDao.inserir")) {
+            // Regra de Negócio 2: Verifica se o ID do Funcionario existe
+            if (!VerificadorExistencia.existe(VerificadorExistencia.Tabela.FUNCIONARIO, projeto.getIdFuncionario())) {
+                throw new SQLException("Não é possível inserir projeto: Funcionário com ID " + projeto.getIdFuncionario() + " não existe.");
+            }
+
+            // Query SQL para inserir um projeto
+            String sql = "INSERT INTO projeto (nome, descricao, id_funcionario) VALUES (?, ?, ?)";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                // Define os parâmetros da query
+                stmt.setString(1, projeto.getNome());
+                stmt.setString(2, projeto.getDescricao());
+                stmt.setInt(3, projeto.getIdFuncionario());
+                // Executa a inserção
+                stmt.executeUpdate();
+                // Obtém o ID gerado automaticamente
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        projeto.setId(rs.getInt(1));
+                    }
                 }
+                // Garante que nenhuma leitura anterior do mesmo ID permaneça no cache
+                CachesEntidades.invalidarProjeto(projeto.getId());
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Projeto inserido com sucesso: " + projeto);
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir projeto: " + e.getMessage());
             }
-            // Mensagem de sucesso (Regra de Negócio 5)
-            System.out.println("Projeto inserido com sucesso: " + projeto);
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao inserir projeto: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
@@ -61,32 +101,37 @@ public class ProjetoDao {
      * @throws SQLException se ocorrer um erro no banco ou se o ID do Funcionario não existir
      */
     public void atualizar(Projeto projeto) throws SQLException {
-        // Regra de Negócio 2: Verifica se o ID do Funcionario existe
-        if (funcionarioDao.buscarPorId(projeto.getIdFuncionario()) == null) {
-            throw new SQLException("Não é possível atualizar projeto: Funcionário com ID " + projeto.getIdFuncionario() + " não existe.");
-        }
-
-        // Query SQL para atualizar um projeto
-        String sql = "UPDATE projeto SET nome = ?, descricao = ?, id_funcionario = ? WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define os parâmetros da query
-            stmt.setString(1, projeto.getNome());
-            stmt.setString(2, projeto.getDescricao());
-            stmt.setInt(3, projeto.getIdFuncionario());
-            stmt.setInt(4, projeto.getId());
-            // Executa a atualização
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Projeto atualizado com sucesso: " + projeto);
-            } else {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.atualizar")) {
+            // Regra de Negócio 2: Verifica se o ID do Funcionario existe
+            if (!VerificadorExistencia.existe(VerificadorExistencia.Tabela.FUNCIONARIO, projeto.getIdFuncionario())) {
+                throw new SQLException("Não é possível atualizar projeto: Funcionário com ID " + projeto.getIdFuncionario() + " não existe.");
+            }
+
+            // Query SQL para atualizar um projeto
+            String sql = "UPDATE projeto SET nome = ?, descricao = ?, id_funcionario = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define os parâmetros da query
+                stmt.setString(1, projeto.getNome());
+                stmt.setString(2, projeto.getDescricao());
+                stmt.setInt(3, projeto.getIdFuncionario());
+                stmt.setInt(4, projeto.getId());
+                // Executa a atualização
+                int rows = stmt.executeUpdate();
+                // Invalida o Projeto no cache
+                CachesEntidades.invalidarProjeto(projeto.getId());
+                if (rows > 0) {
+                    // Mensagem de sucesso (Regra de Negócio 5)
+                    Log.info(() -> "Projeto atualizado com sucesso: " + projeto);
+                } else {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Projeto com ID " + projeto.getId() + " não encontrado.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Projeto com ID " + projeto.getId() + " não encontrado.");
+                throw new SQLException("Erro ao atualizar projeto: " + e.getMessage());
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao atualizar projeto: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
@@ -97,52 +142,73 @@ public class ProjetoDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public void excluir(int id) throws SQLException {
-        // Query SQL para excluir um projeto
-        String sql = "DELETE FROM projeto WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            // Executa a exclusão
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Projeto com ID " + id + " excluído com sucesso.");
-            } else {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.excluir")) {
+            // Query SQL para excluir um projeto
+            String sql = "DELETE FROM projeto WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define o parâmetro da query
+                stmt.setInt(1, id);
+                // Executa a exclusão
+                int rows = stmt.executeUpdate();
+                // Invalida o Projeto no cache
+                CachesEntidades.invalidarProjeto(id);
+                if (rows > 0) {
+                    // Mensagem de sucesso (Regra de Negócio 5)
+                    Log.info(() -> "Projeto com ID " + id + " excluído com sucesso.");
+                } else {
+                    // Mensagem de erro (Regra de Negócio 4)
+                    throw new SQLException("Projeto com ID " + id + " não encontrado.");
+                }
+            } catch (SQLException e) {
                 // Mensagem de erro (Regra de Negócio 4)
-                throw new SQLException("Projeto com ID " + id + " não encontrado.");
+                throw new SQLException("Erro ao excluir projeto: " + e.getMessage());
             }
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao excluir projeto: " + e.getMessage());
+            medicao.concluir(1);
         }
     }
 
     /**
      * Busca um Projeto pelo ID.
+     * Consulta primeiro o cache de leitura; o banco só é acessado se o Projeto não estiver em cache.
      *
      * @param id o ID do Projeto
      * @return o objeto Projeto, ou null se não encontrado
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public Projeto buscarPorId(int id) throws SQLException {
-        // Query SQL para buscar um projeto por ID
-        String sql = "SELECT * FROM projeto WHERE id = ?";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            // Define o parâmetro da query
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    // Cria um objeto Projeto com os dados retornados
-                    return new Projeto(rs.getInt("id"), rs.getString("nome"), rs.getString("descricao"),
-                                      rs.getInt("id_funcionario"));
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarPorId")) {
+            // Consulta o cache antes do banco (fora de transações)
+            boolean usarCache = CachesEntidades.disponiveis();
+            Projeto emCache = usarCache ? CachesEntidades.PROJETOS.obter(id) : null;
+            if (emCache != null) {
+                medicao.concluir(1);
+                return emCache;
+            }
+            long marca = CachesEntidades.PROJETOS.marca();
+            // Query SQL para buscar um projeto por ID
+            String sql = SQL_PROJETO + " WHERE id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define o parâmetro da query
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        // Cria um objeto Projeto com os dados retornados
+                        Projeto projeto = MAPEADOR.mapear(rs);
+                        if (usarCache) {
+                            CachesEntidades.PROJETOS.colocar(id, projeto, marca);
+                        }
+                        medicao.concluir(1);
+                        return projeto;
+                    }
                 }
+                medicao.concluir(0);
+                return null; // Retorna null se não encontrar
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao buscar projeto: " + e.getMessage());
             }
-            return null; // Retorna null se não encontrar
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao buscar projeto: " + e.getMessage());
         }
     }
 
@@ -153,22 +219,529 @@ public class ProjetoDao {
      * @throws SQLException se ocorrer um erro no banco de dados
      */
     public List<Projeto> listar() throws SQLException {
-        // Lista para armazenar os projetos
-        List<Projeto> projetos = new ArrayList<>();
-        // Query SQL para listar todos os projetos
-        String sql = "SELECT * FROM projeto";
-        try (Connection conn = Conexao.getConexao();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            // Itera sobre os resultados
-            while (rs.next()) {
-                projetos.add(new Projeto(rs.getInt("id"), rs.getString("nome"), rs.getString("descricao"),
-                                        rs.getInt("id_funcionario")));
+        try (Medicao medicao = Metricas.medir("ProjetoDao.listar")) {
+            // Lista para armazenar os projetos
+            List<Projeto> projetos = new ArrayList<>();
+            // Query SQL para listar todos os projetos
+            String sql = SQL_PROJETO;
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                // Itera sobre os resultados
+                while (rs.next()) {
+                    projetos.add(MAPEADOR.mapear(rs));
+                }
+                medicao.concluir(projetos.size());
+                return projetos;
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao listar projetos: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Insere vários Projetos em lote, usando o tamanho de bloco padrão.
+     *
+     * @param projetos os Projetos a serem inseridos
+     * @return o resultado do lote, com os Projetos inseridos e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Projeto> inserirLote(Iterable<Projeto> projetos) throws SQLException {
+        return inserirLote(projetos, ExecutorLote.TAMANHO_LOTE_PADRAO);
+    }
+
+    /**
+     * Insere vários Projetos em lote, em blocos de executeBatch dentro de uma única transação.
+     * Regra de Negócio 2: Verifica de uma vez, para cada bloco, se os IDs dos Funcionarios existem;
+     * Projetos sem Funcionario e linhas com erro são registrados como falhas sem interromper o lote.
+     * Os IDs gerados são atribuídos aos Projetos inseridos.
+     *
+     * @param projetos    os Projetos a serem inseridos
+     * @param tamanhoLote quantidade de linhas enviadas por executeBatch
+     * @return o resultado do lote, com os Projetos inseridos e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Projeto> inserirLote(Iterable<Projeto> projetos, int tamanhoLote) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.inserirLote")) {
+            ResultadoLote<Projeto> resultado = new ResultadoLote<>();
+            // Query SQL para inserir um projeto
+            String sql = "INSERT INTO projeto (nome, descricao, id_funcionario) VALUES (?, ?, ?)";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                    ExecutorLote.emBlocos(projetos, tamanhoLote, bloco -> {
+                        // Regra de Negócio 2: Verifica se os IDs dos Funcionarios existem
+                        Set<Integer> ids = new HashSet<>();
+                        for (Projeto projeto : bloco) {
+                            ids.add(projeto.getIdFuncionario());
+                        }
+                        Set<Integer> existentes = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.FUNCIONARIO, ids);
+                        List<Projeto> validos = new ArrayList<>(bloco.size());
+                        for (Projeto projeto : bloco) {
+                            if (existentes.contains(projeto.getIdFuncionario())) {
+                                validos.add(projeto);
+                            } else {
+                                resultado.adicionarFalha(projeto, "Não é possível inserir projeto: Funcionário com ID " +
+                                                         projeto.getIdFuncionario() + " não existe.");
+                            }
+                        }
+                        ExecutorLote.executarBloco(stmt, validos, (s, projeto) -> {
+                            // Define os parâmetros da query
+                            s.setString(1, projeto.getNome());
+                            s.setString(2, projeto.getDescricao());
+                            s.setInt(3, projeto.getIdFuncionario());
+                        }, Projeto::setId, resultado);
+                    });
+                    // Confirma todas as linhas inseridas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Projeto projeto : resultado.getSucessos()) {
+                        CachesEntidades.invalidarProjeto(projeto.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao inserir lote de projetos: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de projetos inserido: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Atualiza vários Projetos em lote, em uma única transação.
+     * As linhas são enviadas em blocos com executeBatch; os Projetos não encontrados
+     * são registrados como falha sem interromper o lote.
+     * Regra de Negócio 2: Projetos cujo Funcionario não existe são registrados como falha.
+     *
+     * @param projetos os Projetos com os dados atualizados
+     * @return o resultado do lote, com os Projetos atualizados e as falhas de cada linha
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Projeto> atualizarLote(Iterable<Projeto> projetos) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.atualizarLote")) {
+            ResultadoLote<Projeto> resultado = new ResultadoLote<>();
+            // Query SQL para atualizar um projeto
+            String sql = "UPDATE projeto SET nome = ?, descricao = ?, id_funcionario = ? WHERE id = ?";
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    ExecutorLote.emBlocos(projetos, ExecutorLote.TAMANHO_LOTE_PADRAO, bloco -> {
+                        // Regra de Negócio 2: Verifica de uma vez se os IDs dos Funcionarios existem
+                        Set<Integer> ids = new HashSet<>();
+                        for (Projeto projeto : bloco) {
+                            ids.add(projeto.getIdFuncionario());
+                        }
+                        Set<Integer> existentes = VerificadorExistencia.existentes(conn, VerificadorExistencia.Tabela.FUNCIONARIO, ids);
+                        List<Projeto> validos = new ArrayList<>(bloco.size());
+                        for (Projeto projeto : bloco) {
+                            if (existentes.contains(projeto.getIdFuncionario())) {
+                                validos.add(projeto);
+                            } else {
+                                resultado.adicionarFalha(projeto, "Não é possível atualizar projeto: Funcionário com ID " +
+                                                         projeto.getIdFuncionario() + " não existe.");
+                            }
+                        }
+                        ExecutorLote.executarBloco(stmt, validos, (s, projeto) -> {
+                            // Define os parâmetros da query
+                            s.setString(1, projeto.getNome());
+                            s.setString(2, projeto.getDescricao());
+                            s.setInt(3, projeto.getIdFuncionario());
+                            s.setInt(4, projeto.getId());
+                        }, null, projeto -> "Projeto com ID " + projeto.getId() + " não encontrado.", resultado);
+                    });
+                    // Confirma todas as linhas atualizadas de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Projeto projeto : resultado.getSucessos()) {
+                        CachesEntidades.invalidarProjeto(projeto.getId());
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao atualizar lote de projetos: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de projetos atualizado: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Exclui vários Projetos pelo ID, em uma única transação.
+     * Os IDs são processados em blocos, com um único DELETE por bloco; IDs repetidos são considerados uma vez.
+     *
+     * @param ids os IDs a excluir
+     * @return o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados (com o motivo)
+     * @throws SQLException se ocorrer um erro que impeça o lote inteiro
+     */
+    public ResultadoLote<Integer> excluirLote(Collection<Integer> ids) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.excluirLote")) {
+            ResultadoLote<Integer> resultado = new ResultadoLote<>();
+            try (Connection conn = Conexao.getConexao()) {
+                conn.setAutoCommit(false);
+                try {
+                    ExecutorLote.emBlocos(new LinkedHashSet<>(ids), Consultas.MAXIMO_IN, bloco ->
+                            ExecutorLote.excluirBloco(conn, VerificadorExistencia.Tabela.PROJETO, tamanho ->
+                                    "DELETE FROM projeto WHERE id IN (" + Consultas.parametrosIn(tamanho) + ")",
+                                    bloco, null,
+                                    id -> "Projeto com ID " + id + " não encontrado.", resultado));
+                    // Confirma todas as exclusões de uma vez
+                    conn.commit();
+                    // Invalida após o commit, quando a versão anterior deixa de ser lida
+                    for (Integer id : resultado.getSucessos()) {
+                        CachesEntidades.invalidarProjeto(id);
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao excluir lote de projetos: " + e.getMessage());
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Lote de projetos excluído: " + resultado + ".");
+            medicao.concluir(resultado.getSucessos().size());
+            return resultado;
+        }
+    }
+
+    /**
+     * Lista todos os Projetos como um Stream lido do cursor do banco, sem carregar a tabela em memória.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @return Stream de todos os Projetos
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Projeto> listarStream() throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.listarStream")) {
+            // Query SQL para listar todos os projetos
+            String sql = SQL_PROJETO;
+            Stream<Projeto> stream = Consultas.stream(sql, Consultas.Parametros.NENHUM, MAPEADOR, "Erro ao listar projetos: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Percorre todos os Projetos, entregando um por vez à ação, sem carregar a tabela em memória.
+     *
+     * @param acao a ação executada para cada Projeto
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public void percorrer(Consumer<? super Projeto> acao) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.percorrer")) {
+            // Query SQL para listar todos os projetos
+            String sql = SQL_PROJETO;
+            long linhas = Consultas.percorrer(sql, Consultas.Parametros.NENHUM, MAPEADOR, acao, "Erro ao listar projetos: ");
+            medicao.concluir(linhas);
+        }
+    }
+
+    /**
+     * Percorre todos os Projetos, em ordem de ID, entregando cada linha do cursor ao processador
+     * sem criar objetos Projeto. Colunas, nesta ordem: 1 id, 2 nome, 3 descricao, 4 id_funcionario.
+     *
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.percorrerLinhas")) {
+            // Query SQL com as colunas na ordem documentada
+            String sql = SQL_PROJETO + " ORDER BY id";
+            long linhas = Consultas.percorrerLinhas(sql, Consultas.Parametros.NENHUM, processador, "Erro ao listar projetos: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Percorre os Projetos dos IDs informados, entregando cada linha do cursor ao processador
+     * sem criar objetos. IDs inexistentes são ignorados e a ordem das linhas não é definida.
+     * Colunas, nesta ordem: 1 id, 2 nome, 3 descricao, 4 id_funcionario.
+     *
+     * @param ids         IDs a consultar
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhas(Collection<Integer> ids, ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.percorrerLinhasPorIds")) {
+            // Query SQL com as colunas na ordem documentada; a lista do IN é montada por bloco
+            String sql = SQL_PROJETO + " WHERE id IN";
+            long linhas = Consultas.percorrerLinhasPorIds(sql, ids, processador, "Erro ao buscar projetos: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Lista uma página de Projetos, em ordem de ID, usando paginação por chave.
+     * Para a primeira página use {@code aposId = 0}; para as seguintes, o
+     * {@link Pagina#getUltimoId()} da página anterior.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Projetos
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Projeto> listar(int aposId, int limite) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.listarPagina")) {
+            // Query SQL para listar uma página de projetos
+            String sql = SQL_PROJETO + " WHERE id > ? ORDER BY id LIMIT ?";
+            Pagina<Projeto> pagina = Consultas.pagina(sql, aposId, limite, MAPEADOR, Projeto::getId, "Erro ao listar projetos: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Lista uma página dos Projetos de um Funcionario responsável, em ordem de ID, usando paginação por chave.
+     * O filtro é feito no banco pelo índice de id_funcionario.
+     *
+     * @param idFuncionario o ID do Funcionario responsável
+     * @param aposId        ID após o qual a página começa (0 para a primeira página)
+     * @param limite        quantidade máxima de itens da página
+     * @return a página de Projetos do Funcionario
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Projeto> buscarPorFuncionario(int idFuncionario, int aposId, int limite) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarPorFuncionario")) {
+            // Query SQL para listar uma página dos projetos do funcionário
+            String sql = SQL_PROJETO + " WHERE id_funcionario = ? AND id > ? ORDER BY id LIMIT ?";
+            Pagina<Projeto> pagina = Consultas.pagina(sql, stmt -> stmt.setInt(1, idFuncionario), 1, aposId, limite,
+                                                      MAPEADOR, Projeto::getId, "Erro ao buscar projetos: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Lista os Projetos de um Funcionario responsável, em ordem de ID, como um Stream lido do cursor do banco.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @param idFuncionario o ID do Funcionario responsável
+     * @return Stream dos Projetos do Funcionario
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Projeto> buscarPorFuncionarioStream(int idFuncionario) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarPorFuncionarioStream")) {
+            // Query SQL para listar os projetos do funcionário
+            String sql = SQL_PROJETO + " WHERE id_funcionario = ? ORDER BY id";
+            Stream<Projeto> stream = Consultas.stream(sql, stmt -> stmt.setInt(1, idFuncionario), MAPEADOR,
+                                                      "Erro ao buscar projetos: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Lista uma página dos Projetos cujo nome começa pelo prefixo, em ordem de ID, usando paginação por chave.
+     * O filtro é feito no banco pelo índice do nome; os caracteres % e _ do prefixo são tratados como texto.
+     *
+     * @param prefixo o início do nome procurado
+     * @param aposId  ID após o qual a página começa (0 para a primeira página)
+     * @param limite  quantidade máxima de itens da página
+     * @return a página de Projetos encontrados
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Pagina<Projeto> buscarPorPrefixoNome(String prefixo, int aposId, int limite) throws SQLException {
+        String padrao = padraoNome(prefixo);
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarPorPrefixoNome")) {
+            // Query SQL para listar uma página dos projetos pelo início do nome
+            String sql = SQL_PROJETO + " WHERE nome LIKE ? ESCAPE '!' AND id > ? ORDER BY id LIMIT ?";
+            Pagina<Projeto> pagina = Consultas.pagina(sql, stmt -> stmt.setString(1, padrao), 1, aposId, limite,
+                                                      MAPEADOR, Projeto::getId, "Erro ao buscar projetos: ");
+            medicao.concluir(pagina.getItens().size());
+            return pagina;
+        }
+    }
+
+    /**
+     * Lista os Projetos cujo nome começa pelo prefixo, em ordem de ID, como um Stream lido do cursor do banco.
+     * O Stream mantém uma conexão aberta e deve ser fechado (use try-with-resources).
+     * Erros durante a leitura são lançados como {@link ErroBancoDados}.
+     *
+     * @param prefixo o início do nome procurado
+     * @return Stream dos Projetos encontrados
+     * @throws SQLException se ocorrer um erro ao executar a consulta
+     */
+    public Stream<Projeto> buscarPorPrefixoNomeStream(String prefixo) throws SQLException {
+        String padrao = padraoNome(prefixo);
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarPorPrefixoNomeStream")) {
+            // Query SQL para listar os projetos pelo início do nome
+            String sql = SQL_PROJETO + " WHERE nome LIKE ? ESCAPE '!' ORDER BY id";
+            Stream<Projeto> stream = Consultas.stream(sql, stmt -> stmt.setString(1, padrao), MAPEADOR,
+                                                      "Erro ao buscar projetos: ");
+            medicao.concluir(0);
+            return stream;
+        }
+    }
+
+    /**
+     * Estima o total de Projetos cadastrados sem contar as linhas a cada página.
+     * O valor é uma estimativa do banco, que pode errar por uma grande margem e estar horas
+     * desatualizada (veja Consultas.estimarTotal).
+     *
+     * @return quantidade estimada de Projetos
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long estimarTotal() throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.estimarTotal")) {
+            long total = Consultas.estimarTotal("projeto", "Erro ao estimar total de projetos: ");
+            medicao.concluir(1);
+            return total;
+        }
+    }
+
+    /**
+     * Busca um Projeto pelo ID junto com o Funcionario responsável, em um único JOIN.
+     * Se o responsável não existir, o Projeto é retornado com o responsável null.
+     *
+     * @param id o ID do Projeto
+     * @return o Projeto com o responsável, ou null se não encontrado
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public ProjetoComResponsavel buscarComResponsavel(int id) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.buscarComResponsavel")) {
+            // Query SQL para buscar um projeto com join nas tabelas funcionario e pessoa
+            String sql = SQL_COM_RESPONSAVEL + " WHERE pr.id = ?";
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                // Define o parâmetro da query
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        ProjetoComResponsavel projeto = new ProjetoComResponsavel(MAPEADOR.mapear(rs), MAPEADOR_RESPONSAVEL.mapear(rs));
+                        medicao.concluir(1);
+                        return projeto;
+                    }
+                }
+                medicao.concluir(0);
+                return null; // Retorna null se não encontrar
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao buscar projeto: " + e.getMessage());
             }
-            return projetos;
-        } catch (SQLException e) {
-            // Mensagem de erro (Regra de Negócio 4)
-            throw new SQLException("Erro ao listar projetos: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lista todos os Projetos junto com os Funcionarios responsáveis, em um único JOIN.
+     * Funcionarios responsáveis por vários Projetos são representados por um único objeto.
+     * Todos os Projetos são listados, como em {@link #listar()}; os de responsável inexistente
+     * vêm com o responsável null.
+     *
+     * @return uma lista de todos os Projetos com seus responsáveis
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public List<ProjetoComResponsavel> listarComResponsavel() throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.listarComResponsavel")) {
+            // Lista para armazenar os projetos
+            List<ProjetoComResponsavel> projetos = new ArrayList<>();
+            // Responsáveis já criados, para compartilhar o mesmo objeto entre projetos
+            Map<Integer, Funcionario> responsaveis = new HashMap<>();
+            try (Connection conn = Conexao.getConexao();
+                 PreparedStatement stmt = conn.prepareStatement(SQL_COM_RESPONSAVEL);
+                 ResultSet rs = stmt.executeQuery()) {
+                // Itera sobre os resultados
+                while (rs.next()) {
+                    Funcionario responsavel = responsaveis.get(rs.getInt(4));
+                    if (responsavel == null) {
+                        responsavel = MAPEADOR_RESPONSAVEL.mapear(rs);
+                        if (responsavel != null) {
+                            responsaveis.put(responsavel.getId(), responsavel);
+                        }
+                    }
+                    projetos.add(new ProjetoComResponsavel(MAPEADOR.mapear(rs), responsavel));
+                }
+                medicao.concluir(projetos.size());
+                return projetos;
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao listar projetos: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Percorre todos os Projetos com os Funcionarios responsáveis, lidos do cursor do banco
+     * em um único JOIN, sem carregar a tabela em memória. Projetos de responsável inexistente
+     * são entregues com o responsável null.
+     *
+     * @param acao a ação executada para cada Projeto com seu responsável
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public void percorrerComResponsavel(Consumer<? super ProjetoComResponsavel> acao) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.percorrerComResponsavel")) {
+            long linhas = Consultas.percorrer(SQL_COM_RESPONSAVEL, Consultas.Parametros.NENHUM,
+                    rs -> new ProjetoComResponsavel(MAPEADOR.mapear(rs), MAPEADOR_RESPONSAVEL.mapear(rs)),
+                    acao, "Erro ao listar projetos: ");
+            medicao.concluir(linhas);
+        }
+    }
+
+    /**
+     * Percorre todos os Projetos com os Funcionarios responsáveis, em ordem de ID do Projeto,
+     * entregando cada linha do JOIN ao processador sem criar objetos. Colunas, nesta ordem:
+     * 1 id, 2 nome, 3 descricao, 4 id_funcionario, 5 nome do responsável, 6 email,
+     * 7 matricula, 8 departamento. As colunas 5 a 8 são nulas se o responsável não existir.
+     *
+     * @param processador recebe o ResultSet posicionado em cada linha
+     * @return quantidade de linhas processadas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long percorrerLinhasComResponsavel(ProcessadorLinha processador) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.percorrerLinhasComResponsavel")) {
+            long linhas = Consultas.percorrerLinhas(SQL_COM_RESPONSAVEL + " ORDER BY pr.id", Consultas.Parametros.NENHUM,
+                    processador, "Erro ao listar projetos: ");
+            medicao.concluir(linhas);
+            return linhas;
+        }
+    }
+
+    /**
+     * Carrega os Funcionarios responsáveis pelos Projetos informados.
+     * Todos os IDs de responsáveis são resolvidos de uma vez (cache de leitura e consultas IN),
+     * e cada Funcionario aparece uma única vez mesmo que seja responsável por vários Projetos.
+     *
+     * @param projetos os Projetos cujos responsáveis serão carregados
+     * @return mapa do ID do Funcionario para o Funcionario responsável
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public Map<Integer, Funcionario> carregarResponsaveis(Collection<Projeto> projetos) throws SQLException {
+        try (Medicao medicao = Metricas.medir("ProjetoDao.carregarResponsaveis")) {
+            Set<Integer> ids = new HashSet<>();
+            for (Projeto projeto : projetos) {
+                ids.add(projeto.getIdFuncionario());
+            }
+            Map<Integer, Funcionario> responsaveis = funcionarioDao.buscarPorIds(ids);
+            medicao.concluir(responsaveis.size());
+            return responsaveis;
+        }
+    }
+
+    /**
+     * Valida o prefixo de uma busca por nome e monta o padrão LIKE.
+     */
+    private static String padraoNome(String prefixo) {
+        if (Validacao.emBranco(prefixo)) {
+            throw new IllegalArgumentException("Prefixo do nome não pode ser nulo ou vazio.");
+        }
+        return Consultas.padraoPrefixo(prefixo);
+    }
+}
@@ -0,0 +1,105 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote: os itens processados com sucesso
+ * e as falhas de cada item, sem interromper o restante do lote.
+ *
+ * @param <T> tipo dos itens do lote
+ */
+public class ResultadoLote<T> {
+    // Itens processados com sucesso, na ordem do lote
+    private final List<T> sucessos = new ArrayList<>();
+    // Itens que falharam e o motivo de cada falha
+    private final List<Falha<T>> falhas = new ArrayList<>();
+
+    /**
+     * Registra um item processado com sucesso.
+     *
+     * @param item o item processado
+     */
+    void adicionarSucesso(T item) {
+        sucessos.add(item);
+    }
+
+    /**
+     * Registra a falha de um item.
+     *
+     * @param item   o item que falhou
+     * @param motivo a mensagem de erro do item
+     */
+    void adicionarFalha(T item, String motivo) {
+        falhas.add(new Falha<>(item, motivo));
+    }
+
+    /**
+     * Obtém os itens processados com sucesso.
+     *
+     * @return lista imutável dos itens com sucesso
+     */
+    public List<T> getSucessos() {
+        return Collections.unmodifiableList(sucessos);
+    }
+
+    /**
+     * Obtém as falhas do lote.
+     *
+     * @return lista imutável das falhas
+     */
+    public List<Falha<T>> getFalhas() {
+        return Collections.unmodifiableList(falhas);
+    }
+
+    /**
+     * Retorna um resumo do resultado.
+     *
+     * @return string com a quantidade de sucessos e falhas
+     */
+    @Override
+    public String toString() {
+        return sucessos.size() + " sucesso(s), " + falhas.size() + " falha(s)";
+    }
+
+    /**
+     * Falha de um item do lote.
+     *
+     * @param <T> tipo do item
+     */
+    public static class Falha<T> {
+        // Item que falhou
+        private final T item;
+        // Mensagem de erro (Regra de Negócio 4)
+        private final String motivo;
+
+        Falha(T item, String motivo) {
+            this.item = item;
+            this.motivo = motivo;
+        }
+
+        /**
+         * Obtém o item que falhou.
+         *
+         * @return o item
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Obtém o motivo da falha.
+         *
+         * @return a mensagem de erro
+         */
+        public String getMotivo() {
+            return motivo;
+        }
+
+        @Override
+        public String toString() {
+            return item + ": " + motivo;
+        }
+    }
+}
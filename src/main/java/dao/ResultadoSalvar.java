@@ -0,0 +1,67 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma operação salvar (inserir ou atualizar): além dos sucessos e falhas
+ * do lote, separa os itens que foram inseridos dos que já existiam e foram atualizados.
+ *
+ * @param <T> tipo dos itens do lote
+ */
+public class ResultadoSalvar<T> extends ResultadoLote<T> {
+    // Itens que não existiam e foram inseridos, na ordem do lote
+    private final List<T> inseridos = new ArrayList<>();
+    // Itens que já existiam e foram atualizados, na ordem do lote
+    private final List<T> atualizados = new ArrayList<>();
+
+    /**
+     * Registra um item inserido.
+     *
+     * @param item o item inserido
+     */
+    void adicionarInserido(T item) {
+        inseridos.add(item);
+        adicionarSucesso(item);
+    }
+
+    /**
+     * Registra um item atualizado.
+     *
+     * @param item o item atualizado
+     */
+    void adicionarAtualizado(T item) {
+        atualizados.add(item);
+        adicionarSucesso(item);
+    }
+
+    /**
+     * Obtém os itens inseridos.
+     *
+     * @return lista imutável dos itens inseridos
+     */
+    public List<T> getInseridos() {
+        return Collections.unmodifiableList(inseridos);
+    }
+
+    /**
+     * Obtém os itens atualizados.
+     *
+     * @return lista imutável dos itens atualizados
+     */
+    public List<T> getAtualizados() {
+        return Collections.unmodifiableList(atualizados);
+    }
+
+    /**
+     * Retorna um resumo do resultado.
+     *
+     * @return string com a quantidade de inseridos, atualizados e falhas
+     */
+    @Override
+    public String toString() {
+        return inseridos.size() + " inserido(s), " + atualizados.size() + " atualizado(s), " +
+               getFalhas().size() + " falha(s)";
+    }
+}
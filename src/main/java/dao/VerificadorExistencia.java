@@ -0,0 +1,169 @@
+package dao;
+
+import util.Conexao;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Verificações de existência usadas pelas regras de integridade dos DAOs.
+ * Consulta apenas a chave primária (SELECT 1 / IN), sem carregar a linha inteira
+ * nem fazer JOIN, e verifica conjuntos de IDs com uma única consulta por bloco.
+ */
+public final class VerificadorExistencia {
+    /**
+     * Tabelas cujas chaves podem ser verificadas.
+     */
+    public enum Tabela {
+        PESSOA("pessoa"),
+        FUNCIONARIO("funcionario"),
+        PROJETO("projeto");
+
+        // Nome da tabela no banco de dados
+        private final String nome;
+
+        Tabela(String nome) {
+            this.nome = nome;
+        }
+    }
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private VerificadorExistencia() {
+    }
+
+    /**
+     * Verifica se existe uma linha com o ID informado.
+     *
+     * @param tabela a tabela consultada
+     * @param id     o ID procurado
+     * @return true se o ID existir
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static boolean existe(Tabela tabela, int id) throws SQLException {
+        try (Connection conn = Conexao.getConexao()) {
+            return existe(conn, tabela, id);
+        }
+    }
+
+    /**
+     * Verifica se existe uma linha com o ID informado, usando a conexão fornecida.
+     *
+     * @param conn   conexão com o banco de dados
+     * @param tabela a tabela consultada
+     * @param id     o ID procurado
+     * @return true se o ID existir
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static boolean existe(Connection conn, Tabela tabela, int id) throws SQLException {
+        // Consulta apenas o índice da chave primária
+        String sql = "SELECT 1 FROM " + tabela.nome + " WHERE id = ? LIMIT 1";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Retorna quais dos IDs informados existem na tabela.
+     *
+     * @param tabela a tabela consultada
+     * @param ids    os IDs procurados
+     * @return conjunto dos IDs existentes
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static Set<Integer> existentes(Tabela tabela, Collection<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        try (Connection conn = Conexao.getConexao()) {
+            return existentes(conn, tabela, ids);
+        }
+    }
+
+    /**
+     * Retorna quais dos IDs informados existem na tabela, usando a conexão fornecida.
+     * Os IDs são verificados em consultas IN de até 512 valores; a lista de cada consulta
+     * é completada até uma potência de dois para que o mesmo SQL seja reaproveitado
+     * pelo cache de statements.
+     *
+     * @param conn   conexão com o banco de dados
+     * @param tabela a tabela consultada
+     * @param ids    os IDs procurados
+     * @return conjunto dos IDs existentes
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static Set<Integer> existentes(Connection conn, Tabela tabela, Collection<Integer> ids) throws SQLException {
+        Set<Integer> existentes = new HashSet<>();
+        List<Integer> unicos = new ArrayList<>(new HashSet<>(ids));
+        for (int inicio = 0; inicio < unicos.size(); inicio += Consultas.MAXIMO_IN) {
+            List<Integer> bloco = unicos.subList(inicio, Math.min(inicio + Consultas.MAXIMO_IN, unicos.size()));
+            int tamanho = Consultas.tamanhoIn(bloco.size());
+            String sql = "SELECT id FROM " + tabela.nome + " WHERE id IN (" + Consultas.parametrosIn(tamanho) + ")";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                Consultas.definirIn(stmt, 1, bloco, tamanho);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existentes.add(rs.getInt(1));
+                    }
+                }
+            }
+        }
+        return existentes;
+    }
+
+    /**
+     * Retorna o ID das linhas cujo valor em uma coluna única (por exemplo, o e-mail da Pessoa)
+     * é igual a um dos informados, usando a conexão fornecida. A igualdade é a do banco, pela
+     * collation da coluna (que pode ignorar maiúsculas e acentos): cada valor é comparado no SQL,
+     * em uma busca pelo índice único unida às dos demais valores com UNION ALL.
+     *
+     * @param conn    conexão com o banco de dados
+     * @param tabela  a tabela consultada
+     * @param coluna  a coluna única consultada
+     * @param valores os valores procurados
+     * @return mapa de cada valor informado (como informado) para o ID da linha igual a ele, apenas com os encontrados
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    static Map<String, Integer> idsPorChave(Connection conn, Tabela tabela, String coluna,
+                                            Collection<String> valores) throws SQLException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> unicos = new ArrayList<>(new HashSet<>(valores));
+        for (int inicio = 0; inicio < unicos.size(); inicio += Consultas.MAXIMO_IN) {
+            List<String> bloco = unicos.subList(inicio, Math.min(inicio + Consultas.MAXIMO_IN, unicos.size()));
+            int tamanho = Consultas.tamanhoIn(bloco.size());
+            // A primeira coluna é a posição do valor no bloco; as posições completadas repetem o último valor
+            StringBuilder sql = new StringBuilder(tamanho * (coluna.length() + 48));
+            for (int i = 0; i < tamanho; i++) {
+                if (i > 0) {
+                    sql.append(" UNION ALL ");
+                }
+                sql.append("SELECT ").append(i).append(", id FROM ").append(tabela.nome)
+                   .append(" WHERE ").append(coluna).append(" = ?");
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                Consultas.definirInTexto(stmt, 1, bloco, tamanho);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int posicao = rs.getInt(1);
+                        if (posicao < bloco.size()) {
+                            ids.put(bloco.get(posicao), rs.getInt(2));
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+}
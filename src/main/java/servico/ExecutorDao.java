@@ -0,0 +1,272 @@
+package servico;
+
+import util.Conexao;
+import util.Metricas;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executa operações dos DAOs em virtual threads, uma por operação.
+ * A quantidade de operações usando o banco ao mesmo tempo é limitada por um semáforo do
+ * tamanho do pool de conexões: as demais aguardam na própria virtual thread, sem ocupar
+ * threads de plataforma nem disputar conexões até o tempo limite do pool.
+ * Cada operação tem um tempo limite (espera pela vaga + execução); ao esgotá-lo ela é cancelada.
+ */
+public final class ExecutorDao implements AutoCloseable {
+
+    /**
+     * Operação de DAO executada pelo executor.
+     *
+     * @param <T> o tipo do resultado
+     */
+    @FunctionalInterface
+    public interface Operacao<T> {
+        T executar() throws SQLException;
+    }
+
+    // Tempo limite padrão das operações, em milissegundos
+    private static final long TIMEOUT_PADRAO_MS = Long.getLong("empresa.servico.timeoutMs", 30000L);
+    // Agendador dos tempos limite das operações assíncronas (a tarefa é removida quando a operação termina)
+    private static final ScheduledThreadPoolExecutor TEMPORIZADOR = criarTemporizador();
+
+    // Uma virtual thread por operação
+    private final ExecutorService threads;
+    // Vagas de acesso ao banco (uma por conexão do pool)
+    private final Semaphore vagas;
+    // Tempo limite de cada operação, em milissegundos
+    private final long timeoutMs;
+
+    /**
+     * Cria o executor com uma vaga por conexão do pool e o tempo limite de
+     * {@code empresa.servico.timeoutMs} (padrão 30000 ms).
+     */
+    public ExecutorDao() {
+        this(Conexao.getTamanhoMaximoPool(), TIMEOUT_PADRAO_MS);
+    }
+
+    /**
+     * Cria o executor.
+     *
+     * @param concorrencia quantidade máxima de operações usando o banco ao mesmo tempo
+     * @param timeoutMs    tempo limite de cada operação, em milissegundos
+     */
+    public ExecutorDao(int concorrencia, long timeoutMs) {
+        if (concorrencia <= 0 || timeoutMs <= 0) {
+            throw new IllegalArgumentException("Concorrência e tempo limite devem ser positivos.");
+        }
+        this.vagas = new Semaphore(concorrencia, true);
+        this.timeoutMs = timeoutMs;
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dao-", 0).factory());
+    }
+
+    /**
+     * Inicia a operação em uma virtual thread sem aguardar o resultado.
+     * O tempo limite vale a partir desta chamada; ao esgotá-lo na espera pela vaga,
+     * a operação termina com erro sem usar o banco.
+     *
+     * @param operacao a operação a executar
+     * @param <T>      o tipo do resultado
+     * @return o Future da operação; cancelá-lo interrompe a virtual thread
+     */
+    public <T> Future<T> submeter(Operacao<T> operacao) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        return threads.submit(() -> executarComVaga(operacao, limite));
+    }
+
+    /**
+     * Inicia a operação em uma virtual thread e retorna um CompletableFuture com o resultado.
+     * Erros do DAO completam o futuro com a exceção original (que aparece como causa da
+     * {@link java.util.concurrent.CompletionException} nos estágios dependentes). Ao esgotar o
+     * tempo limite, ou se o futuro for cancelado, a virtual thread é interrompida.
+     *
+     * @param operacao a operação a executar
+     * @param <T>      o tipo do resultado
+     * @return o futuro com o resultado da operação
+     */
+    public <T> CompletableFuture<T> assincrono(Operacao<T> operacao) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        Future<?> tarefa;
+        try {
+            tarefa = threads.submit(() -> {
+                try {
+                    resultado.complete(executarComVaga(operacao, limite));
+                } catch (Throwable e) {
+                    resultado.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            resultado.completeExceptionally(new SQLException("Executor de operações encerrado."));
+            return resultado;
+        }
+        ScheduledFuture<?> tempo = TEMPORIZADOR.schedule(() -> {
+            // Mensagem de erro (Regra de Negócio 4)
+            resultado.completeExceptionally(
+                    new SQLException("Tempo esgotado ao executar operação no banco (" + timeoutMs + " ms)."));
+        }, timeoutMs, TimeUnit.MILLISECONDS);
+        resultado.whenComplete((valor, erro) -> {
+            tempo.cancel(false);
+            if (erro != null) {
+                // Tempo esgotado ou cancelamento: interrompe a operação se ainda estiver rodando
+                tarefa.cancel(true);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Executa a operação em uma virtual thread e aguarda o resultado até o tempo limite.
+     *
+     * @param operacao a operação a executar
+     * @param <T>      o tipo do resultado
+     * @return o resultado da operação
+     * @throws SQLException com a mesma mensagem lançada pelo DAO, ou se o tempo limite esgotar
+     */
+    public <T> T executar(Operacao<T> operacao) throws SQLException {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        return aguardar(submeterAte(operacao, limite), limite);
+    }
+
+    /**
+     * Executa as operações em paralelo e aguarda todas até o tempo limite.
+     * Se alguma falhar, as demais são canceladas e o erro da primeira falha (em ordem) é lançado.
+     *
+     * @param operacoes as operações a executar
+     * @param <T>       o tipo dos resultados
+     * @return os resultados, na mesma ordem das operações
+     * @throws SQLException com a mesma mensagem lançada pelo DAO, ou se o tempo limite esgotar
+     */
+    public <T> List<T> executarTodas(List<? extends Operacao<? extends T>> operacoes) throws SQLException {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<Future<? extends T>> futuros = new ArrayList<>(operacoes.size());
+        for (Operacao<? extends T> operacao : operacoes) {
+            futuros.add(submeterAte(operacao, limite));
+        }
+        List<T> resultados = new ArrayList<>(futuros.size());
+        try {
+            for (Future<? extends T> futuro : futuros) {
+                resultados.add(aguardar(futuro, limite));
+            }
+        } catch (SQLException | RuntimeException e) {
+            for (Future<? extends T> futuro : futuros) {
+                futuro.cancel(true);
+            }
+            throw e;
+        }
+        return resultados;
+    }
+
+    /**
+     * Obtém a quantidade de vagas livres para acessar o banco.
+     *
+     * @return quantidade de vagas livres
+     */
+    public int getVagasLivres() {
+        return vagas.availablePermits();
+    }
+
+    /**
+     * Obtém a quantidade aproximada de operações aguardando uma vaga.
+     *
+     * @return quantidade de operações na fila
+     */
+    public int getAguardando() {
+        return vagas.getQueueLength();
+    }
+
+    /**
+     * Encerra o executor, interrompendo as operações em andamento.
+     */
+    @Override
+    public void close() {
+        threads.shutdownNow();
+    }
+
+    /**
+     * Cria o agendador dos tempos limite em uma thread daemon.
+     */
+    private static ScheduledThreadPoolExecutor criarTemporizador() {
+        ScheduledThreadPoolExecutor temporizador = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "dao-tempo-limite");
+            t.setDaemon(true);
+            return t;
+        });
+        temporizador.setRemoveOnCancelPolicy(true);
+        return temporizador;
+    }
+
+    /**
+     * Submete a operação com um prazo já calculado.
+     */
+    private <T> Future<T> submeterAte(Operacao<T> operacao, long limite) throws SQLException {
+        try {
+            return threads.submit(() -> executarComVaga(operacao, limite));
+        } catch (RejectedExecutionException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Executor de operações encerrado.");
+        }
+    }
+
+    /**
+     * Corpo da virtual thread: aguarda uma vaga até o prazo e executa a operação.
+     */
+    private <T> T executarComVaga(Operacao<T> operacao, long limite) throws SQLException, InterruptedException {
+        long inicio = System.nanoTime();
+        if (!vagas.tryAcquire(limite - inicio, TimeUnit.NANOSECONDS)) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Tempo esgotado ao aguardar vaga para acessar o banco (" + timeoutMs + " ms).");
+        }
+        Metricas.registrar("ExecutorDao.espera", System.nanoTime() - inicio);
+        try {
+            return operacao.executar();
+        } finally {
+            vagas.release();
+        }
+    }
+
+    /**
+     * Aguarda o resultado até o prazo, cancelando a operação se ele esgotar
+     * e devolvendo os erros do DAO com a mensagem original.
+     */
+    private <T> T aguardar(Future<T> futuro, long limite) throws SQLException {
+        try {
+            return futuro.get(limite - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Tempo esgotado ao executar operação no banco (" + timeoutMs + " ms).");
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SQLException("Operação no banco interrompida.");
+        } catch (CancellationException e) {
+            throw new SQLException("Operação no banco cancelada.");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof SQLException) {
+                throw (SQLException) causa;
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw new SQLException("Operação no banco interrompida.");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package servico;
+
+import classe.Funcionario;
+import dao.FuncionarioDao;
+import dao.Pagina;
+import dao.ResultadoLote;
+import dao.ResultadoSalvar;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Versão assíncrona do {@link FuncionarioDao}.
+ * Cada método inicia a operação em uma virtual thread do {@link ExecutorDao} e retorna um
+ * CompletableFuture; erros completam o futuro com a mesma SQLException do método síncrono.
+ */
+public class FuncionarioDaoAsync {
+    // Executor das operações
+    private final ExecutorDao executor;
+    // DAO síncrono usado pelas operações
+    private final FuncionarioDao funcionarioDao = new FuncionarioDao();
+
+    /**
+     * Cria o DAO assíncrono usando o executor informado.
+     *
+     * @param executor o executor das operações (compartilhe-o para respeitar o limite do pool)
+     */
+    public FuncionarioDaoAsync(ExecutorDao executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Insere um Funcionario.
+     *
+     * @param funcionario o Funcionario a inserir
+     * @return futuro concluído após a inserção
+     */
+    public CompletableFuture<Void> inserirAsync(Funcionario funcionario) {
+        return executor.assincrono(() -> {
+            funcionarioDao.inserir(funcionario);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza um Funcionario.
+     *
+     * @param funcionario o Funcionario com os dados atualizados
+     * @return futuro concluído após a atualização
+     */
+    public CompletableFuture<Void> atualizarAsync(Funcionario funcionario) {
+        return executor.assincrono(() -> {
+            funcionarioDao.atualizar(funcionario);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui um Funcionario.
+     *
+     * @param id o ID do Funcionario
+     * @return futuro concluído após a exclusão
+     */
+    public CompletableFuture<Void> excluirAsync(int id) {
+        return executor.assincrono(() -> {
+            funcionarioDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca um Funcionario pelo ID.
+     *
+     * @param id o ID do Funcionario
+     * @return futuro com o Funcionario, ou null se não encontrado
+     */
+    public CompletableFuture<Funcionario> buscarPorIdAsync(int id) {
+        return executor.assincrono(() -> funcionarioDao.buscarPorId(id));
+    }
+
+    /**
+     * Busca vários Funcionarios pelo ID.
+     *
+     * @param ids os IDs dos Funcionarios
+     * @return futuro com o mapa de ID para Funcionario, apenas com os encontrados
+     */
+    public CompletableFuture<Map<Integer, Funcionario>> buscarPorIdsAsync(Collection<Integer> ids) {
+        return executor.assincrono(() -> funcionarioDao.buscarPorIds(ids));
+    }
+
+    /**
+     * Lista todos os Funcionarios.
+     *
+     * @return futuro com a lista de Funcionarios
+     */
+    public CompletableFuture<List<Funcionario>> listarAsync() {
+        return executor.assincrono(funcionarioDao::listar);
+    }
+
+    /**
+     * Lista uma página de Funcionarios.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return futuro com a página de Funcionarios
+     */
+    public CompletableFuture<Pagina<Funcionario>> listarAsync(int aposId, int limite) {
+        return executor.assincrono(() -> funcionarioDao.listar(aposId, limite));
+    }
+
+    /**
+     * Busca um Funcionario pela matrícula.
+     *
+     * @param matricula a matrícula do Funcionario
+     * @return futuro com o Funcionario, ou null se não encontrado
+     */
+    public CompletableFuture<Funcionario> buscarPorMatriculaAsync(String matricula) {
+        return executor.assincrono(() -> funcionarioDao.buscarPorMatricula(matricula));
+    }
+
+    /**
+     * Lista uma página dos Funcionarios de um departamento.
+     *
+     * @param departamento o departamento procurado
+     * @param aposId       ID após o qual a página começa
+     * @param limite       quantidade máxima de itens da página
+     * @return futuro com a página de Funcionarios do departamento
+     */
+    public CompletableFuture<Pagina<Funcionario>> buscarPorDepartamentoAsync(String departamento, int aposId, int limite) {
+        return executor.assincrono(() -> funcionarioDao.buscarPorDepartamento(departamento, aposId, limite));
+    }
+
+    /**
+     * Percorre todos os Funcionarios sem carregar a tabela em memória.
+     * A ação é chamada na virtual thread da operação.
+     *
+     * @param acao a ação executada para cada Funcionario
+     * @return futuro concluído após percorrer todos os Funcionarios
+     */
+    public CompletableFuture<Void> percorrerAsync(Consumer<? super Funcionario> acao) {
+        return executor.assincrono(() -> {
+            funcionarioDao.percorrer(acao);
+            return null;
+        });
+    }
+
+    /**
+     * Insere vários Funcionarios em lote.
+     *
+     * @param funcionarios os Funcionarios a inserir
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Funcionario>> inserirLoteAsync(Iterable<Funcionario> funcionarios) {
+        return executor.assincrono(() -> funcionarioDao.inserirLote(funcionarios));
+    }
+
+    /**
+     * Atualiza vários Funcionarios em lote.
+     *
+     * @param funcionarios os Funcionarios com os dados atualizados
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Funcionario>> atualizarLoteAsync(Iterable<Funcionario> funcionarios) {
+        return executor.assincrono(() -> funcionarioDao.atualizarLote(funcionarios));
+    }
+
+    /**
+     * Exclui vários Funcionarios pelo ID.
+     *
+     * @param ids os IDs a excluir
+     * @return futuro com o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados
+     */
+    public CompletableFuture<ResultadoLote<Integer>> excluirLoteAsync(Collection<Integer> ids) {
+        return executor.assincrono(() -> funcionarioDao.excluirLote(ids));
+    }
+
+    /**
+     * Insere ou atualiza um Funcionario.
+     *
+     * @param funcionario o Funcionario a salvar
+     * @return futuro com true se o Funcionario foi inserido, false se foi atualizado
+     */
+    public CompletableFuture<Boolean> salvarAsync(Funcionario funcionario) {
+        return executor.assincrono(() -> funcionarioDao.salvar(funcionario));
+    }
+
+    /**
+     * Insere ou atualiza vários Funcionarios em lote.
+     *
+     * @param funcionarios os Funcionarios a salvar
+     * @return futuro com o resultado do lote, separando os inseridos dos atualizados
+     */
+    public CompletableFuture<ResultadoSalvar<Funcionario>> salvarLoteAsync(Iterable<Funcionario> funcionarios) {
+        return executor.assincrono(() -> funcionarioDao.salvarLote(funcionarios));
+    }
+
+    /**
+     * Estima o total de Funcionarios cadastrados.
+     *
+     * @return futuro com a quantidade estimada de Funcionarios
+     */
+    public CompletableFuture<Long> estimarTotalAsync() {
+        return executor.assincrono(funcionarioDao::estimarTotal);
+    }
+}
@@ -0,0 +1,731 @@
+package servico;
+
+import classe.Funcionario;
+import classe.Pessoa;
+import classe.Projeto;
+import dao.CachesEntidades;
+import dao.DicionariosColunas;
+import dao.FuncionarioDao;
+import dao.OuvinteAlteracoes;
+import dao.PessoaDao;
+import dao.ProjetoDao;
+import util.ListaInt;
+import util.Log;
+import util.MapaInt;
+import util.Medicao;
+import util.Metricas;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cópia em memória de Pessoas, Funcionarios e Projetos para consultas de leitura frequentes,
+ * como "Projetos do Funcionario X" e "Funcionarios do departamento Y", respondidas sem ir ao banco.
+ *
+ * Os dados ficam em colunas (um array por atributo), localizadas pelo ID em mapas de chaves int,
+ * sem um objeto por registro. Os Projetos de cada Funcionario e os Funcionarios de cada departamento
+ * são mantidos em índices atualizados junto com os registros.
+ *
+ * As alterações feitas pelos DAOs deste processo são anotadas e aplicadas por {@link #atualizar()},
+ * que relê apenas os IDs alterados; alterações feitas por outros processos só aparecem em
+ * {@link #recarregar()}. As consultas podem ser feitas por várias threads ao mesmo tempo;
+ * recarregar e atualizar também, mas são executados um de cada vez.
+ */
+public final class InstantaneoEmpresa implements AutoCloseable {
+    // Valor de MapaInt para ID ausente
+    private static final int AUSENTE = -1;
+    // Quantidade de IDs pendentes a partir da qual a atualização recarrega tudo
+    private static final int LIMITE_PENDENTES = Integer.getInteger("empresa.instantaneo.limitePendentes", 10000);
+    // Posição de cada tabela nas listas de IDs pendentes
+    private static final int PESSOAS = 0;
+    private static final int FUNCIONARIOS = 1;
+    private static final int PROJETOS = 2;
+
+    // DAOs usados na leitura
+    private final PessoaDao pessoaDao = new PessoaDao();
+    private final FuncionarioDao funcionarioDao = new FuncionarioDao();
+    private final ProjetoDao projetoDao = new ProjetoDao();
+
+    // Protege os dados: consultas em leitura, atualizações em escrita
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private Dados dados = new Dados(16);
+    // Serializa recarregar e atualizar, sem bloquear as consultas durante a leitura do banco
+    private final ReentrantLock recarga = new ReentrantLock();
+
+    // IDs alterados desde a última atualização (protegidos por pendentes)
+    private final Object pendentes = new Object();
+    private ListaInt[] idsPendentes = novasPendencias();
+    private int totalPendentes;
+    private boolean recarregarTudo;
+
+    // Anota os IDs alterados pelos DAOs
+    private final OuvinteAlteracoes ouvinte = new OuvinteAlteracoes() {
+        @Override
+        public void pessoaAlterada(int id) {
+            anotar(PESSOAS, id);
+        }
+
+        @Override
+        public void funcionarioAlterado(int id) {
+            anotar(FUNCIONARIOS, id);
+        }
+
+        @Override
+        public void projetoAlterado(int id) {
+            anotar(PROJETOS, id);
+        }
+    };
+
+    /**
+     * Cria o instantâneo vazio e passa a anotar as alterações dos DAOs.
+     * Use {@link #recarregar()} para fazer a primeira carga.
+     */
+    public InstantaneoEmpresa() {
+        CachesEntidades.adicionarOuvinte(ouvinte);
+    }
+
+    /**
+     * Cria o instantâneo e faz a primeira carga.
+     *
+     * @return o instantâneo carregado
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static InstantaneoEmpresa carregar() throws SQLException {
+        InstantaneoEmpresa instantaneo = new InstantaneoEmpresa();
+        try {
+            instantaneo.recarregar();
+            return instantaneo;
+        } catch (SQLException | RuntimeException e) {
+            instantaneo.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lê novamente todas as tabelas. A nova cópia é montada sem bloquear as consultas,
+     * que passam a vê-la de uma só vez ao final.
+     *
+     * @return a quantidade de linhas lidas
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public long recarregar() throws SQLException {
+        // Uma recarga ou atualização por vez: as leituras são aplicadas na ordem em que foram feitas
+        recarga.lock();
+        try (Medicao medicao = Metricas.medir("InstantaneoEmpresa.recarregar")) {
+            // Descarta as pendências antes da leitura: alterações feitas durante ela são anotadas de novo
+            retirarPendentes();
+            Dados novos = new Dados(1024);
+            long linhas = pessoaDao.percorrerLinhas(novos::lerPessoa);
+            linhas += funcionarioDao.percorrerLinhas(novos::lerFuncionario);
+            linhas += projetoDao.percorrerLinhas(novos::lerProjeto);
+            trava.writeLock().lock();
+            try {
+                dados = novos;
+            } finally {
+                trava.writeLock().unlock();
+            }
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Instantâneo carregado: " + novos.pessoas + " pessoa(s), " + novos.funcionarios +
+                           " funcionário(s) e " + novos.projetos + " projeto(s).");
+            medicao.concluir(linhas);
+            return linhas;
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    /**
+     * Aplica as alterações feitas pelos DAOs deste processo desde a última carga ou atualização,
+     * relendo apenas os IDs alterados. Se houver mais de {@code empresa.instantaneo.limitePendentes}
+     * (padrão 10000) IDs pendentes, recarrega tudo.
+     *
+     * @return a quantidade de IDs aplicados ou, se recarregou tudo, a quantidade de registros
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public int atualizar() throws SQLException {
+        // Uma recarga ou atualização por vez: as leituras são aplicadas na ordem em que foram feitas
+        recarga.lock();
+        try {
+            ListaInt[] alterados;
+            synchronized (pendentes) {
+                if (recarregarTudo) {
+                    alterados = null;
+                } else {
+                    alterados = retirarPendentes();
+                }
+            }
+            if (alterados == null) {
+                recarregar();
+                return getTotalPessoas() + getTotalFuncionarios() + getTotalProjetos();
+            }
+            int total = alterados[PESSOAS].getTamanho() + alterados[FUNCIONARIOS].getTamanho() +
+                        alterados[PROJETOS].getTamanho();
+            if (total == 0) {
+                return 0;
+            }
+            try (Medicao medicao = Metricas.medir("InstantaneoEmpresa.atualizar")) {
+                // Lê as linhas atuais dos IDs alterados; os que não vierem foram removidos
+                Dados lidos = new Dados(total);
+                pessoaDao.percorrerLinhas(ids(alterados[PESSOAS]), lidos::lerPessoa);
+                funcionarioDao.percorrerLinhas(ids(alterados[FUNCIONARIOS]), lidos::lerFuncionario);
+                projetoDao.percorrerLinhas(ids(alterados[PROJETOS]), lidos::lerProjeto);
+                trava.writeLock().lock();
+                try {
+                    dados.aplicar(lidos, alterados[PESSOAS], alterados[FUNCIONARIOS], alterados[PROJETOS]);
+                } finally {
+                    trava.writeLock().unlock();
+                }
+                medicao.concluir(total);
+                return total;
+            } catch (SQLException | RuntimeException e) {
+                // Os IDs retirados não foram aplicados: a próxima atualização recarrega tudo
+                synchronized (pendentes) {
+                    recarregarTudo = true;
+                }
+                throw e;
+            }
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    /**
+     * Obtém os IDs dos Projetos de um Funcionario.
+     *
+     * @param idFuncionario o ID do Funcionario responsável
+     * @return os IDs dos Projetos, em ordem crescente (vazio se não houver)
+     */
+    public int[] projetosDoFuncionario(int idFuncionario) {
+        trava.readLock().lock();
+        try {
+            int lista = dados.listaResponsavel.obter(idFuncionario);
+            return lista == AUSENTE ? new int[0] : ordenados(dados.projetosPorResponsavel[lista]);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém os IDs dos Funcionarios de um departamento (comparação exata do nome).
+     *
+     * @param departamento o departamento
+     * @return os IDs dos Funcionarios, em ordem crescente (vazio se não houver)
+     */
+    public int[] funcionariosDoDepartamento(String departamento) {
+        trava.readLock().lock();
+        try {
+            ListaInt ids = dados.funcionariosPorDepartamento.get(departamento);
+            return ids == null ? new int[0] : ordenados(ids);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lista os Projetos de um Funcionario.
+     *
+     * @param idFuncionario o ID do Funcionario responsável
+     * @return os Projetos, em ordem de ID
+     */
+    public List<Projeto> listarProjetosDoFuncionario(int idFuncionario) {
+        trava.readLock().lock();
+        try {
+            int lista = dados.listaResponsavel.obter(idFuncionario);
+            if (lista == AUSENTE) {
+                return Collections.emptyList();
+            }
+            int[] ids = ordenados(dados.projetosPorResponsavel[lista]);
+            List<Projeto> projetos = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                projetos.add(dados.projeto(dados.linhaProjeto.obter(id)));
+            }
+            return projetos;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lista os Funcionarios de um departamento (comparação exata do nome).
+     *
+     * @param departamento o departamento
+     * @return os Funcionarios, em ordem de ID
+     */
+    public List<Funcionario> listarFuncionariosDoDepartamento(String departamento) {
+        trava.readLock().lock();
+        try {
+            ListaInt lista = dados.funcionariosPorDepartamento.get(departamento);
+            if (lista == null) {
+                return Collections.emptyList();
+            }
+            int[] ids = ordenados(lista);
+            List<Funcionario> funcionarios = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                funcionarios.add(dados.funcionario(dados.linhaFuncionario.obter(id)));
+            }
+            return funcionarios;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém uma Pessoa pelo ID.
+     *
+     * @param id o ID
+     * @return a Pessoa, ou null se não existir no instantâneo
+     */
+    public Pessoa pessoa(int id) {
+        trava.readLock().lock();
+        try {
+            int linha = dados.linhaPessoa.obter(id);
+            return linha == AUSENTE ? null : Pessoa.doBanco(id, dados.nome[linha], dados.email[linha]);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém um Funcionario pelo ID.
+     *
+     * @param id o ID
+     * @return o Funcionario, ou null se não existir no instantâneo
+     */
+    public Funcionario funcionario(int id) {
+        trava.readLock().lock();
+        try {
+            int linha = dados.linhaFuncionario.obter(id);
+            return linha == AUSENTE ? null : dados.funcionario(linha);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém um Projeto pelo ID.
+     *
+     * @param id o ID
+     * @return o Projeto, ou null se não existir no instantâneo
+     */
+    public Projeto projeto(int id) {
+        trava.readLock().lock();
+        try {
+            int linha = dados.linhaProjeto.obter(id);
+            return linha == AUSENTE ? null : dados.projeto(linha);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de Pessoas no instantâneo.
+     *
+     * @return a quantidade de Pessoas
+     */
+    public int getTotalPessoas() {
+        trava.readLock().lock();
+        try {
+            return dados.pessoas;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de Funcionarios no instantâneo.
+     *
+     * @return a quantidade de Funcionarios
+     */
+    public int getTotalFuncionarios() {
+        trava.readLock().lock();
+        try {
+            return dados.funcionarios;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de Projetos no instantâneo.
+     *
+     * @return a quantidade de Projetos
+     */
+    public int getTotalProjetos() {
+        trava.readLock().lock();
+        try {
+            return dados.projetos;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Para de anotar as alterações dos DAOs.
+     */
+    @Override
+    public void close() {
+        CachesEntidades.removerOuvinte(ouvinte);
+    }
+
+    /**
+     * Anota um ID alterado; acima do limite, marca para recarregar tudo e descarta os IDs.
+     */
+    private void anotar(int tabela, int id) {
+        synchronized (pendentes) {
+            if (recarregarTudo) {
+                return;
+            }
+            idsPendentes[tabela].adicionar(id);
+            if (++totalPendentes > LIMITE_PENDENTES) {
+                retirarPendentes();
+                recarregarTudo = true;
+            }
+        }
+    }
+
+    /**
+     * Retira as listas de IDs pendentes, deixando listas vazias no lugar, e desmarca a recarga completa.
+     *
+     * @return os IDs pendentes de Pessoas, Funcionarios e Projetos
+     */
+    private ListaInt[] retirarPendentes() {
+        synchronized (pendentes) {
+            ListaInt[] retirados = idsPendentes;
+            idsPendentes = novasPendencias();
+            totalPendentes = 0;
+            recarregarTudo = false;
+            return retirados;
+        }
+    }
+
+    /**
+     * Cria as listas vazias de IDs pendentes, uma por tabela.
+     */
+    private static ListaInt[] novasPendencias() {
+        return new ListaInt[] {new ListaInt(16), new ListaInt(16), new ListaInt(16)};
+    }
+
+    /**
+     * Converte a lista de IDs para a coleção usada pelos DAOs.
+     */
+    private static List<Integer> ids(ListaInt lista) {
+        List<Integer> ids = new ArrayList<>(lista.getTamanho());
+        for (int i = 0; i < lista.getTamanho(); i++) {
+            ids.add(lista.obter(i));
+        }
+        return ids;
+    }
+
+    /**
+     * Copia os IDs da lista em ordem crescente.
+     */
+    private static int[] ordenados(ListaInt lista) {
+        int[] ids = lista.paraArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Colunas e índices de uma cópia. Os registros ocupam as posições de 0 até o total - 1;
+     * ao remover um registro, o último passa para a posição liberada.
+     */
+    private static final class Dados {
+        // Pessoas: posição de cada ID e colunas
+        final MapaInt linhaPessoa;
+        int[] idPessoa;
+        String[] nome;
+        String[] email;
+        int pessoas;
+
+        // Funcionarios: posição de cada ID e colunas (nome e email ficam nas colunas da Pessoa)
+        final MapaInt linhaFuncionario;
+        int[] idFuncionario;
+        String[] matricula;
+        String[] departamento;
+        int funcionarios;
+        // IDs dos Funcionarios de cada departamento
+        final Map<String, ListaInt> funcionariosPorDepartamento = new HashMap<>();
+
+        // Projetos: posição de cada ID e colunas
+        final MapaInt linhaProjeto;
+        int[] idProjeto;
+        String[] nomeProjeto;
+        String[] descricao;
+        int[] responsavel;
+        int projetos;
+
+        // IDs dos Projetos de cada Funcionario: ID do Funcionario -> posição em projetosPorResponsavel
+        final MapaInt listaResponsavel;
+        ListaInt[] projetosPorResponsavel;
+        int listas;
+
+        /**
+         * Cria a cópia vazia com a capacidade inicial informada.
+         */
+        Dados(int capacidade) {
+            linhaPessoa = new MapaInt(capacidade, AUSENTE);
+            idPessoa = new int[capacidade];
+            nome = new String[capacidade];
+            email = new String[capacidade];
+            linhaFuncionario = new MapaInt(capacidade, AUSENTE);
+            idFuncionario = new int[capacidade];
+            matricula = new String[capacidade];
+            departamento = new String[capacidade];
+            linhaProjeto = new MapaInt(capacidade, AUSENTE);
+            idProjeto = new int[capacidade];
+            nomeProjeto = new String[capacidade];
+            descricao = new String[capacidade];
+            responsavel = new int[capacidade];
+            listaResponsavel = new MapaInt(capacidade, AUSENTE);
+            projetosPorResponsavel = new ListaInt[capacidade];
+        }
+
+        /**
+         * Insere ou atualiza a Pessoa da linha atual (colunas de {@link PessoaDao#percorrerLinhas}),
+         * compartilhando os textos repetidos das colunas configuradas em {@link DicionariosColunas}.
+         */
+        void lerPessoa(ResultSet rs) throws SQLException {
+            colocarPessoa(rs.getInt(1), DicionariosColunas.NOME_PESSOA.valor(rs.getString(2)),
+                          DicionariosColunas.EMAIL.valor(rs.getString(3)));
+        }
+
+        /**
+         * Insere ou atualiza o Funcionario da linha atual (colunas de {@link FuncionarioDao#percorrerLinhas}).
+         */
+        void lerFuncionario(ResultSet rs) throws SQLException {
+            colocarFuncionario(rs.getInt(1), DicionariosColunas.NOME_PESSOA.valor(rs.getString(2)),
+                               DicionariosColunas.EMAIL.valor(rs.getString(3)), rs.getString(4),
+                               DicionariosColunas.DEPARTAMENTO.valor(rs.getString(5)));
+        }
+
+        /**
+         * Insere ou atualiza o Projeto da linha atual (colunas de {@link ProjetoDao#percorrerLinhas}).
+         */
+        void lerProjeto(ResultSet rs) throws SQLException {
+            colocarProjeto(rs.getInt(1), DicionariosColunas.NOME_PROJETO.valor(rs.getString(2)),
+                           DicionariosColunas.DESCRICAO.valor(rs.getString(3)), rs.getInt(4));
+        }
+
+        /**
+         * Insere ou atualiza uma Pessoa.
+         */
+        void colocarPessoa(int id, String nomePessoa, String emailPessoa) {
+            int linha = linhaPessoa.obter(id);
+            if (linha == AUSENTE) {
+                if (pessoas == idPessoa.length) {
+                    int capacidade = pessoas << 1;
+                    idPessoa = Arrays.copyOf(idPessoa, capacidade);
+                    nome = Arrays.copyOf(nome, capacidade);
+                    email = Arrays.copyOf(email, capacidade);
+                }
+                linha = pessoas++;
+                linhaPessoa.colocar(id, linha);
+                idPessoa[linha] = id;
+            }
+            nome[linha] = nomePessoa;
+            email[linha] = emailPessoa;
+        }
+
+        /**
+         * Remove uma Pessoa, se existir.
+         */
+        void removerPessoa(int id) {
+            int linha = linhaPessoa.remover(id);
+            if (linha == AUSENTE) {
+                return;
+            }
+            int ultima = --pessoas;
+            if (linha != ultima) {
+                idPessoa[linha] = idPessoa[ultima];
+                nome[linha] = nome[ultima];
+                email[linha] = email[ultima];
+                linhaPessoa.colocar(idPessoa[linha], linha);
+            }
+            nome[ultima] = null;
+            email[ultima] = null;
+        }
+
+        /**
+         * Insere ou atualiza um Funcionario e os dados da Pessoa dele.
+         */
+        void colocarFuncionario(int id, String nomePessoa, String emailPessoa, String matriculaFuncionario,
+                                String departamentoFuncionario) {
+            colocarPessoa(id, nomePessoa, emailPessoa);
+            int linha = linhaFuncionario.obter(id);
+            if (linha == AUSENTE) {
+                if (funcionarios == idFuncionario.length) {
+                    int capacidade = funcionarios << 1;
+                    idFuncionario = Arrays.copyOf(idFuncionario, capacidade);
+                    matricula = Arrays.copyOf(matricula, capacidade);
+                    departamento = Arrays.copyOf(departamento, capacidade);
+                }
+                linha = funcionarios++;
+                linhaFuncionario.colocar(id, linha);
+                idFuncionario[linha] = id;
+            } else if (!departamento[linha].equals(departamentoFuncionario)) {
+                retirarDoDepartamento(departamento[linha], id);
+                departamento[linha] = null;
+            }
+            if (departamento[linha] == null) {
+                funcionariosPorDepartamento.computeIfAbsent(departamentoFuncionario, d -> new ListaInt(8)).adicionar(id);
+            }
+            matricula[linha] = matriculaFuncionario;
+            departamento[linha] = departamentoFuncionario;
+        }
+
+        /**
+         * Remove um Funcionario, se existir (a Pessoa dele é mantida).
+         */
+        void removerFuncionario(int id) {
+            int linha = linhaFuncionario.remover(id);
+            if (linha == AUSENTE) {
+                return;
+            }
+            retirarDoDepartamento(departamento[linha], id);
+            int ultima = --funcionarios;
+            if (linha != ultima) {
+                idFuncionario[linha] = idFuncionario[ultima];
+                matricula[linha] = matricula[ultima];
+                departamento[linha] = departamento[ultima];
+                linhaFuncionario.colocar(idFuncionario[linha], linha);
+            }
+            matricula[ultima] = null;
+            departamento[ultima] = null;
+        }
+
+        /**
+         * Retira o Funcionario do índice do departamento, descartando departamentos vazios.
+         */
+        private void retirarDoDepartamento(String nomeDepartamento, int id) {
+            ListaInt ids = funcionariosPorDepartamento.get(nomeDepartamento);
+            if (ids != null && ids.remover(id) && ids.getTamanho() == 0) {
+                funcionariosPorDepartamento.remove(nomeDepartamento);
+            }
+        }
+
+        /**
+         * Insere ou atualiza um Projeto.
+         */
+        void colocarProjeto(int id, String nomeDoProjeto, String descricaoProjeto, int idResponsavel) {
+            int linha = linhaProjeto.obter(id);
+            if (linha == AUSENTE) {
+                if (projetos == idProjeto.length) {
+                    int capacidade = projetos << 1;
+                    idProjeto = Arrays.copyOf(idProjeto, capacidade);
+                    nomeProjeto = Arrays.copyOf(nomeProjeto, capacidade);
+                    descricao = Arrays.copyOf(descricao, capacidade);
+                    responsavel = Arrays.copyOf(responsavel, capacidade);
+                }
+                linha = projetos++;
+                linhaProjeto.colocar(id, linha);
+                idProjeto[linha] = id;
+                projetosDe(idResponsavel).adicionar(id);
+            } else if (responsavel[linha] != idResponsavel) {
+                projetosDe(responsavel[linha]).remover(id);
+                projetosDe(idResponsavel).adicionar(id);
+            }
+            nomeProjeto[linha] = nomeDoProjeto;
+            descricao[linha] = descricaoProjeto;
+            responsavel[linha] = idResponsavel;
+        }
+
+        /**
+         * Remove um Projeto, se existir.
+         */
+        void removerProjeto(int id) {
+            int linha = linhaProjeto.remover(id);
+            if (linha == AUSENTE) {
+                return;
+            }
+            projetosDe(responsavel[linha]).remover(id);
+            int ultima = --projetos;
+            if (linha != ultima) {
+                idProjeto[linha] = idProjeto[ultima];
+                nomeProjeto[linha] = nomeProjeto[ultima];
+                descricao[linha] = descricao[ultima];
+                responsavel[linha] = responsavel[ultima];
+                linhaProjeto.colocar(idProjeto[linha], linha);
+            }
+            nomeProjeto[ultima] = null;
+            descricao[ultima] = null;
+        }
+
+        /**
+         * Obtém a lista de Projetos do Funcionario, criando-a se necessário.
+         * As listas vazias são mantidas até a próxima carga completa.
+         */
+        private ListaInt projetosDe(int idResponsavel) {
+            int lista = listaResponsavel.obter(idResponsavel);
+            if (lista == AUSENTE) {
+                if (listas == projetosPorResponsavel.length) {
+                    projetosPorResponsavel = Arrays.copyOf(projetosPorResponsavel, listas << 1);
+                }
+                lista = listas++;
+                projetosPorResponsavel[lista] = new ListaInt(4);
+                listaResponsavel.colocar(idResponsavel, lista);
+            }
+            return projetosPorResponsavel[lista];
+        }
+
+        /**
+         * Aplica as linhas relidas dos IDs alterados: IDs presentes são inseridos ou atualizados,
+         * IDs ausentes são removidos.
+         */
+        void aplicar(Dados lidos, ListaInt idsPessoas, ListaInt idsFuncionarios, ListaInt idsProjetos) {
+            for (int i = 0; i < idsPessoas.getTamanho(); i++) {
+                int id = idsPessoas.obter(i);
+                int linha = lidos.linhaPessoa.obter(id);
+                if (linha == AUSENTE) {
+                    removerPessoa(id);
+                } else {
+                    colocarPessoa(id, lidos.nome[linha], lidos.email[linha]);
+                }
+            }
+            for (int i = 0; i < idsFuncionarios.getTamanho(); i++) {
+                int id = idsFuncionarios.obter(i);
+                int linha = lidos.linhaFuncionario.obter(id);
+                if (linha == AUSENTE) {
+                    removerFuncionario(id);
+                } else {
+                    int linhaPessoa = lidos.linhaPessoa.obter(id);
+                    colocarFuncionario(id, lidos.nome[linhaPessoa], lidos.email[linhaPessoa],
+                                       lidos.matricula[linha], lidos.departamento[linha]);
+                }
+            }
+            for (int i = 0; i < idsProjetos.getTamanho(); i++) {
+                int id = idsProjetos.obter(i);
+                int linha = lidos.linhaProjeto.obter(id);
+                if (linha == AUSENTE) {
+                    removerProjeto(id);
+                } else {
+                    colocarProjeto(id, lidos.nomeProjeto[linha], lidos.descricao[linha], lidos.responsavel[linha]);
+                }
+            }
+        }
+
+        /**
+         * Monta o Funcionario da posição informada.
+         */
+        Funcionario funcionario(int linha) {
+            int id = idFuncionario[linha];
+            int linhaPessoa = this.linhaPessoa.obter(id);
+            String nomePessoa = linhaPessoa == AUSENTE ? null : nome[linhaPessoa];
+            String emailPessoa = linhaPessoa == AUSENTE ? null : email[linhaPessoa];
+            return Funcionario.doBanco(id, nomePessoa, emailPessoa, matricula[linha], departamento[linha]);
+        }
+
+        /**
+         * Monta o Projeto da posição informada.
+         */
+        Projeto projeto(int linha) {
+            return Projeto.doBanco(idProjeto[linha], nomeProjeto[linha], descricao[linha], responsavel[linha]);
+        }
+    }
+}
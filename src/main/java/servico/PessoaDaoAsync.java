@@ -0,0 +1,197 @@
+package servico;
+
+import classe.Pessoa;
+import dao.Pagina;
+import dao.PessoaDao;
+import dao.ResultadoLote;
+import dao.ResultadoSalvar;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Versão assíncrona do {@link PessoaDao}.
+ * Cada método inicia a operação em uma virtual thread do {@link ExecutorDao} e retorna um
+ * CompletableFuture, permitindo sobrepor consultas independentes. Em caso de erro, o futuro
+ * é completado com a mesma SQLException (e mensagem) lançada pelo método síncrono.
+ */
+public class PessoaDaoAsync {
+    // Executor das operações
+    private final ExecutorDao executor;
+    // DAO síncrono usado pelas operações
+    private final PessoaDao pessoaDao = new PessoaDao();
+
+    /**
+     * Cria o DAO assíncrono usando o executor informado.
+     *
+     * @param executor o executor das operações (compartilhe-o para respeitar o limite do pool)
+     */
+    public PessoaDaoAsync(ExecutorDao executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Insere uma Pessoa.
+     *
+     * @param pessoa a Pessoa a inserir
+     * @return futuro concluído após a inserção (o ID é atribuído à Pessoa)
+     */
+    public CompletableFuture<Void> inserirAsync(Pessoa pessoa) {
+        return executor.assincrono(() -> {
+            pessoaDao.inserir(pessoa);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza uma Pessoa.
+     *
+     * @param pessoa a Pessoa com os dados atualizados
+     * @return futuro concluído após a atualização
+     */
+    public CompletableFuture<Void> atualizarAsync(Pessoa pessoa) {
+        return executor.assincrono(() -> {
+            pessoaDao.atualizar(pessoa);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui uma Pessoa.
+     *
+     * @param id o ID da Pessoa
+     * @return futuro concluído após a exclusão
+     */
+    public CompletableFuture<Void> excluirAsync(int id) {
+        return executor.assincrono(() -> {
+            pessoaDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca uma Pessoa pelo ID.
+     *
+     * @param id o ID da Pessoa
+     * @return futuro com a Pessoa, ou null se não encontrada
+     */
+    public CompletableFuture<Pessoa> buscarPorIdAsync(int id) {
+        return executor.assincrono(() -> pessoaDao.buscarPorId(id));
+    }
+
+    /**
+     * Lista todas as Pessoas.
+     *
+     * @return futuro com a lista de Pessoas
+     */
+    public CompletableFuture<List<Pessoa>> listarAsync() {
+        return executor.assincrono(pessoaDao::listar);
+    }
+
+    /**
+     * Lista uma página de Pessoas.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return futuro com a página de Pessoas
+     */
+    public CompletableFuture<Pagina<Pessoa>> listarAsync(int aposId, int limite) {
+        return executor.assincrono(() -> pessoaDao.listar(aposId, limite));
+    }
+
+    /**
+     * Busca uma Pessoa pelo e-mail.
+     *
+     * @param email o e-mail da Pessoa
+     * @return futuro com a Pessoa, ou null se não encontrada
+     */
+    public CompletableFuture<Pessoa> buscarPorEmailAsync(String email) {
+        return executor.assincrono(() -> pessoaDao.buscarPorEmail(email));
+    }
+
+    /**
+     * Lista uma página das Pessoas cujo nome começa pelo prefixo.
+     *
+     * @param prefixo o início do nome procurado
+     * @param aposId  ID após o qual a página começa
+     * @param limite  quantidade máxima de itens da página
+     * @return futuro com a página de Pessoas encontradas
+     */
+    public CompletableFuture<Pagina<Pessoa>> buscarPorPrefixoNomeAsync(String prefixo, int aposId, int limite) {
+        return executor.assincrono(() -> pessoaDao.buscarPorPrefixoNome(prefixo, aposId, limite));
+    }
+
+    /**
+     * Percorre todas as Pessoas sem carregar a tabela em memória.
+     * A ação é chamada na virtual thread da operação.
+     *
+     * @param acao a ação executada para cada Pessoa
+     * @return futuro concluído após percorrer todas as Pessoas
+     */
+    public CompletableFuture<Void> percorrerAsync(Consumer<? super Pessoa> acao) {
+        return executor.assincrono(() -> {
+            pessoaDao.percorrer(acao);
+            return null;
+        });
+    }
+
+    /**
+     * Insere várias Pessoas em lote.
+     *
+     * @param pessoas as Pessoas a inserir
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Pessoa>> inserirLoteAsync(Iterable<Pessoa> pessoas) {
+        return executor.assincrono(() -> pessoaDao.inserirLote(pessoas));
+    }
+
+    /**
+     * Atualiza várias Pessoas em lote.
+     *
+     * @param pessoas as Pessoas com os dados atualizados
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Pessoa>> atualizarLoteAsync(Iterable<Pessoa> pessoas) {
+        return executor.assincrono(() -> pessoaDao.atualizarLote(pessoas));
+    }
+
+    /**
+     * Exclui várias Pessoas pelo ID.
+     *
+     * @param ids os IDs a excluir
+     * @return futuro com o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados
+     */
+    public CompletableFuture<ResultadoLote<Integer>> excluirLoteAsync(Collection<Integer> ids) {
+        return executor.assincrono(() -> pessoaDao.excluirLote(ids));
+    }
+
+    /**
+     * Insere ou atualiza uma Pessoa.
+     *
+     * @param pessoa a Pessoa a salvar
+     * @return futuro com true se a Pessoa foi inserida, false se foi atualizada
+     */
+    public CompletableFuture<Boolean> salvarAsync(Pessoa pessoa) {
+        return executor.assincrono(() -> pessoaDao.salvar(pessoa));
+    }
+
+    /**
+     * Insere ou atualiza várias Pessoas em lote.
+     *
+     * @param pessoas as Pessoas a salvar
+     * @return futuro com o resultado do lote, separando as inseridas das atualizadas
+     */
+    public CompletableFuture<ResultadoSalvar<Pessoa>> salvarLoteAsync(Iterable<Pessoa> pessoas) {
+        return executor.assincrono(() -> pessoaDao.salvarLote(pessoas));
+    }
+
+    /**
+     * Estima o total de Pessoas cadastradas.
+     *
+     * @return futuro com a quantidade estimada de Pessoas
+     */
+    public CompletableFuture<Long> estimarTotalAsync() {
+        return executor.assincrono(pessoaDao::estimarTotal);
+    }
+}
@@ -0,0 +1,225 @@
+package servico;
+
+import classe.Funcionario;
+import classe.Projeto;
+import classe.ProjetoComResponsavel;
+import dao.Pagina;
+import dao.ProjetoDao;
+import dao.ResultadoLote;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Versão assíncrona do {@link ProjetoDao}.
+ * Cada método inicia a operação em uma virtual thread do {@link ExecutorDao} e retorna um
+ * CompletableFuture; erros completam o futuro com a mesma SQLException do método síncrono.
+ */
+public class ProjetoDaoAsync {
+    // Executor das operações
+    private final ExecutorDao executor;
+    // DAO síncrono usado pelas operações
+    private final ProjetoDao projetoDao = new ProjetoDao();
+    // DAO assíncrono de Funcionarios, usado para buscar o responsável em paralelo
+    private final FuncionarioDaoAsync funcionarioDaoAsync;
+
+    /**
+     * Cria o DAO assíncrono usando o executor informado.
+     *
+     * @param executor o executor das operações (compartilhe-o para respeitar o limite do pool)
+     */
+    public ProjetoDaoAsync(ExecutorDao executor) {
+        this.executor = executor;
+        this.funcionarioDaoAsync = new FuncionarioDaoAsync(executor);
+    }
+
+    /**
+     * Insere um Projeto.
+     *
+     * @param projeto o Projeto a inserir
+     * @return futuro concluído após a inserção
+     */
+    public CompletableFuture<Void> inserirAsync(Projeto projeto) {
+        return executor.assincrono(() -> {
+            projetoDao.inserir(projeto);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza um Projeto.
+     *
+     * @param projeto o Projeto com os dados atualizados
+     * @return futuro concluído após a atualização
+     */
+    public CompletableFuture<Void> atualizarAsync(Projeto projeto) {
+        return executor.assincrono(() -> {
+            projetoDao.atualizar(projeto);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui um Projeto.
+     *
+     * @param id o ID do Projeto
+     * @return futuro concluído após a exclusão
+     */
+    public CompletableFuture<Void> excluirAsync(int id) {
+        return executor.assincrono(() -> {
+            projetoDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca um Projeto pelo ID.
+     *
+     * @param id o ID do Projeto
+     * @return futuro com o Projeto, ou null se não encontrado
+     */
+    public CompletableFuture<Projeto> buscarPorIdAsync(int id) {
+        return executor.assincrono(() -> projetoDao.buscarPorId(id));
+    }
+
+    /**
+     * Busca um Projeto com o Funcionario responsável, em um único JOIN.
+     *
+     * @param id o ID do Projeto
+     * @return futuro com o Projeto e o responsável, ou null se não encontrado
+     */
+    public CompletableFuture<ProjetoComResponsavel> buscarComResponsavelAsync(int id) {
+        return executor.assincrono(() -> projetoDao.buscarComResponsavel(id));
+    }
+
+    /**
+     * Busca um Projeto e um Funcionario ao mesmo tempo, quando o ID do responsável já é conhecido.
+     * As duas consultas são independentes e rodam em paralelo, cada uma podendo ser atendida pelo cache.
+     *
+     * @param id            o ID do Projeto
+     * @param idFuncionario o ID do Funcionario responsável
+     * @return futuro com o Projeto e o responsável, ou null se o Projeto não for encontrado
+     */
+    public CompletableFuture<ProjetoComResponsavel> buscarComResponsavelAsync(int id, int idFuncionario) {
+        return buscarPorIdAsync(id).thenCombine(funcionarioDaoAsync.buscarPorIdAsync(idFuncionario),
+                (projeto, responsavel) -> projeto != null ? new ProjetoComResponsavel(projeto, responsavel) : null);
+    }
+
+    /**
+     * Lista todos os Projetos.
+     *
+     * @return futuro com a lista de Projetos
+     */
+    public CompletableFuture<List<Projeto>> listarAsync() {
+        return executor.assincrono(projetoDao::listar);
+    }
+
+    /**
+     * Lista uma página de Projetos.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return futuro com a página de Projetos
+     */
+    public CompletableFuture<Pagina<Projeto>> listarAsync(int aposId, int limite) {
+        return executor.assincrono(() -> projetoDao.listar(aposId, limite));
+    }
+
+    /**
+     * Lista uma página dos Projetos de um Funcionario responsável.
+     *
+     * @param idFuncionario o ID do Funcionario responsável
+     * @param aposId        ID após o qual a página começa
+     * @param limite        quantidade máxima de itens da página
+     * @return futuro com a página de Projetos do Funcionario
+     */
+    public CompletableFuture<Pagina<Projeto>> buscarPorFuncionarioAsync(int idFuncionario, int aposId, int limite) {
+        return executor.assincrono(() -> projetoDao.buscarPorFuncionario(idFuncionario, aposId, limite));
+    }
+
+    /**
+     * Lista uma página dos Projetos cujo nome começa pelo prefixo.
+     *
+     * @param prefixo o início do nome procurado
+     * @param aposId  ID após o qual a página começa
+     * @param limite  quantidade máxima de itens da página
+     * @return futuro com a página de Projetos encontrados
+     */
+    public CompletableFuture<Pagina<Projeto>> buscarPorPrefixoNomeAsync(String prefixo, int aposId, int limite) {
+        return executor.assincrono(() -> projetoDao.buscarPorPrefixoNome(prefixo, aposId, limite));
+    }
+
+    /**
+     * Lista todos os Projetos com os Funcionarios responsáveis.
+     *
+     * @return futuro com a lista de Projetos e responsáveis
+     */
+    public CompletableFuture<List<ProjetoComResponsavel>> listarComResponsavelAsync() {
+        return executor.assincrono(projetoDao::listarComResponsavel);
+    }
+
+    /**
+     * Percorre todos os Projetos sem carregar a tabela em memória.
+     * A ação é chamada na virtual thread da operação.
+     *
+     * @param acao a ação executada para cada Projeto
+     * @return futuro concluído após percorrer todos os Projetos
+     */
+    public CompletableFuture<Void> percorrerAsync(Consumer<? super Projeto> acao) {
+        return executor.assincrono(() -> {
+            projetoDao.percorrer(acao);
+            return null;
+        });
+    }
+
+    /**
+     * Carrega os Funcionarios responsáveis pelos Projetos informados.
+     *
+     * @param projetos os Projetos cujos responsáveis serão carregados
+     * @return futuro com o mapa do ID do Funcionario para o Funcionario responsável
+     */
+    public CompletableFuture<Map<Integer, Funcionario>> carregarResponsaveisAsync(Collection<Projeto> projetos) {
+        return executor.assincrono(() -> projetoDao.carregarResponsaveis(projetos));
+    }
+
+    /**
+     * Insere vários Projetos em lote.
+     *
+     * @param projetos os Projetos a inserir
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Projeto>> inserirLoteAsync(Iterable<Projeto> projetos) {
+        return executor.assincrono(() -> projetoDao.inserirLote(projetos));
+    }
+
+    /**
+     * Atualiza vários Projetos em lote.
+     *
+     * @param projetos os Projetos com os dados atualizados
+     * @return futuro com o resultado do lote
+     */
+    public CompletableFuture<ResultadoLote<Projeto>> atualizarLoteAsync(Iterable<Projeto> projetos) {
+        return executor.assincrono(() -> projetoDao.atualizarLote(projetos));
+    }
+
+    /**
+     * Exclui vários Projetos pelo ID.
+     *
+     * @param ids os IDs a excluir
+     * @return futuro com o resultado do lote, com os IDs excluídos e os bloqueados ou não encontrados
+     */
+    public CompletableFuture<ResultadoLote<Integer>> excluirLoteAsync(Collection<Integer> ids) {
+        return executor.assincrono(() -> projetoDao.excluirLote(ids));
+    }
+
+    /**
+     * Estima o total de Projetos cadastrados.
+     *
+     * @return futuro com a quantidade estimada de Projetos
+     */
+    public CompletableFuture<Long> estimarTotalAsync() {
+        return executor.assincrono(projetoDao::estimarTotal);
+    }
+}
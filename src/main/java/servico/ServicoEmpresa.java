@@ -0,0 +1,273 @@
+package servico;
+
+import classe.Funcionario;
+import classe.Pessoa;
+import classe.Projeto;
+import classe.ProjetoComResponsavel;
+import dao.FuncionarioDao;
+import dao.Pagina;
+import dao.PessoaDao;
+import dao.ProjetoDao;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Camada de serviço sobre os DAOs para atender requisições concorrentes.
+ * Cada operação roda em uma virtual thread do {@link ExecutorDao}, com concorrência limitada
+ * ao tamanho do pool de conexões e tempo limite. Os métodos podem ser chamados por quantas
+ * threads forem necessárias; os erros mantêm as mensagens dos DAOs.
+ */
+public class ServicoEmpresa implements AutoCloseable {
+    // Executor das operações
+    private final ExecutorDao executor;
+    // DAOs usados pelo serviço
+    private final PessoaDao pessoaDao = new PessoaDao();
+    private final FuncionarioDao funcionarioDao = new FuncionarioDao();
+    private final ProjetoDao projetoDao = new ProjetoDao();
+
+    /**
+     * Cria o serviço com um executor dimensionado pelo pool de conexões.
+     */
+    public ServicoEmpresa() {
+        this(new ExecutorDao());
+    }
+
+    /**
+     * Cria o serviço usando o executor informado.
+     *
+     * @param executor o executor das operações
+     */
+    public ServicoEmpresa(ExecutorDao executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Obtém o executor usado pelo serviço.
+     *
+     * @return o executor das operações
+     */
+    public ExecutorDao getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Insere uma Pessoa.
+     *
+     * @param pessoa a Pessoa a inserir
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public void inserirPessoa(Pessoa pessoa) throws SQLException {
+        executor.executar(() -> {
+            pessoaDao.inserir(pessoa);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza uma Pessoa.
+     *
+     * @param pessoa a Pessoa com os dados atualizados
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public void atualizarPessoa(Pessoa pessoa) throws SQLException {
+        executor.executar(() -> {
+            pessoaDao.atualizar(pessoa);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui uma Pessoa.
+     *
+     * @param id o ID da Pessoa
+     * @throws SQLException se ocorrer um erro no banco, a Pessoa estiver vinculada ou o tempo limite esgotar
+     */
+    public void excluirPessoa(int id) throws SQLException {
+        executor.executar(() -> {
+            pessoaDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca uma Pessoa pelo ID.
+     *
+     * @param id o ID da Pessoa
+     * @return a Pessoa, ou null se não encontrada
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Pessoa buscarPessoa(int id) throws SQLException {
+        return executor.executar(() -> pessoaDao.buscarPorId(id));
+    }
+
+    /**
+     * Busca várias Pessoas pelo ID ao mesmo tempo, uma virtual thread por ID.
+     *
+     * @param ids os IDs das Pessoas
+     * @return as Pessoas na ordem dos IDs (null para os IDs não encontrados)
+     * @throws SQLException se alguma busca falhar ou o tempo limite esgotar
+     */
+    public List<Pessoa> buscarPessoas(List<Integer> ids) throws SQLException {
+        List<ExecutorDao.Operacao<Pessoa>> operacoes = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            operacoes.add(() -> pessoaDao.buscarPorId(id));
+        }
+        return executor.executarTodas(operacoes);
+    }
+
+    /**
+     * Lista uma página de Pessoas.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Pessoas
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Pagina<Pessoa> listarPessoas(int aposId, int limite) throws SQLException {
+        return executor.executar(() -> pessoaDao.listar(aposId, limite));
+    }
+
+    /**
+     * Insere um Funcionario.
+     *
+     * @param funcionario o Funcionario a inserir
+     * @throws SQLException se ocorrer um erro no banco, a Pessoa não existir ou o tempo limite esgotar
+     */
+    public void inserirFuncionario(Funcionario funcionario) throws SQLException {
+        executor.executar(() -> {
+            funcionarioDao.inserir(funcionario);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza um Funcionario.
+     *
+     * @param funcionario o Funcionario com os dados atualizados
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public void atualizarFuncionario(Funcionario funcionario) throws SQLException {
+        executor.executar(() -> {
+            funcionarioDao.atualizar(funcionario);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui um Funcionario.
+     *
+     * @param id o ID do Funcionario
+     * @throws SQLException se ocorrer um erro no banco, houver Projetos vinculados ou o tempo limite esgotar
+     */
+    public void excluirFuncionario(int id) throws SQLException {
+        executor.executar(() -> {
+            funcionarioDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca um Funcionario pelo ID.
+     *
+     * @param id o ID do Funcionario
+     * @return o Funcionario, ou null se não encontrado
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Funcionario buscarFuncionario(int id) throws SQLException {
+        return executor.executar(() -> funcionarioDao.buscarPorId(id));
+    }
+
+    /**
+     * Lista uma página de Funcionarios.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Funcionarios
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Pagina<Funcionario> listarFuncionarios(int aposId, int limite) throws SQLException {
+        return executor.executar(() -> funcionarioDao.listar(aposId, limite));
+    }
+
+    /**
+     * Insere um Projeto.
+     *
+     * @param projeto o Projeto a inserir
+     * @throws SQLException se ocorrer um erro no banco, o Funcionario não existir ou o tempo limite esgotar
+     */
+    public void inserirProjeto(Projeto projeto) throws SQLException {
+        executor.executar(() -> {
+            projetoDao.inserir(projeto);
+            return null;
+        });
+    }
+
+    /**
+     * Atualiza um Projeto.
+     *
+     * @param projeto o Projeto com os dados atualizados
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public void atualizarProjeto(Projeto projeto) throws SQLException {
+        executor.executar(() -> {
+            projetoDao.atualizar(projeto);
+            return null;
+        });
+    }
+
+    /**
+     * Exclui um Projeto.
+     *
+     * @param id o ID do Projeto
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public void excluirProjeto(int id) throws SQLException {
+        executor.executar(() -> {
+            projetoDao.excluir(id);
+            return null;
+        });
+    }
+
+    /**
+     * Busca um Projeto pelo ID.
+     *
+     * @param id o ID do Projeto
+     * @return o Projeto, ou null se não encontrado
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Projeto buscarProjeto(int id) throws SQLException {
+        return executor.executar(() -> projetoDao.buscarPorId(id));
+    }
+
+    /**
+     * Busca um Projeto com o Funcionario responsável.
+     *
+     * @param id o ID do Projeto
+     * @return o Projeto com o responsável, ou null se não encontrado
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public ProjetoComResponsavel buscarProjetoComResponsavel(int id) throws SQLException {
+        return executor.executar(() -> projetoDao.buscarComResponsavel(id));
+    }
+
+    /**
+     * Lista uma página de Projetos.
+     *
+     * @param aposId ID após o qual a página começa
+     * @param limite quantidade máxima de itens da página
+     * @return a página de Projetos
+     * @throws SQLException se ocorrer um erro no banco ou o tempo limite esgotar
+     */
+    public Pagina<Projeto> listarProjetos(int aposId, int limite) throws SQLException {
+        return executor.executar(() -> projetoDao.listar(aposId, limite));
+    }
+
+    /**
+     * Encerra o executor do serviço.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,205 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache em memória, limitado por tamanho, com descarte do item menos recentemente usado (LRU)
+ * e validade opcional. Guarda e entrega cópias dos objetos, para que alterações feitas
+ * pelo chamador não afetem o cache. Seguro para uso por várias threads.
+ *
+ * @param <V> tipo dos valores guardados
+ */
+public class CacheLru<V> implements CacheLruMXBean {
+    // Quantidade máxima de itens
+    private final int capacidade;
+    // Validade de cada item em milissegundos (0 = sem validade)
+    private final long validadeMs;
+    // Cria uma cópia independente de um valor
+    private final UnaryOperator<V> copiador;
+    // Itens em cache, do menos para o mais recentemente usado
+    private final LinkedHashMap<Integer, Item<V>> itens;
+    // Contador de invalidações, usado para não guardar leituras concorrentes com escritas
+    private long geracao;
+
+    // Métricas do cache
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder despejos = new LongAdder();
+
+    /**
+     * Cria o cache.
+     *
+     * @param capacidade quantidade máxima de itens
+     * @param validadeMs validade de cada item em milissegundos (0 = sem validade)
+     * @param copiador   cria uma cópia independente de um valor
+     */
+    public CacheLru(int capacidade, long validadeMs, UnaryOperator<V> copiador) {
+        this.capacidade = capacidade;
+        this.validadeMs = validadeMs;
+        this.copiador = copiador;
+        this.itens = new LinkedHashMap<Integer, Item<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Item<V>> maisAntigo) {
+                if (size() > CacheLru.this.capacidade) {
+                    despejos.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Obtém uma cópia do valor em cache.
+     *
+     * @param chave a chave do valor
+     * @return cópia do valor, ou null se não estiver em cache ou tiver expirado
+     */
+    public V obter(int chave) {
+        if (capacidade <= 0) {
+            return null;
+        }
+        Item<V> item;
+        synchronized (this) {
+            item = itens.get(chave);
+            if (item != null && validadeMs > 0 && System.currentTimeMillis() - item.criadoEm > validadeMs) {
+                // Item expirado
+                itens.remove(chave);
+                despejos.increment();
+                item = null;
+            }
+        }
+        if (item == null) {
+            falhas.increment();
+            return null;
+        }
+        acertos.increment();
+        return copiador.apply(item.valor);
+    }
+
+    /**
+     * Obtém a marca de geração atual, a ser tomada antes de ler o valor do banco.
+     *
+     * @return a marca de geração
+     */
+    public synchronized long marca() {
+        return geracao;
+    }
+
+    /**
+     * Guarda uma cópia do valor lido do banco, se nenhuma invalidação ocorreu desde a marca.
+     *
+     * @param chave a chave do valor
+     * @param valor o valor lido do banco
+     * @param marca a marca obtida por {@link #marca()} antes da leitura
+     */
+    public void colocar(int chave, V valor, long marca) {
+        if (capacidade <= 0 || valor == null) {
+            return;
+        }
+        V copia = copiador.apply(valor);
+        synchronized (this) {
+            // Uma escrita concorrente pode ter tornado o valor lido desatualizado
+            if (marca == geracao) {
+                itens.put(chave, new Item<>(copia, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    /**
+     * Remove o valor da chave do cache.
+     *
+     * @param chave a chave a invalidar
+     */
+    public synchronized void invalidar(int chave) {
+        geracao++;
+        itens.remove(chave);
+    }
+
+    /**
+     * Remove todos os valores do cache.
+     */
+    public synchronized void limpar() {
+        geracao++;
+        itens.clear();
+    }
+
+    /**
+     * Obtém a quantidade de itens em cache.
+     *
+     * @return quantidade de itens
+     */
+    @Override
+    public synchronized int getTamanho() {
+        return itens.size();
+    }
+
+    /**
+     * Obtém a quantidade de leituras atendidas pelo cache.
+     *
+     * @return quantidade de acertos
+     */
+    @Override
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    /**
+     * Obtém a quantidade de leituras que precisaram ir ao banco.
+     *
+     * @return quantidade de falhas
+     */
+    @Override
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    /**
+     * Obtém a quantidade de itens descartados por falta de espaço ou por expiração.
+     *
+     * @return quantidade de despejos
+     */
+    @Override
+    public long getDespejos() {
+        return despejos.sum();
+    }
+
+    /**
+     * Obtém a taxa de acertos do cache.
+     *
+     * @return acertos divididos pelo total de leituras (0 se não houve leituras)
+     */
+    @Override
+    public double getTaxaAcerto() {
+        long a = acertos.sum();
+        long total = a + falhas.sum();
+        return total == 0 ? 0.0 : (double) a / total;
+    }
+
+    /**
+     * Retorna um resumo das métricas do cache.
+     *
+     * @return string com as métricas
+     */
+    @Override
+    public String toString() {
+        return "CacheLru [tamanho=" + getTamanho() + ", acertos=" + getAcertos() + ", falhas=" + getFalhas() +
+               ", despejos=" + getDespejos() + ", taxaAcerto=" + String.format("%.3f", getTaxaAcerto()) + "]";
+    }
+
+    /**
+     * Valor em cache e o instante em que foi guardado.
+     */
+    private static final class Item<V> {
+        private final V valor;
+        private final long criadoEm;
+
+        private Item(V valor, long criadoEm) {
+            this.valor = valor;
+            this.criadoEm = criadoEm;
+        }
+    }
+}
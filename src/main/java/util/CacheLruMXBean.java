@@ -0,0 +1,16 @@
+package util;
+
+/**
+ * Interface JMX de um cache LRU (domínio {@code empresa:type=CacheLru}).
+ */
+public interface CacheLruMXBean {
+    int getTamanho();
+
+    long getAcertos();
+
+    long getFalhas();
+
+    long getDespejos();
+
+    double getTaxaAcerto();
+}
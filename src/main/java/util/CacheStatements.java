@@ -0,0 +1,256 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache LRU de PreparedStatements de uma conexão física, indexado pelo texto SQL.
+ * Os statements entregues pelo cache não são fechados de verdade: o close() apenas
+ * limpa os parâmetros e o lote, restaura as configurações alteradas (fetchSize, maxRows e
+ * queryTimeout) e os devolve ao cache para a próxima chamada com o mesmo SQL.
+ * Cada instância pertence a uma única conexão, que só é usada por uma thread por vez.
+ */
+public class CacheStatements {
+    // Contadores globais de acertos e falhas (todas as conexões)
+    private static final LongAdder ACERTOS = new LongAdder();
+    private static final LongAdder FALHAS = new LongAdder();
+
+    // Conexão física dona dos statements
+    private final Connection conexao;
+    // Statements em cache, do menos para o mais recentemente usado
+    private final Map<String, Entrada> entradas;
+
+    /**
+     * Cria o cache para uma conexão física.
+     *
+     * @param conexao    conexão física com o banco de dados
+     * @param capacidade quantidade máxima de statements mantidos abertos
+     */
+    public CacheStatements(Connection conexao, int capacidade) {
+        this.conexao = conexao;
+        this.entradas = new LinkedHashMap<String, Entrada>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                if (size() > capacidade) {
+                    // Fecha o statement removido (ou marca para fechar quando for liberado)
+                    maisAntiga.getValue().remover();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Obtém um PreparedStatement para o SQL, reutilizando o do cache quando disponível.
+     *
+     * @param sql                  texto SQL do statement
+     * @param chavesGeradas        constante de Statement para retorno de chaves geradas
+     * @return statement pronto para uso; fechá-lo o devolve ao cache
+     * @throws SQLException se ocorrer um erro ao preparar o statement
+     */
+    public PreparedStatement preparar(String sql, int chavesGeradas) throws SQLException {
+        String chave = chavesGeradas == Statement.RETURN_GENERATED_KEYS ? "K:" + sql : sql;
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null && entrada.removido) {
+            // Statement descartado após um erro: prepara novamente
+            entradas.remove(chave);
+            entrada = null;
+        }
+        if (entrada != null && !entrada.emUso) {
+            ACERTOS.increment();
+            entrada.emUso = true;
+            return entrada.visao;
+        }
+        FALHAS.increment();
+        PreparedStatement real;
+        // Mede o tempo de preparação no banco (apenas nas falhas do cache)
+        try (Medicao medicao = Metricas.medir("Conexao.prepareStatement")) {
+            real = conexao.prepareStatement(sql, chavesGeradas);
+            medicao.concluir(0);
+        }
+        if (entrada != null) {
+            // O mesmo SQL já está em uso nesta conexão: entrega um statement avulso
+            return real;
+        }
+        Entrada nova = new Entrada(real);
+        nova.emUso = true;
+        entradas.put(chave, nova);
+        return nova.visao;
+    }
+
+    /**
+     * Fecha todos os statements do cache.
+     */
+    public void fechar() {
+        for (Entrada entrada : entradas.values()) {
+            entrada.remover();
+        }
+        entradas.clear();
+    }
+
+    /**
+     * Obtém a quantidade de statements abertos neste cache.
+     *
+     * @return quantidade de statements em cache
+     */
+    public int getTamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Obtém o total de acertos do cache em todas as conexões.
+     *
+     * @return quantidade de statements reaproveitados
+     */
+    public static long getAcertos() {
+        return ACERTOS.sum();
+    }
+
+    /**
+     * Obtém o total de falhas do cache em todas as conexões.
+     *
+     * @return quantidade de statements preparados no servidor
+     */
+    public static long getFalhas() {
+        return FALHAS.sum();
+    }
+
+    /**
+     * Statement mantido em cache e sua visão entregue aos DAOs.
+     */
+    private static final class Entrada implements InvocationHandler {
+        // Statement real preparado no banco
+        private final PreparedStatement real;
+        // Visão cujo close() devolve o statement ao cache
+        private final PreparedStatement visao;
+        // ResultSets abertos pela visão atual
+        private final List<ResultSet> resultados = new ArrayList<>(2);
+        // Indica se o statement está emprestado
+        private boolean emUso;
+        // Indica se o statement saiu do cache e deve ser fechado ao ser liberado
+        private boolean removido;
+        // Configurações originais, guardadas quando a visão atual altera alguma delas
+        private boolean configuracaoAlterada;
+        private int fetchSizeOriginal;
+        private int maxRowsOriginal;
+        private int queryTimeoutOriginal;
+
+        private Entrada(PreparedStatement real) {
+            this.real = real;
+            this.visao = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    liberar();
+                    return null;
+                case "isClosed":
+                    return !emUso || real.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "StatementEmCache[" + real + "]";
+                default:
+                    if (!emUso) {
+                        throw new SQLException("Statement já fechado.");
+                    }
+                    if (!configuracaoAlterada && alteraConfiguracao(method.getName())) {
+                        // Guarda os valores para restaurá-los ao devolver o statement ao cache
+                        fetchSizeOriginal = real.getFetchSize();
+                        maxRowsOriginal = real.getMaxRows();
+                        queryTimeoutOriginal = real.getQueryTimeout();
+                        configuracaoAlterada = true;
+                    }
+                    Object retorno;
+                    // Mede o tempo de execução das consultas e atualizações no banco
+                    try (Medicao medicao = method.getName().startsWith("execute")
+                            ? Metricas.medir("Statement." + method.getName()) : Medicao.NENHUMA) {
+                        retorno = method.invoke(real, args);
+                        medicao.concluir(retorno instanceof Integer ? (Integer) retorno
+                                : retorno instanceof int[] ? ((int[]) retorno).length : 0);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    // Guarda os ResultSets para fechá-los junto com a visão
+                    if (retorno instanceof ResultSet) {
+                        resultados.add((ResultSet) retorno);
+                    }
+                    return retorno;
+            }
+        }
+
+        /**
+         * Verifica se o método altera uma configuração que deve ser restaurada ao liberar o statement.
+         */
+        private static boolean alteraConfiguracao(String metodo) {
+            return metodo.equals("setFetchSize") || metodo.equals("setMaxRows") || metodo.equals("setQueryTimeout");
+        }
+
+        /**
+         * Devolve o statement ao cache, fechando os ResultSets ainda abertos e descartando
+         * os parâmetros, o lote incompleto e as configurações alteradas pela visão atual.
+         */
+        private void liberar() throws SQLException {
+            if (!emUso) {
+                return;
+            }
+            emUso = false;
+            try {
+                for (ResultSet rs : resultados) {
+                    rs.close();
+                }
+                resultados.clear();
+                if (removido) {
+                    real.close();
+                } else {
+                    real.clearParameters();
+                    // Um lote montado pela metade (preenchimento interrompido) não pode ir para o próximo uso
+                    real.clearBatch();
+                    if (configuracaoAlterada) {
+                        real.setFetchSize(fetchSizeOriginal);
+                        real.setMaxRows(maxRowsOriginal);
+                        real.setQueryTimeout(queryTimeoutOriginal);
+                        configuracaoAlterada = false;
+                    }
+                }
+            } catch (SQLException e) {
+                // Statement em estado inconsistente: fecha e tira do cache
+                removido = true;
+                real.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Marca o statement como fora do cache, fechando-o se não estiver em uso.
+         */
+        private void remover() {
+            removido = true;
+            if (!emUso) {
+                try {
+                    real.close();
+                } catch (SQLException e) {
+                    // Ignora erros ao fechar um statement descartado
+                }
+            }
+        }
+    }
+}
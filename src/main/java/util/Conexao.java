@@ -1,22 +1,37 @@
 package util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Classe utilitária para gerenciar conexões com o banco de dados 'empresa'.
- * Implementa o padrão Singleton para garantir uma única instância de conexão.
+ * Mantém um único pool de conexões compartilhado por toda a aplicação.
+ * Cada chamada a {@link #getConexao()} empresta uma conexão exclusiva do pool,
+ * e fechá-la a devolve ao pool para ser reutilizada.
  */
 public class Conexao {
-    // Instância única da conexão
-    private static Connection conexao = null;
-    // URL do banco de dados MySQL
-    private static final String URL = "jdbc:mysql://localhost:3306/empresa?useSSL=false";
+    // Instância única do pool de conexões
+    private static volatile PoolConexoes pool = null;
+    // URL do banco de dados MySQL (useCursorFetch habilita cursores do servidor para consultas com fetchSize)
+    private static final String URL = System.getProperty("empresa.db.url",
+            "jdbc:mysql://localhost:3306/empresa?useSSL=false&useCursorFetch=true");
     // Nome de usuário do banco de dados (substitua pelo seu)
-    private static final String USUARIO = "root";
+    private static final String USUARIO = System.getProperty("empresa.db.usuario", "root");
     // Senha do banco de dados (substitua pela sua senha)
-    private static final String SENHA = "";
+    private static final String SENHA = System.getProperty("empresa.db.senha", "");
+
+    // Configuração do pool (pode ser alterada por propriedades do sistema)
+    private static final int POOL_MINIMO = Integer.getInteger("empresa.pool.minimo", 1);
+    private static final int POOL_MAXIMO = Integer.getInteger("empresa.pool.maximo", 10);
+    private static final long POOL_TIMEOUT_MS = Long.getLong("empresa.pool.timeoutMs", 30000L);
+    private static final long POOL_OCIOSO_MS = Long.getLong("empresa.pool.ociosoMs", 600000L);
+    private static final int CACHE_STATEMENTS = Integer.getInteger("empresa.pool.cacheStatements", 64);
+    // Aplica as migrações do esquema ao criar o pool (desativado por padrão)
+    private static final boolean MIGRAR_ESQUEMA = Boolean.getBoolean("empresa.esquema.migrar");
+    // Índices únicos ausentes no banco, verificados ao criar o pool (os upserts não são executados sem eles)
+    private static volatile List<String> indicesUnicosAusentes = Collections.emptyList();
 
     /**
      * Construtor privado para evitar instâncias externas.
@@ -26,45 +41,132 @@ public class Conexao {
     }
 
     /**
-     * Estabelece e retorna uma conexão com o banco de dados.
-     * Reutiliza a conexão existente se ela estiver aberta.
+     * Empresta uma conexão do pool com o banco de dados.
+     * A conexão deve ser fechada (por exemplo, com try-with-resources) para voltar ao pool.
+     * Se houver uma {@link Transacao} aberta na thread atual, retorna a conexão dela.
      *
      * @return Objeto Connection para o banco de dados
      * @throws SQLException se ocorrer um erro de acesso ao banco
      */
     public static Connection getConexao() throws SQLException {
-        // Verifica se a conexão é nula ou está fechada
-        if (conexao == null || conexao.isClosed()) {
-            try {
-                // Carrega o driver JDBC do MySQL
-                Class.forName("com.mysql.cj.jdbc.Driver");
-                // Estabelece a conexão com o banco
-                conexao = DriverManager.getConnection(URL, USUARIO, SENHA);
-                // Mensagem de sucesso (Regra de Negócio 5)
-                System.out.println("Conexão com o banco de dados estabelecida com sucesso!");
-            } catch (ClassNotFoundException e) {
-                // Lança exceção com mensagem clara (Regra de Negócio 4)
-                throw new SQLException("Driver JDBC não encontrado: " + e.getMessage());
-            } catch (SQLException e) {
-                // Lança exceção com mensagem clara (Regra de Negócio 4)
-                throw new SQLException("Erro ao conectar ao banco de dados: " + e.getMessage());
+        // Dentro de uma transação, todos os DAOs compartilham a conexão dela
+        Connection daTransacao = Transacao.conexaoAtual();
+        if (daTransacao != null) {
+            return daTransacao;
+        }
+        // Mede o tempo de espera por uma conexão livre (inclui a criação do pool na primeira chamada)
+        try (Medicao medicao = Metricas.medir("Conexao.getConexao")) {
+            Connection conn = getPool().emprestar();
+            medicao.concluir(0);
+            return conn;
+        }
+    }
+
+    /**
+     * Obtém o pool de conexões, criando-o na primeira chamada.
+     *
+     * @return o pool de conexões da aplicação
+     * @throws SQLException se ocorrer um erro ao criar o pool
+     */
+    public static PoolConexoes getPool() throws SQLException {
+        PoolConexoes atual = pool;
+        if (atual == null) {
+            synchronized (Conexao.class) {
+                atual = pool;
+                if (atual == null) {
+                    try {
+                        // Carrega o driver JDBC do MySQL (outros drivers são carregados pelo DriverManager)
+                        if (URL.startsWith("jdbc:mysql:")) {
+                            Class.forName("com.mysql.cj.jdbc.Driver");
+                        }
+                    } catch (ClassNotFoundException e) {
+                        // Lança exceção com mensagem clara (Regra de Negócio 4)
+                        throw new SQLException("Driver JDBC não encontrado: " + e.getMessage());
+                    }
+                    // Cria o pool com as conexões mínimas
+                    atual = new PoolConexoes(URL, USUARIO, SENHA, POOL_MINIMO, POOL_MAXIMO,
+                                             POOL_TIMEOUT_MS, POOL_OCIOSO_MS, CACHE_STATEMENTS);
+                    try {
+                        inicializarEsquema(atual);
+                    } catch (SQLException e) {
+                        atual.fechar();
+                        throw e;
+                    }
+                    pool = atual;
+                    // Publica os indicadores do pool via JMX
+                    Metricas.publicar("PoolConexoes", null, atual);
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Obtém o tamanho máximo configurado para o pool, sem criá-lo.
+     *
+     * @return quantidade máxima de conexões do pool
+     */
+    public static int getTamanhoMaximoPool() {
+        return POOL_MAXIMO;
+    }
+
+    /**
+     * Aplica as migrações do esquema (se habilitadas pela propriedade {@code empresa.esquema.migrar})
+     * e verifica se os índices exigidos pelos DAOs estão presentes.
+     *
+     * @param pool o pool recém-criado
+     * @throws SQLException se ocorrer um erro ao aplicar as migrações
+     */
+    private static void inicializarEsquema(PoolConexoes pool) throws SQLException {
+        try (Connection conn = pool.emprestar()) {
+            if (MIGRAR_ESQUEMA) {
+                Esquema.migrar(conn);
             }
+            List<String> ausentes = Esquema.indicesAusentes(conn);
+            List<String> unicosAusentes = Esquema.indicesUnicosAusentes(conn);
+            if (!ausentes.isEmpty()) {
+                // Consultas sobre essas colunas percorrerão a tabela inteira; sem os índices únicos, os
+                // métodos salvar gravariam linhas duplicadas e por isso recusam-se a executar
+                Log.aviso(() -> "Aviso: índices ausentes no banco de dados: " + ausentes +
+                                 (unicosAusentes.isEmpty() ? "" : ". Sem os índices únicos, salvar Pessoas e Funcionarios não é permitido") +
+                                 ". Execute com -Dempresa.esquema.migrar=true para criá-los.");
+            }
+            indicesUnicosAusentes = unicosAusentes;
         }
-        return conexao;
     }
 
     /**
-     * Fecha a conexão com o banco de dados, se estiver aberta.
+     * Verifica se os índices únicos exigidos pelos upserts (INSERT ... ON DUPLICATE KEY UPDATE)
+     * existem no banco de dados: é por eles que uma linha já cadastrada é encontrada e atualizada
+     * em vez de duplicada.
      *
-     * @throws SQLException se ocorrer um erro ao fechar a conexão
+     * @throws SQLException se algum índice único estiver ausente ou se ocorrer um erro ao criar o pool
+     */
+    public static void exigirIndicesUnicos() throws SQLException {
+        getPool();
+        List<String> ausentes = indicesUnicosAusentes;
+        if (!ausentes.isEmpty()) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Índices únicos ausentes no banco de dados: " + ausentes +
+                                   ". Execute com -Dempresa.esquema.migrar=true para criá-los.");
+        }
+    }
+
+    /**
+     * Fecha o pool e todas as conexões com o banco de dados, se estiver aberto.
+     *
+     * @throws SQLException se ocorrer um erro ao fechar as conexões
      */
     public static void fecharConexao() throws SQLException {
-        // Verifica se a conexão existe e está aberta
-        if (conexao != null && !conexao.isClosed()) {
-            // Fecha a conexão
-            conexao.close();
-            // Mensagem de sucesso (Regra de Negócio 5)
-            System.out.println("Conexão com o banco de dados fechada com sucesso!");
+        synchronized (Conexao.class) {
+            // Verifica se o pool existe
+            if (pool != null) {
+                // Fecha o pool
+                pool.fechar();
+                pool = null;
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Conexão com o banco de dados fechada com sucesso!");
+            }
         }
     }
-}
\ No newline at end of file
+}
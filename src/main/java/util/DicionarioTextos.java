@@ -0,0 +1,137 @@
+package util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dicionário limitado de textos repetidos: valores iguais lidos do banco passam a ser a mesma
+ * instância de String, e as cópias lidas em cada linha podem ser descartadas pelo coletor.
+ * Indicado para colunas com poucos valores distintos (como o departamento do Funcionario).
+ *
+ * Ao atingir o máximo de valores distintos, os novos valores são devolvidos sem alteração
+ * (os já guardados continuam sendo reaproveitados); com máximo 0 o dicionário fica desativado.
+ * Seguro para uso por várias threads.
+ */
+public class DicionarioTextos implements DicionarioTextosMXBean {
+    // Tamanho aproximado de um objeto String (cabeçalho e campos), sem o array de bytes
+    private static final int BYTES_STRING = 24;
+    // Tamanho aproximado do cabeçalho de um array
+    private static final int BYTES_CABECALHO_ARRAY = 16;
+
+    // Quantidade máxima de valores distintos
+    private final int maximo;
+    // Instância guardada de cada valor
+    private final ConcurrentHashMap<String, String> valores;
+
+    // Métricas do dicionário
+    private final LongAdder reaproveitados = new LongAdder();
+    private final LongAdder recusados = new LongAdder();
+    private final LongAdder bytesEconomizados = new LongAdder();
+
+    /**
+     * Cria o dicionário.
+     *
+     * @param maximo quantidade máxima de valores distintos (0 desativa)
+     */
+    public DicionarioTextos(int maximo) {
+        this.maximo = Math.max(0, maximo);
+        this.valores = new ConcurrentHashMap<>(Math.min(this.maximo, 64));
+    }
+
+    /**
+     * Obtém a instância compartilhada do valor, guardando-o se ainda houver espaço.
+     *
+     * @param valor o valor lido
+     * @return a instância guardada igual ao valor, ou o próprio valor
+     */
+    public String valor(String valor) {
+        if (valor == null || maximo == 0) {
+            return valor;
+        }
+        String guardado = valores.get(valor);
+        if (guardado == null) {
+            if (valores.size() >= maximo) {
+                recusados.increment();
+                return valor;
+            }
+            guardado = valores.putIfAbsent(valor, valor);
+            if (guardado == null) {
+                return valor;
+            }
+        }
+        // A cópia lida deixa de ser referenciada
+        reaproveitados.increment();
+        bytesEconomizados.add(tamanhoEstimado(guardado));
+        return guardado;
+    }
+
+    /**
+     * Descarta os valores guardados, mantendo as métricas.
+     */
+    public void limpar() {
+        valores.clear();
+    }
+
+    /**
+     * Verifica se o dicionário está ativo (máximo maior que 0).
+     *
+     * @return true se o dicionário estiver ativo
+     */
+    public boolean ativo() {
+        return maximo > 0;
+    }
+
+    @Override
+    public int getTamanho() {
+        return valores.size();
+    }
+
+    @Override
+    public int getMaximo() {
+        return maximo;
+    }
+
+    @Override
+    public long getReaproveitados() {
+        return reaproveitados.sum();
+    }
+
+    @Override
+    public long getRecusados() {
+        return recusados.sum();
+    }
+
+    /**
+     * Soma dos tamanhos estimados das cópias substituídas pelas instâncias guardadas: a memória
+     * que deixa de ser retida pelos objetos mapeados que forem mantidos (em cache, em listas ou
+     * no instantâneo). A leitura de cada linha continua alocando a cópia, que é logo descartada.
+     *
+     * @return os bytes economizados
+     */
+    @Override
+    public long getBytesEconomizados() {
+        return bytesEconomizados.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "DicionarioTextos [tamanho=" + getTamanho() + ", maximo=" + maximo + ", reaproveitados=" +
+               getReaproveitados() + ", recusados=" + getRecusados() + ", bytesEconomizados=" + getBytesEconomizados() + "]";
+    }
+
+    /**
+     * Estima o tamanho de uma String na memória: o objeto e o array com 1 byte por caractere
+     * (Latin-1) ou 2 bytes (demais caracteres), alinhado a 8 bytes.
+     */
+    private static long tamanhoEstimado(String valor) {
+        int bytesPorCaractere = 1;
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > 0xFF) {
+                bytesPorCaractere = 2;
+                break;
+            }
+        }
+        long array = BYTES_CABECALHO_ARRAY + (long) valor.length() * bytesPorCaractere;
+        return BYTES_STRING + ((array + 7) & ~7L);
+    }
+}
@@ -0,0 +1,16 @@
+package util;
+
+/**
+ * Interface JMX de um dicionário de textos (domínio {@code empresa:type=DicionarioTextos}).
+ */
+public interface DicionarioTextosMXBean {
+    int getTamanho();
+
+    int getMaximo();
+
+    long getReaproveitados();
+
+    long getRecusados();
+
+    long getBytesEconomizados();
+}
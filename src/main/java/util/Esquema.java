@@ -0,0 +1,323 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Gerencia o esquema do banco de dados 'empresa'.
+ * Aplica migrações versionadas (registradas na tabela versao_esquema) e verifica
+ * se os índices dos quais os DAOs dependem estão presentes.
+ */
+public final class Esquema {
+
+    /**
+     * Passo de uma migração.
+     */
+    private interface Passo {
+        void aplicar(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Migração versionada do esquema.
+     */
+    private static final class Migracao {
+        private final int versao;
+        private final String descricao;
+        private final Passo passo;
+
+        private Migracao(int versao, String descricao, Passo passo) {
+            this.versao = versao;
+            this.descricao = descricao;
+            this.passo = passo;
+        }
+    }
+
+    /**
+     * Índice esperado: tabela, coluna inicial, nome usado ao criá-lo e se é único.
+     */
+    private static final class Indice {
+        private final String tabela;
+        private final String coluna;
+        private final String nome;
+        private final boolean unico;
+
+        private Indice(String tabela, String coluna, String nome, boolean unico) {
+            this.tabela = tabela;
+            this.coluna = coluna;
+            this.nome = nome;
+            this.unico = unico;
+        }
+
+        @Override
+        public String toString() {
+            return (unico ? "UNIQUE " : "") + tabela + "(" + coluna + ")";
+        }
+    }
+
+    // Índices das buscas filtradas; no InnoDB cada entrada inclui o ID, então a busca por igualdade
+    // já percorre o índice em ordem de ID, como pede a paginação por chave
+    private static final List<Indice> INDICES_BUSCA = Arrays.asList(
+            // PessoaDao.buscarPorPrefixoNome
+            new Indice("pessoa", "nome", "idx_pessoa_nome", false),
+            // FuncionarioDao.buscarPorDepartamento
+            new Indice("funcionario", "departamento", "idx_funcionario_departamento", false),
+            // ProjetoDao.buscarPorPrefixoNome
+            new Indice("projeto", "nome", "idx_projeto_nome", false));
+
+    // Índices criados pela migração 2, na forma em que ela foi registrada; não muda quando os DAOs
+    // passam a exigir outros índices, que entram em migrações novas
+    private static final List<Indice> INDICES_MIGRACAO_2 = Arrays.asList(
+            new Indice("projeto", "id_funcionario", "idx_projeto_funcionario", false),
+            new Indice("funcionario", "matricula", "uk_funcionario_matricula", true),
+            new Indice("pessoa", "email", "idx_pessoa_email", false));
+
+    // Índices exigidos pelos DAOs, verificados na inicialização
+    private static final List<Indice> INDICES = concatenar(Arrays.asList(
+            // Regra de Negócio 3: FuncionarioDao.excluir consulta projeto por id_funcionario
+            // (e ProjetoDao.buscarPorFuncionario)
+            new Indice("projeto", "id_funcionario", "idx_projeto_funcionario", false),
+            // Regra de Negócio 4: matrícula única por funcionário (e FuncionarioDao.buscarPorMatricula)
+            new Indice("funcionario", "matricula", "uk_funcionario_matricula", true),
+            // PessoaDao.salvar identifica a Pessoa pelo e-mail (e PessoaDao.buscarPorEmail)
+            new Indice("pessoa", "email", "uk_pessoa_email", true)), INDICES_BUSCA);
+
+    // Migrações em ordem de versão
+    private static final List<Migracao> MIGRACOES = Arrays.asList(
+            new Migracao(1, "Tabelas pessoa, funcionario e projeto", Esquema::criarTabelas),
+            new Migracao(2, "Índices e chaves estrangeiras em bancos anteriores ao versionamento",
+                         Esquema::garantirIndices),
+            new Migracao(3, "E-mail único por pessoa", Esquema::tornarEmailUnico),
+            new Migracao(4, "Índices das buscas por nome e departamento", Esquema::criarIndicesBusca));
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Esquema() {
+    }
+
+    /**
+     * Aplica as migrações ainda não registradas na tabela versao_esquema.
+     * Cada migração é aplicada e registrada em sequência; se uma falhar, as seguintes não são aplicadas.
+     *
+     * @param conn conexão com o banco de dados
+     * @return a versão do esquema após as migrações
+     * @throws SQLException se ocorrer um erro ao aplicar uma migração
+     */
+    public static int migrar(Connection conn) throws SQLException {
+        executar(conn, "CREATE TABLE IF NOT EXISTS versao_esquema (" +
+                       "versao INT PRIMARY KEY, " +
+                       "descricao VARCHAR(200) NOT NULL, " +
+                       "aplicada_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP) ENGINE=InnoDB");
+        int atual = versaoAtual(conn);
+        for (Migracao migracao : MIGRACOES) {
+            if (migracao.versao <= atual) {
+                continue;
+            }
+            try {
+                migracao.passo.aplicar(conn);
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "INSERT INTO versao_esquema (versao, descricao) VALUES (?, ?)")) {
+                    stmt.setInt(1, migracao.versao);
+                    stmt.setString(2, migracao.descricao);
+                    stmt.executeUpdate();
+                }
+                atual = migracao.versao;
+                // Mensagem de sucesso (Regra de Negócio 5)
+                Log.info(() -> "Migração " + migracao.versao + " aplicada: " + migracao.descricao + ".");
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao aplicar migração " + migracao.versao + ": " + e.getMessage());
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Obtém a versão do esquema registrada no banco.
+     *
+     * @param conn conexão com o banco de dados
+     * @return a maior versão aplicada, ou 0 se nenhuma migração foi registrada
+     * @throws SQLException se ocorrer um erro no banco de dados
+     */
+    public static int versaoAtual(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(versao), 0) FROM versao_esquema")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Verifica se os índices exigidos pelos DAOs existem.
+     *
+     * @param conn conexão com o banco de dados
+     * @return lista dos índices ausentes (vazia se todos existirem)
+     * @throws SQLException se ocorrer um erro ao consultar os metadados
+     */
+    public static List<String> indicesAusentes(Connection conn) throws SQLException {
+        List<String> ausentes = new ArrayList<>();
+        for (Indice indice : INDICES) {
+            if (!existeIndice(conn, indice)) {
+                ausentes.add(indice.toString());
+            }
+        }
+        return ausentes;
+    }
+
+    /**
+     * Verifica se os índices únicos exigidos pelos DAOs existem. Os INSERT ... ON DUPLICATE KEY UPDATE
+     * dos métodos salvar encontram a linha existente por esses índices: sem eles, gravam linhas duplicadas.
+     *
+     * @param conn conexão com o banco de dados
+     * @return lista dos índices únicos ausentes (vazia se todos existirem)
+     * @throws SQLException se ocorrer um erro ao consultar os metadados
+     */
+    public static List<String> indicesUnicosAusentes(Connection conn) throws SQLException {
+        List<String> ausentes = new ArrayList<>();
+        for (Indice indice : INDICES) {
+            if (indice.unico && !existeIndice(conn, indice)) {
+                ausentes.add(indice.toString());
+            }
+        }
+        return ausentes;
+    }
+
+    /**
+     * Migração 1: cria as tabelas com chaves primárias, estrangeiras e índices.
+     */
+    private static void criarTabelas(Connection conn) throws SQLException {
+        executar(conn, "CREATE TABLE IF NOT EXISTS pessoa (" +
+                       "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                       "nome VARCHAR(100) NOT NULL, " +
+                       "email VARCHAR(100) NOT NULL, " +
+                       "INDEX idx_pessoa_email (email)) ENGINE=InnoDB");
+        executar(conn, "CREATE TABLE IF NOT EXISTS funcionario (" +
+                       "id INT PRIMARY KEY, " +
+                       "matricula CHAR(4) NOT NULL, " +
+                       "departamento VARCHAR(100) NOT NULL, " +
+                       "UNIQUE INDEX uk_funcionario_matricula (matricula), " +
+                       "CONSTRAINT fk_funcionario_pessoa FOREIGN KEY (id) REFERENCES pessoa (id)) ENGINE=InnoDB");
+        executar(conn, "CREATE TABLE IF NOT EXISTS projeto (" +
+                       "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                       "nome VARCHAR(100) NOT NULL, " +
+                       "descricao TEXT NOT NULL, " +
+                       "id_funcionario INT NOT NULL, " +
+                       "INDEX idx_projeto_funcionario (id_funcionario), " +
+                       "CONSTRAINT fk_projeto_funcionario FOREIGN KEY (id_funcionario) " +
+                       "REFERENCES funcionario (id)) ENGINE=InnoDB");
+    }
+
+    /**
+     * Migração 2: cria os índices e chaves estrangeiras ausentes em tabelas que já existiam
+     * antes da migração 1 (CREATE TABLE IF NOT EXISTS não altera tabelas existentes).
+     */
+    private static void garantirIndices(Connection conn) throws SQLException {
+        for (Indice indice : INDICES_MIGRACAO_2) {
+            if (!existeIndice(conn, indice)) {
+                executar(conn, "CREATE " + (indice.unico ? "UNIQUE " : "") + "INDEX " + indice.nome +
+                               " ON " + indice.tabela + " (" + indice.coluna + ")");
+            }
+        }
+        if (!existeChaveEstrangeira(conn, "funcionario", "pessoa")) {
+            executar(conn, "ALTER TABLE funcionario ADD CONSTRAINT fk_funcionario_pessoa " +
+                           "FOREIGN KEY (id) REFERENCES pessoa (id)");
+        }
+        if (!existeChaveEstrangeira(conn, "projeto", "funcionario")) {
+            executar(conn, "ALTER TABLE projeto ADD CONSTRAINT fk_projeto_funcionario " +
+                           "FOREIGN KEY (id_funcionario) REFERENCES funcionario (id)");
+        }
+    }
+
+    /**
+     * Migração 3: torna o e-mail da Pessoa único, para que o INSERT ... ON DUPLICATE KEY UPDATE
+     * de PessoaDao.salvar encontre a Pessoa pelo e-mail. Falha se já houver e-mails repetidos,
+     * que precisam ser corrigidos antes. O índice simples anterior fica redundante e é removido.
+     */
+    private static void tornarEmailUnico(Connection conn) throws SQLException {
+        Indice unico = new Indice("pessoa", "email", "uk_pessoa_email", true);
+        if (!existeIndice(conn, unico)) {
+            executar(conn, "CREATE UNIQUE INDEX uk_pessoa_email ON pessoa (email)");
+        }
+        if (existeIndiceNomeado(conn, "pessoa", "idx_pessoa_email")) {
+            executar(conn, "ALTER TABLE pessoa DROP INDEX idx_pessoa_email");
+        }
+    }
+
+    /**
+     * Migração 4: cria os índices usados pelas buscas filtradas dos DAOs.
+     */
+    private static void criarIndicesBusca(Connection conn) throws SQLException {
+        for (Indice indice : INDICES_BUSCA) {
+            if (!existeIndice(conn, indice)) {
+                executar(conn, "CREATE INDEX " + indice.nome + " ON " + indice.tabela + " (" + indice.coluna + ")");
+            }
+        }
+    }
+
+    /**
+     * Verifica se existe um índice que começa pela coluna esperada (e é único, se exigido).
+     */
+    private static boolean existeIndice(Connection conn, Indice indice) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, indice.tabela, indice.unico, false)) {
+            while (rs.next()) {
+                if (rs.getShort("ORDINAL_POSITION") == 1 && indice.coluna.equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se existe na tabela um índice com o nome informado.
+     */
+    private static boolean existeIndiceNomeado(Connection conn, String tabela, String nome) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getIndexInfo(conn.getCatalog(), null, tabela, false, false)) {
+            while (rs.next()) {
+                if (nome.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a tabela possui chave estrangeira para a tabela referenciada.
+     */
+    private static boolean existeChaveEstrangeira(Connection conn, String tabela, String referenciada) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getImportedKeys(conn.getCatalog(), null, tabela)) {
+            while (rs.next()) {
+                if (referenciada.equalsIgnoreCase(rs.getString("PKTABLE_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Junta duas listas de índices.
+     */
+    private static List<Indice> concatenar(List<Indice> primeira, List<Indice> segunda) {
+        List<Indice> indices = new ArrayList<>(primeira);
+        indices.addAll(segunda);
+        return indices;
+    }
+
+    /**
+     * Executa um comando DDL.
+     */
+    private static void executar(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+    }
+}
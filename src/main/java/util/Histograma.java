@@ -0,0 +1,121 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências com faixas log-lineares, no estilo do HdrHistogram.
+ * Cada potência de dois é dividida em 16 faixas, o que limita o erro relativo dos
+ * percentis a cerca de 6%, com memória fixa e gravação sem bloqueio.
+ * Os valores são registrados em nanossegundos.
+ */
+public class Histograma {
+    // Bits de precisão dentro de cada potência de dois (16 faixas)
+    private static final int BITS_SUBFAIXA = 4;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    // Quantidade total de faixas (cobre todo o intervalo de long)
+    private static final int FAIXAS = (64 - BITS_SUBFAIXA + 1) * SUBFAIXAS;
+
+    // Contagem de valores por faixa
+    private final AtomicLongArray contagens = new AtomicLongArray(FAIXAS);
+    // Totais para média e máximo
+    private final LongAdder total = new LongAdder();
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra um valor.
+     *
+     * @param valor o valor em nanossegundos (valores negativos contam como zero)
+     */
+    public void registrar(long valor) {
+        long v = Math.max(0, valor);
+        contagens.incrementAndGet(faixa(v));
+        total.increment();
+        soma.add(v);
+        maximo.accumulate(v);
+    }
+
+    /**
+     * Obtém a quantidade de valores registrados.
+     *
+     * @return quantidade de valores
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Obtém a média dos valores registrados.
+     *
+     * @return média em nanossegundos (0 se não houver valores)
+     */
+    public double getMedia() {
+        long n = total.sum();
+        return n == 0 ? 0.0 : (double) soma.sum() / n;
+    }
+
+    /**
+     * Obtém o maior valor registrado.
+     *
+     * @return o maior valor em nanossegundos
+     */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Calcula o percentil informado.
+     *
+     * @param percentil percentil entre 0 e 100 (ex. 99.9)
+     * @return limite superior da faixa que contém o percentil, em nanossegundos
+     */
+    public long percentil(double percentil) {
+        long[] copia = new long[FAIXAS];
+        long n = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = contagens.get(i);
+            n += copia[i];
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(n * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+
+    /**
+     * Calcula a faixa de um valor: as 16 primeiras faixas são lineares e as
+     * demais dividem cada potência de dois em 16 partes.
+     */
+    static int faixa(long valor) {
+        if (valor < SUBFAIXAS) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int deslocamento = expoente - BITS_SUBFAIXA;
+        int sub = (int) (valor >>> deslocamento) & (SUBFAIXAS - 1);
+        return (deslocamento + 1) * SUBFAIXAS + sub;
+    }
+
+    /**
+     * Calcula o maior valor que cai na faixa.
+     */
+    static long limiteSuperior(int faixa) {
+        if (faixa < SUBFAIXAS) {
+            return faixa;
+        }
+        int deslocamento = faixa / SUBFAIXAS - 1;
+        long sub = faixa % SUBFAIXAS;
+        long inicio = (SUBFAIXAS + sub) << deslocamento;
+        return inicio + (1L << deslocamento) - 1;
+    }
+}
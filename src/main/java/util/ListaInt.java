@@ -0,0 +1,84 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Lista de valores int em um array primitivo que cresce conforme necessário,
+ * sem criar um objeto Integer por item como o ArrayList.
+ * Não é segura para uso por várias threads sem sincronização externa.
+ */
+public final class ListaInt {
+    // Valores da lista
+    private int[] valores;
+    // Quantidade de valores
+    private int tamanho;
+
+    /**
+     * Cria a lista.
+     *
+     * @param capacidade quantidade de valores esperada
+     */
+    public ListaInt(int capacidade) {
+        this.valores = new int[Math.max(1, capacidade)];
+    }
+
+    /**
+     * Acrescenta um valor ao fim da lista.
+     *
+     * @param valor o valor
+     */
+    public void adicionar(int valor) {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, tamanho << 1);
+        }
+        valores[tamanho++] = valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do valor, mantendo a ordem dos demais.
+     *
+     * @param valor o valor
+     * @return true se o valor estava na lista
+     */
+    public boolean remover(int valor) {
+        for (int i = 0; i < tamanho; i++) {
+            if (valores[i] == valor) {
+                System.arraycopy(valores, i + 1, valores, i, tamanho - i - 1);
+                tamanho--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtém o valor na posição informada.
+     *
+     * @param indice a posição (de 0 a tamanho - 1)
+     * @return o valor
+     */
+    public int obter(int indice) {
+        if (indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição " + indice + " fora da lista de tamanho " + tamanho + ".");
+        }
+        return valores[indice];
+    }
+
+    /**
+     * Obtém a quantidade de valores.
+     *
+     * @return a quantidade de valores
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Copia os valores para um novo array.
+     *
+     * @return os valores, na ordem da lista
+     */
+    public int[] paraArray() {
+        return Arrays.copyOf(valores, tamanho);
+    }
+}
@@ -0,0 +1,228 @@
+package util;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Log assíncrono da aplicação.
+ * As mensagens só são montadas se o nível estiver habilitado e são gravadas no console
+ * por uma thread daemon, a partir de um buffer circular limitado: quem registra nunca
+ * espera pelo console. Se o buffer estiver cheio, a mensagem é descartada e contada.
+ * O nível vem da propriedade {@code empresa.log.nivel} (DEBUG, INFO, AVISO, ERRO ou NENHUM; padrão INFO)
+ * e a capacidade do buffer de {@code empresa.log.capacidade} (padrão 8192).
+ */
+public final class Log {
+
+    /**
+     * Níveis de log, do mais detalhado ao mais restrito.
+     */
+    public enum Nivel {
+        DEBUG, INFO, AVISO, ERRO, NENHUM
+    }
+
+    /**
+     * Mensagem aguardando gravação.
+     */
+    private static final class Registro {
+        private final Nivel nivel;
+        private final String mensagem;
+
+        private Registro(Nivel nivel, String mensagem) {
+            this.nivel = nivel;
+            this.mensagem = mensagem;
+        }
+    }
+
+    // Nível mínimo das mensagens gravadas
+    private static volatile Nivel nivel = lerNivel(System.getProperty("empresa.log.nivel", "INFO"));
+    // Buffer circular das mensagens pendentes
+    private static final ArrayBlockingQueue<Registro> PENDENTES =
+            new ArrayBlockingQueue<>(Math.max(16, Integer.getInteger("empresa.log.capacidade", 8192)));
+    // Quantidade de mensagens enfileiradas, gravadas e descartadas
+    private static final AtomicLong ENFILEIRADAS = new AtomicLong();
+    private static final AtomicLong DESCARTADAS = new AtomicLong();
+    private static long gravadas;
+    // Trava usada para aguardar a gravação das mensagens pendentes
+    private static final Object GRAVACAO = new Object();
+
+    static {
+        Thread escritor = new Thread(Log::gravar, "log-escritor");
+        escritor.setDaemon(true);
+        escritor.start();
+        // Grava o que estiver pendente ao encerrar a aplicação
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> descarregar(1000), "log-descarga"));
+    }
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Log() {
+    }
+
+    /**
+     * Verifica se o nível está habilitado.
+     *
+     * @param n o nível a verificar
+     * @return true se mensagens desse nível são gravadas
+     */
+    public static boolean ativo(Nivel n) {
+        return n != Nivel.NENHUM && n.compareTo(nivel) >= 0;
+    }
+
+    /**
+     * Altera o nível mínimo das mensagens gravadas.
+     *
+     * @param n o novo nível
+     */
+    public static void setNivel(Nivel n) {
+        nivel = n;
+    }
+
+    /**
+     * Obtém o nível mínimo das mensagens gravadas.
+     *
+     * @return o nível atual
+     */
+    public static Nivel getNivel() {
+        return nivel;
+    }
+
+    /**
+     * Registra uma mensagem de depuração.
+     *
+     * @param mensagem fornecedor da mensagem, chamado apenas se o nível estiver habilitado
+     */
+    public static void debug(Supplier<String> mensagem) {
+        registrar(Nivel.DEBUG, mensagem);
+    }
+
+    /**
+     * Registra uma mensagem informativa, como as mensagens de sucesso (Regra de Negócio 5).
+     *
+     * @param mensagem fornecedor da mensagem, chamado apenas se o nível estiver habilitado
+     */
+    public static void info(Supplier<String> mensagem) {
+        registrar(Nivel.INFO, mensagem);
+    }
+
+    /**
+     * Registra um aviso, gravado na saída de erro.
+     *
+     * @param mensagem fornecedor da mensagem, chamado apenas se o nível estiver habilitado
+     */
+    public static void aviso(Supplier<String> mensagem) {
+        registrar(Nivel.AVISO, mensagem);
+    }
+
+    /**
+     * Registra um erro, gravado na saída de erro.
+     *
+     * @param mensagem fornecedor da mensagem, chamado apenas se o nível estiver habilitado
+     */
+    public static void erro(Supplier<String> mensagem) {
+        registrar(Nivel.ERRO, mensagem);
+    }
+
+    /**
+     * Aguarda a gravação das mensagens já registradas, para não misturá-las com o que
+     * for escrito no console em seguida (por exemplo, o menu da aplicação).
+     */
+    public static void descarregar() {
+        descarregar(5000);
+    }
+
+    /**
+     * Obtém a quantidade de mensagens descartadas por falta de espaço no buffer.
+     *
+     * @return quantidade de mensagens descartadas
+     */
+    public static long getDescartadas() {
+        return DESCARTADAS.get();
+    }
+
+    /**
+     * Monta a mensagem, se o nível estiver habilitado, e a coloca no buffer sem bloquear.
+     */
+    private static void registrar(Nivel n, Supplier<String> mensagem) {
+        if (!ativo(n)) {
+            return;
+        }
+        Registro registro = new Registro(n, mensagem.get());
+        // Conta antes de enfileirar para que descarregar() nunca veja gravadas > enfileiradas
+        ENFILEIRADAS.incrementAndGet();
+        if (!PENDENTES.offer(registro)) {
+            ENFILEIRADAS.decrementAndGet();
+            DESCARTADAS.incrementAndGet();
+        }
+    }
+
+    /**
+     * Aguarda até o tempo limite a gravação das mensagens registradas até agora.
+     */
+    private static void descarregar(long timeoutMs) {
+        long alvo = ENFILEIRADAS.get();
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (GRAVACAO) {
+            while (gravadas < alvo) {
+                long restante = TimeUnit.NANOSECONDS.toMillis(limite - System.nanoTime());
+                if (restante <= 0) {
+                    return;
+                }
+                try {
+                    GRAVACAO.wait(restante);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Laço da thread escritora: grava as mensagens em blocos e avisa quem aguarda a descarga.
+     */
+    private static void gravar() {
+        List<Registro> bloco = new ArrayList<>(256);
+        long avisadas = 0;
+        while (true) {
+            try {
+                bloco.add(PENDENTES.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            PENDENTES.drainTo(bloco, 255);
+            long descartadas = DESCARTADAS.get();
+            if (descartadas > avisadas) {
+                System.err.println("Aviso: " + (descartadas - avisadas) + " mensagem(ns) de log descartada(s) (buffer cheio).");
+                avisadas = descartadas;
+            }
+            for (Registro registro : bloco) {
+                PrintStream saida = registro.nivel.compareTo(Nivel.AVISO) >= 0 ? System.err : System.out;
+                saida.println(registro.mensagem);
+            }
+            System.out.flush();
+            synchronized (GRAVACAO) {
+                gravadas += bloco.size();
+                GRAVACAO.notifyAll();
+            }
+            bloco.clear();
+        }
+    }
+
+    /**
+     * Converte o nível configurado, usando INFO se o valor for inválido.
+     */
+    private static Nivel lerNivel(String valor) {
+        try {
+            return Nivel.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Nivel.INFO;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de chaves int para valores int, com endereçamento aberto (sondagem linear) em dois arrays
+ * primitivos, sem criar um objeto Integer ou uma entrada por item como o HashMap.
+ * Não é seguro para uso por várias threads sem sincronização externa.
+ */
+public final class MapaInt {
+    // Chave que marca uma posição livre; a chave 0 é guardada à parte
+    private static final int LIVRE = 0;
+
+    // Valor retornado quando a chave não existe
+    private final int ausente;
+    // Chaves e valores, na mesma posição
+    private int[] chaves;
+    private int[] valores;
+    // Quantidade de chaves diferentes de 0
+    private int tamanho;
+    // Valor da chave 0, se existir
+    private boolean temZero;
+    private int valorZero;
+
+    /**
+     * Cria o mapa.
+     *
+     * @param capacidade quantidade de chaves esperada
+     * @param ausente    valor retornado por {@link #obter(int)} e {@link #remover(int)} quando a chave não existe
+     */
+    public MapaInt(int capacidade, int ausente) {
+        this.ausente = ausente;
+        int posicoes = Integer.highestOneBit(Math.max(8, capacidade * 2 - 1)) << 1;
+        this.chaves = new int[posicoes];
+        this.valores = new int[posicoes];
+    }
+
+    /**
+     * Obtém o valor da chave.
+     *
+     * @param chave a chave
+     * @return o valor, ou o valor de ausência se a chave não existir
+     */
+    public int obter(int chave) {
+        if (chave == LIVRE) {
+            return temZero ? valorZero : ausente;
+        }
+        int mascara = chaves.length - 1;
+        for (int i = espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+            int atual = chaves[i];
+            if (atual == chave) {
+                return valores[i];
+            }
+            if (atual == LIVRE) {
+                return ausente;
+            }
+        }
+    }
+
+    /**
+     * Verifica se a chave existe.
+     *
+     * @param chave a chave
+     * @return true se a chave existir
+     */
+    public boolean contem(int chave) {
+        if (chave == LIVRE) {
+            return temZero;
+        }
+        int mascara = chaves.length - 1;
+        for (int i = espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+            int atual = chaves[i];
+            if (atual == chave) {
+                return true;
+            }
+            if (atual == LIVRE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Define o valor da chave.
+     *
+     * @param chave a chave
+     * @param valor o valor
+     */
+    public void colocar(int chave, int valor) {
+        if (chave == LIVRE) {
+            temZero = true;
+            valorZero = valor;
+            return;
+        }
+        int mascara = chaves.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (chaves[i] != LIVRE) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = valor;
+        // Mantém no máximo metade das posições ocupadas, para sondagens curtas
+        if (++tamanho * 2 > chaves.length) {
+            redimensionar(chaves.length << 1);
+        }
+    }
+
+    /**
+     * Remove a chave.
+     *
+     * @param chave a chave
+     * @return o valor removido, ou o valor de ausência se a chave não existia
+     */
+    public int remover(int chave) {
+        if (chave == LIVRE) {
+            if (!temZero) {
+                return ausente;
+            }
+            temZero = false;
+            return valorZero;
+        }
+        int mascara = chaves.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (chaves[i] != chave) {
+            if (chaves[i] == LIVRE) {
+                return ausente;
+            }
+            i = (i + 1) & mascara;
+        }
+        int removido = valores[i];
+        // Desloca para trás as chaves seguintes da sequência, sem deixar marcas de remoção
+        int livre = i;
+        for (int j = (i + 1) & mascara; chaves[j] != LIVRE; j = (j + 1) & mascara) {
+            int ideal = espalhar(chaves[j]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - livre) & mascara)) {
+                chaves[livre] = chaves[j];
+                valores[livre] = valores[j];
+                livre = j;
+            }
+        }
+        chaves[livre] = LIVRE;
+        tamanho--;
+        return removido;
+    }
+
+    /**
+     * Obtém a quantidade de chaves.
+     *
+     * @return a quantidade de chaves
+     */
+    public int getTamanho() {
+        return tamanho + (temZero ? 1 : 0);
+    }
+
+    /**
+     * Remove todas as chaves, mantendo a capacidade.
+     */
+    public void limpar() {
+        Arrays.fill(chaves, LIVRE);
+        tamanho = 0;
+        temZero = false;
+    }
+
+    /**
+     * Redistribui as chaves em arrays maiores.
+     */
+    private void redimensionar(int posicoes) {
+        int[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        chaves = new int[posicoes];
+        valores = new int[posicoes];
+        int mascara = posicoes - 1;
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            int chave = chavesAntigas[i];
+            if (chave != LIVRE) {
+                int j = espalhar(chave) & mascara;
+                while (chaves[j] != LIVRE) {
+                    j = (j + 1) & mascara;
+                }
+                chaves[j] = chave;
+                valores[j] = valoresAntigos[i];
+            }
+        }
+    }
+
+    /**
+     * Espalha os bits da chave, para que IDs sequenciais não ocupem posições vizinhas.
+     */
+    private static int espalhar(int chave) {
+        int h = chave * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,40 @@
+package util;
+
+/**
+ * Medição de uma execução de operação, usada em try-with-resources.
+ * A execução conta como erro, a menos que {@link #concluir(long)} seja chamado antes do fechamento.
+ */
+public final class Medicao implements AutoCloseable {
+    // Medição sem efeito, usada quando as métricas estão desativadas
+    static final Medicao NENHUMA = new Medicao(null);
+
+    private final MetricaOperacao metrica;
+    private final long inicio;
+    private long linhas;
+    private boolean sucesso;
+
+    Medicao(MetricaOperacao metrica) {
+        this.metrica = metrica;
+        this.inicio = metrica != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Marca a execução como concluída com sucesso.
+     *
+     * @param linhas linhas lidas ou afetadas pela operação
+     */
+    public void concluir(long linhas) {
+        this.linhas = linhas;
+        this.sucesso = true;
+    }
+
+    /**
+     * Registra a duração da execução nas métricas da operação.
+     */
+    @Override
+    public void close() {
+        if (metrica != null) {
+            metrica.registrar(System.nanoTime() - inicio, linhas, sucesso);
+        }
+    }
+}
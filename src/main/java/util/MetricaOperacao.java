@@ -0,0 +1,112 @@
+package util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas acumuladas de uma operação: histograma de latência, chamadas, erros e linhas.
+ */
+public class MetricaOperacao implements MetricaOperacaoMXBean {
+    // Nome da operação (ex. PessoaDao.inserir)
+    private final String nome;
+    // Latências em nanossegundos
+    private final Histograma latencias = new Histograma();
+    // Contadores da operação
+    private final LongAdder erros = new LongAdder();
+    private final LongAdder linhas = new LongAdder();
+
+    /**
+     * Cria as métricas de uma operação.
+     *
+     * @param nome o nome da operação
+     */
+    MetricaOperacao(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Registra uma execução da operação.
+     *
+     * @param nanos   duração em nanossegundos
+     * @param linhas  linhas lidas ou afetadas
+     * @param sucesso se a execução terminou sem erro
+     */
+    void registrar(long nanos, long linhas, boolean sucesso) {
+        latencias.registrar(nanos);
+        if (linhas > 0) {
+            this.linhas.add(linhas);
+        }
+        if (!sucesso) {
+            erros.increment();
+        }
+    }
+
+    /**
+     * Obtém o nome da operação.
+     *
+     * @return o nome da operação
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Obtém o histograma de latências.
+     *
+     * @return o histograma, em nanossegundos
+     */
+    public Histograma getLatencias() {
+        return latencias;
+    }
+
+    @Override
+    public long getChamadas() {
+        return latencias.getTotal();
+    }
+
+    @Override
+    public long getErros() {
+        return erros.sum();
+    }
+
+    @Override
+    public long getLinhas() {
+        return linhas.sum();
+    }
+
+    @Override
+    public double getMediaMicros() {
+        return latencias.getMedia() / 1000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latencias.percentil(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latencias.percentil(99) / 1000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latencias.percentil(99.9) / 1000.0;
+    }
+
+    @Override
+    public double getMaximoMicros() {
+        return latencias.getMaximo() / 1000.0;
+    }
+
+    /**
+     * Retorna uma representação em string das métricas.
+     *
+     * @return string com o resumo das métricas
+     */
+    @Override
+    public String toString() {
+        return String.format("%s [chamadas=%d, erros=%d, linhas=%d, p50=%.1fus, p99=%.1fus, p999=%.1fus, max=%.1fus]",
+                nome, getChamadas(), getErros(), getLinhas(), getP50Micros(), getP99Micros(), getP999Micros(),
+                getMaximoMicros());
+    }
+}
@@ -0,0 +1,23 @@
+package util;
+
+/**
+ * Interface JMX das métricas de uma operação (domínio {@code empresa:type=Metricas}).
+ * Os tempos são expostos em microssegundos.
+ */
+public interface MetricaOperacaoMXBean {
+    long getChamadas();
+
+    long getErros();
+
+    long getLinhas();
+
+    double getMediaMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaximoMicros();
+}
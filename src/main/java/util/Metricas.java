@@ -0,0 +1,148 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro das métricas de desempenho dos DAOs e do pool de conexões.
+ * Cada operação recebe um histograma de latência e contadores de chamadas, erros e linhas,
+ * publicados via JMX no domínio {@code empresa} e, opcionalmente, em um {@link ReporterMetricas}.
+ * A gravação não usa bloqueios; as métricas podem ser desativadas com {@code -Dempresa.metricas=false}.
+ */
+public final class Metricas {
+    // Indica se as métricas estão ativas
+    private static final boolean ATIVAS = !"false".equals(System.getProperty("empresa.metricas"));
+    // Métricas por nome de operação
+    private static final ConcurrentHashMap<String, MetricaOperacao> OPERACOES = new ConcurrentHashMap<>();
+    // Tarefa periódica do reporter
+    private static ScheduledExecutorService agendador;
+
+    /**
+     * Construtor privado para evitar instâncias.
+     */
+    private Metricas() {
+    }
+
+    /**
+     * Inicia a medição de uma execução da operação.
+     * Use em try-with-resources e chame {@link Medicao#concluir(long)} ao terminar com sucesso.
+     *
+     * @param operacao o nome da operação (ex. PessoaDao.inserir)
+     * @return a medição em andamento
+     */
+    public static Medicao medir(String operacao) {
+        if (!ATIVAS) {
+            return Medicao.NENHUMA;
+        }
+        return new Medicao(OPERACOES.computeIfAbsent(operacao, Metricas::criar));
+    }
+
+    /**
+     * Registra diretamente uma duração já medida.
+     *
+     * @param operacao o nome da operação
+     * @param nanos    duração em nanossegundos
+     */
+    public static void registrar(String operacao, long nanos) {
+        if (ATIVAS) {
+            OPERACOES.computeIfAbsent(operacao, Metricas::criar).registrar(nanos, 0, true);
+        }
+    }
+
+    /**
+     * Obtém as métricas de uma operação.
+     *
+     * @param operacao o nome da operação
+     * @return as métricas, ou null se a operação ainda não foi medida
+     */
+    public static MetricaOperacao obter(String operacao) {
+        return OPERACOES.get(operacao);
+    }
+
+    /**
+     * Obtém as métricas de todas as operações, em ordem de nome.
+     *
+     * @return lista das métricas
+     */
+    public static List<MetricaOperacao> todas() {
+        List<MetricaOperacao> lista = new ArrayList<>(OPERACOES.values());
+        lista.sort(Comparator.comparing(MetricaOperacao::getNome));
+        return lista;
+    }
+
+    /**
+     * Inicia o envio periódico das métricas ao reporter, substituindo o anterior.
+     *
+     * @param reporter o reporter que receberá as métricas
+     * @param periodo  intervalo entre os envios
+     * @param unidade  unidade do intervalo
+     */
+    public static synchronized void iniciarReporter(ReporterMetricas reporter, long periodo, TimeUnit unidade) {
+        pararReporter();
+        agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metricas-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        agendador.scheduleAtFixedRate(() -> {
+            Collection<MetricaOperacao> metricas = todas();
+            try {
+                reporter.reportar(metricas);
+            } catch (RuntimeException e) {
+                // Um erro no reporter não deve interromper os próximos envios
+                Log.erro(() -> "Erro ao reportar métricas: " + e.getMessage());
+            }
+        }, periodo, periodo, unidade);
+    }
+
+    /**
+     * Para o envio periódico das métricas.
+     */
+    public static synchronized void pararReporter() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            agendador = null;
+        }
+    }
+
+    /**
+     * Publica um objeto via JMX no domínio {@code empresa}.
+     *
+     * @param tipo   o tipo do objeto (ex. PoolConexoes)
+     * @param nome   o nome do objeto, ou null
+     * @param objeto o MBean ou MXBean a publicar
+     */
+    public static void publicar(String tipo, String nome, Object objeto) {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("empresa:type=" + tipo +
+                                                   (nome != null ? ",name=" + ObjectName.quote(nome) : ""));
+            if (servidor.isRegistered(objectName)) {
+                servidor.unregisterMBean(objectName);
+            }
+            servidor.registerMBean(objeto, objectName);
+        } catch (JMException e) {
+            // JMX é opcional: a aplicação continua sem publicar o objeto
+            Log.aviso(() -> "Não foi possível publicar " + tipo + " via JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cria e publica via JMX as métricas de uma nova operação.
+     */
+    private static MetricaOperacao criar(String operacao) {
+        MetricaOperacao metrica = new MetricaOperacao(operacao);
+        publicar("Metricas", operacao, metrica);
+        return metrica;
+    }
+}
@@ -0,0 +1,394 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool limitado de conexões com o banco de dados.
+ * Mantém um mínimo de conexões abertas, limita o total ao máximo configurado,
+ * valida as conexões ao emprestá-las e descarta as que ficam ociosas por muito tempo.
+ * As conexões entregues devolvem a conexão física ao pool quando fechadas.
+ */
+public class PoolConexoes implements PoolConexoesMXBean {
+    // Tempo de uso recente abaixo do qual a conexão não é validada novamente
+    private static final long VALIDACAO_APOS_MS = 500;
+    // Tempo máximo (em segundos) para a validação de uma conexão
+    private static final int TIMEOUT_VALIDACAO_S = 2;
+
+    // Dados de acesso ao banco
+    private final String url;
+    private final String usuario;
+    private final String senha;
+    // Limites e tempos configurados
+    private final int tamanhoMinimo;
+    private final int tamanhoMaximo;
+    private final long timeoutCheckoutMs;
+    private final long tempoOciosoMaximoMs;
+    private final int capacidadeCacheStatements;
+
+    // Permissões de empréstimo (limita o total de conexões ao máximo)
+    private final Semaphore permissoes;
+    // Conexões físicas ociosas (a mais recente fica no início)
+    private final LinkedBlockingDeque<ConexaoFisica> ociosas = new LinkedBlockingDeque<>();
+    // Total de conexões físicas abertas
+    private final AtomicInteger abertas = new AtomicInteger();
+    // Tarefa periódica de descarte de conexões ociosas
+    private final ScheduledExecutorService despejo;
+    // Indica se o pool foi fechado
+    private volatile boolean fechado;
+
+    /**
+     * Cria o pool e abre o número mínimo de conexões.
+     *
+     * @param url                 URL JDBC do banco de dados
+     * @param usuario             usuário do banco de dados
+     * @param senha               senha do banco de dados
+     * @param tamanhoMinimo       quantidade mínima de conexões mantidas abertas
+     * @param tamanhoMaximo       quantidade máxima de conexões abertas ao mesmo tempo
+     * @param timeoutCheckoutMs   tempo máximo de espera por uma conexão livre, em milissegundos
+     * @param tempoOciosoMaximoMs tempo após o qual uma conexão ociosa é descartada, em milissegundos
+     * @param capacidadeCacheStatements quantidade de PreparedStatements mantidos em cache por conexão (0 desativa)
+     * @throws SQLException se não for possível abrir as conexões iniciais
+     */
+    public PoolConexoes(String url, String usuario, String senha, int tamanhoMinimo, int tamanhoMaximo,
+                        long timeoutCheckoutMs, long tempoOciosoMaximoMs, int capacidadeCacheStatements)
+            throws SQLException {
+        if (tamanhoMaximo <= 0 || tamanhoMinimo < 0 || tamanhoMinimo > tamanhoMaximo) {
+            throw new IllegalArgumentException("Tamanhos do pool inválidos: mínimo " + tamanhoMinimo +
+                                               ", máximo " + tamanhoMaximo + ".");
+        }
+        this.url = url;
+        this.usuario = usuario;
+        this.senha = senha;
+        this.tamanhoMinimo = tamanhoMinimo;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.timeoutCheckoutMs = timeoutCheckoutMs;
+        this.tempoOciosoMaximoMs = tempoOciosoMaximoMs;
+        this.capacidadeCacheStatements = capacidadeCacheStatements;
+        this.permissoes = new Semaphore(tamanhoMaximo, true);
+
+        // Abre as conexões mínimas antecipadamente
+        try {
+            for (int i = 0; i < tamanhoMinimo; i++) {
+                ociosas.offerFirst(abrir());
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Fecha as conexões já abertas, que ficariam sem dono se o construtor falhar
+            ConexaoFisica fisica;
+            while ((fisica = ociosas.pollFirst()) != null) {
+                descartar(fisica);
+            }
+            throw e;
+        }
+
+        // Agenda o descarte periódico de conexões ociosas em uma thread daemon
+        this.despejo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pool-conexoes-despejo");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalo = Math.max(1000, tempoOciosoMaximoMs / 2);
+        despejo.scheduleWithFixedDelay(this::descartarOciosas, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Empresta uma conexão do pool, aguardando até o tempo limite se todas estiverem em uso.
+     * A conexão retornada deve ser fechada para ser devolvida ao pool.
+     *
+     * @return conexão emprestada
+     * @throws SQLException se o tempo de espera esgotar ou não for possível abrir uma conexão
+     */
+    public Connection emprestar() throws SQLException {
+        if (fechado) {
+            throw new SQLException("Pool de conexões fechado.");
+        }
+        // Aguarda uma permissão livre dentro do tempo limite
+        try {
+            if (!permissoes.tryAcquire(timeoutCheckoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Tempo esgotado ao aguardar conexão do pool (" + timeoutCheckoutMs + " ms).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido ao aguardar conexão do pool.");
+        }
+
+        try {
+            // Reaproveita a conexão ociosa mais recente que continuar válida
+            ConexaoFisica fisica;
+            while ((fisica = ociosas.pollFirst()) != null) {
+                if (validar(fisica)) {
+                    return fisica.emprestar();
+                }
+                descartar(fisica);
+            }
+            // Nenhuma conexão ociosa válida: abre uma nova
+            return abrir().emprestar();
+        } catch (SQLException | RuntimeException e) {
+            // Libera a permissão se o empréstimo falhar
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Fecha o pool e todas as conexões ociosas.
+     * Conexões emprestadas são fechadas quando forem devolvidas.
+     */
+    public void fechar() {
+        fechado = true;
+        despejo.shutdownNow();
+        ConexaoFisica fisica;
+        while ((fisica = ociosas.pollFirst()) != null) {
+            descartar(fisica);
+        }
+    }
+
+    /**
+     * Obtém o total de conexões físicas abertas.
+     *
+     * @return quantidade de conexões abertas
+     */
+    @Override
+    public int getAbertas() {
+        return abertas.get();
+    }
+
+    /**
+     * Obtém a quantidade de conexões ociosas no pool.
+     *
+     * @return quantidade de conexões ociosas
+     */
+    @Override
+    public int getOciosas() {
+        return ociosas.size();
+    }
+
+    /**
+     * Obtém a quantidade de conexões emprestadas no momento.
+     *
+     * @return quantidade de conexões em uso
+     */
+    @Override
+    public int getEmUso() {
+        return tamanhoMaximo - permissoes.availablePermits();
+    }
+
+    /**
+     * Obtém a quantidade aproximada de threads aguardando uma conexão livre.
+     *
+     * @return quantidade de threads na fila de espera
+     */
+    @Override
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    /**
+     * Obtém o total de PreparedStatements reaproveitados do cache (todas as conexões).
+     *
+     * @return quantidade de acertos do cache de statements
+     */
+    @Override
+    public long getAcertosCacheStatements() {
+        return CacheStatements.getAcertos();
+    }
+
+    /**
+     * Obtém o total de PreparedStatements preparados no banco (todas as conexões).
+     *
+     * @return quantidade de falhas do cache de statements
+     */
+    @Override
+    public long getFalhasCacheStatements() {
+        return CacheStatements.getFalhas();
+    }
+
+    /**
+     * Obtém o tamanho máximo do pool.
+     *
+     * @return quantidade máxima de conexões
+     */
+    @Override
+    public int getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    /**
+     * Abre uma nova conexão física com o banco de dados.
+     */
+    private ConexaoFisica abrir() throws SQLException {
+        try {
+            Connection real = DriverManager.getConnection(url, usuario, senha);
+            abertas.incrementAndGet();
+            // Mensagem de sucesso (Regra de Negócio 5)
+            Log.info(() -> "Conexão com o banco de dados estabelecida com sucesso!");
+            return new ConexaoFisica(real);
+        } catch (SQLException e) {
+            // Lança exceção com mensagem clara (Regra de Negócio 4)
+            throw new SQLException("Erro ao conectar ao banco de dados: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Valida a conexão antes do empréstimo, exceto se ela foi usada há pouco tempo.
+     */
+    private boolean validar(ConexaoFisica fisica) {
+        try {
+            if (System.currentTimeMillis() - fisica.ultimoUso < VALIDACAO_APOS_MS) {
+                return !fisica.real.isClosed();
+            }
+            return fisica.real.isValid(TIMEOUT_VALIDACAO_S);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Recebe de volta uma conexão emprestada, restaurando seu estado padrão.
+     */
+    private void devolver(ConexaoFisica fisica) {
+        try {
+            boolean reutilizavel = !fechado && !fisica.real.isClosed();
+            if (reutilizavel && !fisica.real.getAutoCommit()) {
+                // Desfaz trabalho pendente e volta ao modo de autocommit
+                fisica.real.rollback();
+                fisica.real.setAutoCommit(true);
+            }
+            if (reutilizavel && fisica.real.getTransactionIsolation() != fisica.isolamentoPadrao) {
+                fisica.real.setTransactionIsolation(fisica.isolamentoPadrao);
+            }
+            if (reutilizavel) {
+                fisica.ultimoUso = System.currentTimeMillis();
+                ociosas.offerFirst(fisica);
+            } else {
+                descartar(fisica);
+            }
+        } catch (SQLException e) {
+            // Conexão em estado inconsistente: descarta
+            descartar(fisica);
+        } finally {
+            permissoes.release();
+        }
+    }
+
+    /**
+     * Fecha as conexões ociosas há mais tempo que o limite, mantendo o mínimo configurado.
+     */
+    private void descartarOciosas() {
+        long limite = System.currentTimeMillis() - tempoOciosoMaximoMs;
+        // As conexões mais antigas ficam no fim da fila
+        Iterator<ConexaoFisica> it = ociosas.descendingIterator();
+        while (it.hasNext() && abertas.get() > tamanhoMinimo) {
+            ConexaoFisica fisica = it.next();
+            if (fisica.ultimoUso < limite && ociosas.remove(fisica)) {
+                descartar(fisica);
+            }
+        }
+    }
+
+    /**
+     * Fecha definitivamente uma conexão física.
+     */
+    private void descartar(ConexaoFisica fisica) {
+        abertas.decrementAndGet();
+        try {
+            if (fisica.statements != null) {
+                fisica.statements.fechar();
+            }
+            fisica.real.close();
+        } catch (SQLException e) {
+            // Ignora erros ao fechar uma conexão já descartada
+        }
+    }
+
+    /**
+     * Conexão física mantida pelo pool.
+     */
+    private final class ConexaoFisica {
+        // Conexão real com o banco de dados
+        private final Connection real;
+        // Nível de isolamento original da conexão
+        private final int isolamentoPadrao;
+        // Cache de PreparedStatements desta conexão (null se desativado)
+        private final CacheStatements statements;
+        // Instante do último uso, em milissegundos
+        private volatile long ultimoUso = System.currentTimeMillis();
+
+        private ConexaoFisica(Connection real) throws SQLException {
+            this.real = real;
+            this.isolamentoPadrao = real.getTransactionIsolation();
+            this.statements = capacidadeCacheStatements > 0
+                    ? new CacheStatements(real, capacidadeCacheStatements) : null;
+        }
+
+        /**
+         * Cria a visão emprestada desta conexão, cujo close() devolve a conexão ao pool.
+         */
+        private Connection emprestar() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new ConexaoEmprestada(this));
+        }
+    }
+
+    /**
+     * Intercepta as chamadas à conexão emprestada.
+     */
+    private final class ConexaoEmprestada implements InvocationHandler {
+        private final ConexaoFisica fisica;
+        // Indica se esta conexão emprestada já foi devolvida
+        private boolean devolvida;
+
+        private ConexaoEmprestada(ConexaoFisica fisica) {
+            this.fisica = fisica;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    // Devolve ao pool em vez de fechar a conexão física
+                    if (!devolvida) {
+                        devolvida = true;
+                        devolver(fisica);
+                    }
+                    return null;
+                case "isClosed":
+                    return devolvida || fisica.real.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexaoEmprestada[" + fisica.real + "]";
+                default:
+                    if (devolvida) {
+                        throw new SQLException("Conexão já devolvida ao pool.");
+                    }
+                    // prepareStatement(sql) e prepareStatement(sql, chavesGeradas) usam o cache
+                    if (fisica.statements != null && method.getName().equals("prepareStatement")
+                            && (args.length == 1 || (args.length == 2 && args[1] instanceof Integer))) {
+                        int chavesGeradas = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                        return fisica.statements.preparar((String) args[0], chavesGeradas);
+                    }
+                    try {
+                        return method.invoke(fisica.real, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package util;
+
+/**
+ * Interface JMX do pool de conexões (domínio {@code empresa:type=PoolConexoes}).
+ */
+public interface PoolConexoesMXBean {
+    int getAbertas();
+
+    int getOciosas();
+
+    int getEmUso();
+
+    int getAguardando();
+
+    int getTamanhoMaximo();
+
+    long getAcertosCacheStatements();
+
+    long getFalhasCacheStatements();
+}
@@ -0,0 +1,24 @@
+package util;
+
+import java.util.Collection;
+
+/**
+ * Recebe periodicamente as métricas das operações para exportá-las
+ * (console, arquivo, sistema de monitoramento etc.).
+ */
+@FunctionalInterface
+public interface ReporterMetricas {
+    /**
+     * Exporta as métricas atuais.
+     *
+     * @param metricas as métricas de todas as operações registradas
+     */
+    void reportar(Collection<MetricaOperacao> metricas);
+
+    // Reporter que imprime uma linha por operação no console
+    ReporterMetricas CONSOLE = metricas -> {
+        for (MetricaOperacao metrica : metricas) {
+            System.out.println(metrica);
+        }
+    };
+}
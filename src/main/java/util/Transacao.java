@@ -0,0 +1,297 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Unidade de trabalho que agrupa operações de vários DAOs em uma única transação.
+ * Enquanto estiver aberta, {@link Conexao#getConexao()} devolve, na thread que a iniciou,
+ * a mesma conexão (sem autocommit) a todos os DAOs; o commit acontece uma única vez em
+ * {@link #confirmar()}. Se a transação for fechada sem ser confirmada, tudo é desfeito.
+ *
+ * <pre>
+ * try (Transacao transacao = Transacao.iniciar()) {
+ *     pessoaDao.inserir(pessoa);
+ *     funcionarioDao.inserir(funcionario);
+ *     projetoDao.inserir(projeto);
+ *     transacao.confirmar();
+ * }
+ * </pre>
+ *
+ * Os DAOs não fecham, confirmam nem alteram o autocommit da conexão compartilhada: esses
+ * comandos são ignorados, e um rollback feito por um DAO marca a transação para ser desfeita.
+ * Uma transação iniciada dentro de outra participa da externa. O nível de isolamento padrão vem
+ * de {@code empresa.transacao.isolamento} (READ_UNCOMMITTED, READ_COMMITTED, REPEATABLE_READ ou
+ * SERIALIZABLE; se ausente, mantém o do banco). Operações enviadas a outras threads (por exemplo,
+ * pelo pacote servico) não participam da transação.
+ */
+public final class Transacao implements AutoCloseable {
+    // Valor que indica manter o nível de isolamento padrão da conexão
+    public static final int ISOLAMENTO_DO_BANCO = -1;
+
+    // Transação aberta em cada thread
+    private static final ThreadLocal<Transacao> ATUAL = new ThreadLocal<>();
+    // Nível de isolamento padrão das transações
+    private static final int ISOLAMENTO_PADRAO = lerIsolamento(System.getProperty("empresa.transacao.isolamento"));
+
+    // Transação externa (a própria, se esta for a externa)
+    private final Transacao raiz;
+    // Conexão emprestada do pool (apenas na transação externa)
+    private final Connection conexao;
+    // Visão entregue aos DAOs, cujo close() não devolve a conexão
+    private final Connection visao;
+    // Ações executadas ao terminar a transação externa (apenas na transação externa)
+    private final List<Runnable> aoTerminar;
+    // Indica se alguma operação pediu para desfazer a transação
+    private boolean somenteDesfazer;
+    // Estado desta transação
+    private boolean confirmada;
+    private boolean encerrada;
+
+    /**
+     * Cria a transação externa sobre a conexão emprestada.
+     */
+    private Transacao(Connection conexao) {
+        this.raiz = this;
+        this.conexao = conexao;
+        this.visao = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConexaoCompartilhada());
+        this.aoTerminar = new ArrayList<>();
+    }
+
+    /**
+     * Cria uma transação interna que participa da externa.
+     */
+    private Transacao(Transacao raiz) {
+        this.raiz = raiz;
+        this.conexao = null;
+        this.visao = null;
+        this.aoTerminar = null;
+    }
+
+    /**
+     * Inicia uma transação na thread atual com o nível de isolamento padrão.
+     *
+     * @return a transação iniciada (use em try-with-resources)
+     * @throws SQLException se não for possível obter a conexão ou desativar o autocommit
+     */
+    public static Transacao iniciar() throws SQLException {
+        return iniciar(ISOLAMENTO_PADRAO);
+    }
+
+    /**
+     * Inicia uma transação na thread atual.
+     * Se já houver uma transação aberta, a nova participa dela e o nível de isolamento é ignorado.
+     *
+     * @param isolamento nível de isolamento (constantes TRANSACTION_* de Connection) ou {@link #ISOLAMENTO_DO_BANCO}
+     * @return a transação iniciada (use em try-with-resources)
+     * @throws SQLException se não for possível obter a conexão ou desativar o autocommit
+     */
+    public static Transacao iniciar(int isolamento) throws SQLException {
+        Transacao atual = ATUAL.get();
+        if (atual != null) {
+            return new Transacao(atual);
+        }
+        Connection conn = Conexao.getPool().emprestar();
+        try {
+            if (isolamento != ISOLAMENTO_DO_BANCO) {
+                conn.setTransactionIsolation(isolamento);
+            }
+            conn.setAutoCommit(false);
+        } catch (SQLException e) {
+            conn.close();
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Erro ao iniciar transação: " + e.getMessage());
+        }
+        Transacao transacao = new Transacao(conn);
+        ATUAL.set(transacao);
+        return transacao;
+    }
+
+    /**
+     * Verifica se há uma transação aberta na thread atual.
+     *
+     * @return true se houver uma transação aberta
+     */
+    public static boolean ativa() {
+        return ATUAL.get() != null;
+    }
+
+    /**
+     * Agenda uma ação para quando a transação da thread atual terminar (após o commit ou rollback).
+     * Sem transação aberta, nada é feito.
+     *
+     * @param acao a ação a executar
+     */
+    public static void aoTerminar(Runnable acao) {
+        Transacao atual = ATUAL.get();
+        if (atual != null) {
+            atual.aoTerminar.add(acao);
+        }
+    }
+
+    /**
+     * Obtém a conexão compartilhada da transação aberta na thread atual.
+     *
+     * @return a conexão da transação, ou null se não houver transação aberta
+     */
+    static Connection conexaoAtual() {
+        Transacao atual = ATUAL.get();
+        return atual != null ? atual.visao : null;
+    }
+
+    /**
+     * Confirma a transação. Em uma transação interna, apenas registra que sua parte terminou;
+     * o commit acontece quando a externa for confirmada.
+     *
+     * @throws SQLException se o commit falhar ou alguma operação tiver pedido para desfazer a transação
+     */
+    public void confirmar() throws SQLException {
+        verificarAberta();
+        if (raiz != this) {
+            confirmada = true;
+            return;
+        }
+        if (somenteDesfazer) {
+            desfazer();
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Transação desfeita: uma das operações falhou.");
+        }
+        try {
+            conexao.commit();
+            confirmada = true;
+        } catch (SQLException e) {
+            // Mensagem de erro (Regra de Negócio 4)
+            throw new SQLException("Erro ao confirmar transação: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Desfaz a transação. Em uma transação interna, marca a externa para ser desfeita.
+     *
+     * @throws SQLException se o rollback falhar
+     */
+    public void desfazer() throws SQLException {
+        verificarAberta();
+        raiz.somenteDesfazer = true;
+        if (raiz == this) {
+            try {
+                conexao.rollback();
+            } catch (SQLException e) {
+                // Mensagem de erro (Regra de Negócio 4)
+                throw new SQLException("Erro ao desfazer transação: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fecha a transação, desfazendo-a se não tiver sido confirmada.
+     * A transação externa devolve a conexão ao pool e executa as ações agendadas.
+     *
+     * @throws SQLException se o rollback falhar
+     */
+    @Override
+    public void close() throws SQLException {
+        if (encerrada) {
+            return;
+        }
+        if (raiz != this) {
+            if (!confirmada) {
+                raiz.somenteDesfazer = true;
+            }
+            encerrada = true;
+            return;
+        }
+        encerrada = true;
+        ATUAL.remove();
+        try {
+            if (!confirmada) {
+                conexao.rollback();
+            }
+        } finally {
+            // O pool restaura o autocommit e o isolamento ao receber a conexão
+            conexao.close();
+            for (Runnable acao : aoTerminar) {
+                acao.run();
+            }
+        }
+    }
+
+    /**
+     * Lança exceção se a transação já tiver sido fechada.
+     */
+    private void verificarAberta() throws SQLException {
+        if (encerrada) {
+            throw new SQLException("Transação já encerrada.");
+        }
+    }
+
+    /**
+     * Converte o nome do nível de isolamento configurado.
+     */
+    private static int lerIsolamento(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return ISOLAMENTO_DO_BANCO;
+        }
+        switch (valor.trim().toUpperCase(Locale.ROOT)) {
+            case "READ_UNCOMMITTED":
+                return Connection.TRANSACTION_READ_UNCOMMITTED;
+            case "READ_COMMITTED":
+                return Connection.TRANSACTION_READ_COMMITTED;
+            case "REPEATABLE_READ":
+                return Connection.TRANSACTION_REPEATABLE_READ;
+            case "SERIALIZABLE":
+                return Connection.TRANSACTION_SERIALIZABLE;
+            default:
+                throw new IllegalArgumentException("Nível de isolamento inválido: " + valor + ".");
+        }
+    }
+
+    /**
+     * Visão da conexão da transação entregue aos DAOs.
+     */
+    private final class ConexaoCompartilhada implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    // Controlados pela transação
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        // O DAO desistiu da operação: a transação inteira será desfeita
+                        somenteDesfazer = true;
+                        return null;
+                    }
+                    break;
+                case "isClosed":
+                    return encerrada || conexao.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexaoDaTransacao[" + conexao + "]";
+                default:
+                    break;
+            }
+            if (encerrada) {
+                throw new SQLException("Transação já encerrada.");
+            }
+            try {
+                return method.invoke(conexao, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}